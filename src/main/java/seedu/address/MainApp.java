@@ -6,6 +6,7 @@ import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
@@ -15,6 +16,8 @@ import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
+import seedu.address.logic.recommender.RecommendationPublisher;
+import seedu.address.logic.recommender.RecommenderSettings;
 import seedu.address.model.EduMate;
 import seedu.address.model.EduMateHistory;
 import seedu.address.model.Model;
@@ -23,6 +26,7 @@ import seedu.address.model.ReadOnlyEduMate;
 import seedu.address.model.ReadOnlyEduMateHistory;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.location.util.LocationDataUtil;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.EduMateStorage;
 import seedu.address.storage.EduMateStorageManager;
@@ -63,8 +67,13 @@ public class MainApp extends Application {
         storage = new StorageManager(eduMateStorage, userPrefsStorage);
 
         initLogging(config);
+        RecommendationPublisher.setPublishingExecutor(Platform::runLater);
+
+        LocationDataUtil.loadInBackground(LocationDataUtil.TRANSIT_CACHE_FILE, LocationDataUtil.VENUE_FILE,
+                LocationDataUtil.VENUE_INDEX_FILE);
 
         model = initModelManager(storage, userPrefs);
+        model.setRecommenderSettings(RecommenderSettings.of(config));
         model.updateObservablePersonList();
 
         logic = new LogicManager(model, storage);
@@ -2,7 +2,9 @@ package seedu.address.commons.core;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Map;
 import java.util.Objects;
+import java.util.TreeMap;
 import java.util.logging.Level;
 
 /**
@@ -16,6 +18,24 @@ public class Config {
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
 
+    /**
+     * The number of threads to recommend locations for different timings on,
+     * where 0 uses one thread for each processor and 1 recommends one timing after another.
+     */
+    private int recommendationThreads = 0;
+
+    /**
+     * The weight of each score component that recommendations are picked by, such as {@code SLOT_LENGTH},
+     * where no weights recommend the longest timings first.
+     */
+    private Map<String, Double> recommendationWeights = new TreeMap<>();
+
+    /**
+     * How the schedules of participants are read when recommending, either {@code HOURLY} by the hourly slots
+     * of their timetables, or {@code EXACT} down to the minute of every commitment.
+     */
+    private String recommendationTimeModel = "HOURLY";
+
     public Level getLogLevel() {
         return logLevel;
     }
@@ -32,6 +52,30 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public int getRecommendationThreads() {
+        return recommendationThreads;
+    }
+
+    public void setRecommendationThreads(int recommendationThreads) {
+        this.recommendationThreads = recommendationThreads;
+    }
+
+    public Map<String, Double> getRecommendationWeights() {
+        return recommendationWeights;
+    }
+
+    public void setRecommendationWeights(Map<String, Double> recommendationWeights) {
+        this.recommendationWeights = new TreeMap<>(recommendationWeights);
+    }
+
+    public String getRecommendationTimeModel() {
+        return recommendationTimeModel;
+    }
+
+    public void setRecommendationTimeModel(String recommendationTimeModel) {
+        this.recommendationTimeModel = recommendationTimeModel;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -44,12 +88,16 @@ public class Config {
         Config o = (Config) other;
 
         return Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && recommendationThreads == o.recommendationThreads
+                && Objects.equals(recommendationWeights, o.recommendationWeights)
+                && Objects.equals(recommendationTimeModel, o.recommendationTimeModel);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, recommendationThreads, recommendationWeights,
+                recommendationTimeModel);
     }
 
     @Override
@@ -57,6 +105,9 @@ public class Config {
         StringBuilder sb = new StringBuilder();
         sb.append("Current log level : " + logLevel);
         sb.append("\nPreference file Location : " + userPrefsFilePath);
+        sb.append("\nRecommendation threads : " + recommendationThreads);
+        sb.append("\nRecommendation weights : " + recommendationWeights);
+        sb.append("\nRecommendation time model : " + recommendationTimeModel);
         return sb.toString();
     }
 
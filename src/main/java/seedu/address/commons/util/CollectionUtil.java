@@ -2,11 +2,14 @@ package seedu.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.BiFunction;
+import java.util.function.ToLongFunction;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -65,4 +68,84 @@ public class CollectionUtil {
         final Iterable<R> iterable = () -> outputIterator;
         return StreamSupport.stream(iterable.spliterator(), isParallel);
     }
+
+    /**
+     * Returns the {@code k} items with the highest scores, from the highest score down.
+     * Items with the same score keep their order in {@code items}.
+     * Only a heap of the best {@code k} scores is kept while scanning, so the items are never fully sorted.
+     */
+    public static <T> List<T> getTopK(List<T> items, ToLongFunction<? super T> scorer, int k) {
+        requireNonNull(items);
+        requireNonNull(scorer);
+        int size = Math.min(Math.max(k, 0), items.size());
+        long[] scores = new long[size];
+        int[] indices = new int[size];
+
+        // min-heap on (score, -index), so the root is always the worst item kept so far
+        int heapSize = 0;
+        for (int i = 0; i < items.size() && size > 0; i++) {
+            long score = scorer.applyAsLong(items.get(i));
+            if (heapSize < size) {
+                scores[heapSize] = score;
+                indices[heapSize] = i;
+                siftUp(scores, indices, heapSize++);
+            } else if (score > scores[0]) {
+                scores[0] = score;
+                indices[0] = i;
+                siftDown(scores, indices, heapSize);
+            }
+        }
+
+        // popping the root repeatedly leaves the best item at the front
+        for (int end = heapSize - 1; end > 0; end--) {
+            swap(scores, indices, 0, end);
+            siftDown(scores, indices, end);
+        }
+
+        List<T> topItems = new ArrayList<>(heapSize);
+        for (int i = 0; i < heapSize; i++) {
+            topItems.add(items.get(indices[i]));
+        }
+        return topItems;
+    }
+
+    private static boolean isWorse(long[] scores, int[] indices, int first, int second) {
+        return scores[first] < scores[second]
+                || (scores[first] == scores[second] && indices[first] > indices[second]);
+    }
+
+    private static void siftUp(long[] scores, int[] indices, int position) {
+        while (position > 0) {
+            int parent = (position - 1) / 2;
+            if (!isWorse(scores, indices, position, parent)) {
+                return;
+            }
+            swap(scores, indices, position, parent);
+            position = parent;
+        }
+    }
+
+    private static void siftDown(long[] scores, int[] indices, int heapSize) {
+        int position = 0;
+        while (2 * position + 1 < heapSize) {
+            int child = 2 * position + 1;
+            if (child + 1 < heapSize && isWorse(scores, indices, child + 1, child)) {
+                child++;
+            }
+            if (!isWorse(scores, indices, child, position)) {
+                return;
+            }
+            swap(scores, indices, position, child);
+            position = child;
+        }
+    }
+
+    private static void swap(long[] scores, int[] indices, int first, int second) {
+        long score = scores[first];
+        scores[first] = scores[second];
+        scores[second] = score;
+        int index = indices[first];
+        indices[first] = indices[second];
+        indices[second] = index;
+    }
 }
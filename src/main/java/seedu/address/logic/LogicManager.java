@@ -65,6 +65,9 @@ public class LogicManager implements Logic {
             storage.saveEduMate(model.getEduMate());
             storage.saveEduMateHistory(commandText);
             model.addEduMateHistory(commandText);
+            commandResult.getPendingChanges()
+                    .filter(pendingChanges -> !pendingChanges.isDone())
+                    .ifPresent(pendingChanges -> pendingChanges.thenRun(this::saveEduMateAfterPendingChanges));
         } catch (IOException ioe) {
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
         } catch (DataConversionException dce) {
@@ -78,6 +81,18 @@ public class LogicManager implements Logic {
         return commandResult;
     }
 
+    /**
+     * Saves the changes that a command made to the model after it returned, on the thread that made them,
+     * so that they are not lost if the app is closed before the next command.
+     */
+    private void saveEduMateAfterPendingChanges() {
+        try {
+            storage.saveEduMate(model.getEduMate());
+        } catch (IOException ioe) {
+            logger.warning(FILE_OPS_ERROR_MESSAGE + ioe);
+        }
+    }
+
     @Override
     public ReadOnlyEduMate getEduMate() {
         return model.getEduMate();
@@ -0,0 +1,173 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.commands.results.CommandResult;
+import seedu.address.logic.parser.IndexHandler;
+import seedu.address.logic.recommender.RecommendationCache;
+import seedu.address.logic.recommender.Recommender;
+import seedu.address.logic.recommender.RecommenderSettings;
+import seedu.address.logic.recommender.location.LocationObjective;
+import seedu.address.model.Model;
+import seedu.address.model.location.Location;
+import seedu.address.model.person.ContactIndex;
+import seedu.address.model.recommendation.Recommendation;
+import seedu.address.model.time.SchedulingHorizon;
+
+/**
+ * Recommends places and timings to meet for many groups of people at once.
+ */
+public class BatchMeetCommand extends Command {
+
+    public static final String COMMAND_WORD = "batch";
+    public static final String GROUP_SEPARATOR = ";";
+    public static final int DEFAULT_RECOMMENDATIONS_PER_GROUP = 5;
+    public static final String MESSAGE_NO_GROUPS = "At least one group of contact indices expected";
+    public static final String MESSAGE_EMPTY_GROUP = "Contact index expected in group %d";
+    public static final String MESSAGE_SUCCESS = "Here are the recommendations for %d groups!";
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Recommends locations to meet for many groups at once, each based on the indices of its people.\n"
+            + "Groups are separated by " + GROUP_SEPARATOR + " and every recommendation is labelled with its group.\n"
+            + "Optionally, d/DAY... recommends timings only on those days, including weekends.\n"
+            + "Optionally, o/OBJECTIVE recommends locations with the least MIDPOINT, TOTAL_DISTANCE, "
+            + "MAX_DISTANCE, TOTAL_TRAVEL_TIME or MAX_TRAVEL_TIME.\n"
+            + "Optionally, c/CATEGORY... recommends your own destinations in those categories instead.\n"
+            + "Example: " + COMMAND_WORD + " 1 2 3" + GROUP_SEPARATOR + " 4 5" + GROUP_SEPARATOR + " 6 7 8";
+
+    private final List<Set<ContactIndex>> groups;
+    private final Collection<Location> locations;
+    private final int recommendationsPerGroup;
+    private final SchedulingHorizon horizon;
+    private final LocationObjective objective;
+
+    /**
+     * Constructor for a {@code BatchMeetCommand}.
+     * @param groups The indices of the people in each group, which all include the user.
+     * @param locations The potential locations to meet.
+     * @param recommendationsPerGroup The most recommendations to show for each group.
+     * @param horizon The days to recommend timings on.
+     * @param objective What the recommended locations should be best at.
+     */
+    public BatchMeetCommand(List<Set<ContactIndex>> groups, Collection<Location> locations,
+            int recommendationsPerGroup, SchedulingHorizon horizon, LocationObjective objective) {
+        this.groups = groups;
+        this.locations = locations;
+        this.recommendationsPerGroup = recommendationsPerGroup;
+        this.horizon = horizon;
+        this.objective = objective;
+    }
+
+    /**
+     * Constructor for a {@code BatchMeetCommand} that recommends timings on weekdays, closest to the midpoint.
+     * @param groups The indices of the people in each group, which all include the user.
+     * @param locations The potential locations to meet.
+     */
+    public BatchMeetCommand(List<Set<ContactIndex>> groups, Collection<Location> locations) {
+        this(groups, locations, DEFAULT_RECOMMENDATIONS_PER_GROUP, SchedulingHorizon.SCHOOL_WEEK,
+                LocationObjective.MIDPOINT);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (groups.isEmpty()) {
+            throw new CommandException(MESSAGE_NO_GROUPS);
+        }
+        for (int i = 0; i < groups.size(); i++) {
+            assert groups.get(i).contains(ContactIndex.USER_CONTACT_INDEX);
+            if (groups.get(i).size() == 1) {
+                throw new CommandException(String.format(MESSAGE_EMPTY_GROUP, i + 1));
+            }
+        }
+
+        IndexHandler indexHandler = new IndexHandler(model);
+        Set<ContactIndex> invalidContactIndices = groups.stream()
+                .flatMap(Set::stream)
+                .distinct()
+                .filter(i -> indexHandler.getPersonByIndex(i).isEmpty())
+                .collect(Collectors.toCollection(TreeSet::new));
+
+        if (!invalidContactIndices.isEmpty()) {
+            String message = invalidContactIndices.stream()
+                    .map(ContactIndex::toString)
+                    .collect(Collectors.joining(", "));
+            throw new CommandException("Invalid contact indices given: " + message);
+        }
+
+        List<List<Recommendation>> recommendationsOfGroups = recommendGroups(model);
+        List<Recommendation> recommendations = new ArrayList<>();
+        for (int i = 0; i < groups.size(); i++) {
+            Set<ContactIndex> group = groups.get(i);
+            recommendationsOfGroups.get(i).stream()
+                    .limit(recommendationsPerGroup)
+                    .map(recommendation -> recommendation.setGroup(group))
+                    .forEach(recommendations::add);
+        }
+
+        model.setRecommendations(recommendations);
+        model.updateObservableRecommendationList();
+
+        return new CommandResult(String.format(MESSAGE_SUCCESS, groups.size()));
+    }
+
+    /**
+     * Gets the recommendations of each group, in the same order as the groups.
+     * Groups that were recommended for recently are taken from the recommendation cache,
+     * and all the other groups are recommended for together.
+     */
+    private List<List<Recommendation>> recommendGroups(Model model) {
+        RecommendationCache recommendationCache = model.getRecommendationCache();
+        RecommenderSettings settings = model.getRecommenderSettings();
+        List<RecommendationCache.Key> keys = new ArrayList<>();
+        List<Optional<List<Recommendation>>> cachedRecommendations = new ArrayList<>();
+        List<Set<ContactIndex>> uncachedGroups = new ArrayList<>();
+        for (Set<ContactIndex> group : groups) {
+            RecommendationCache.Key key = recommendationCache.getKey(group, locations,
+                    MeetCommand.ALL_PARTICIPANTS, horizon, objective, settings);
+            Optional<List<Recommendation>> cached = recommendationCache.get(key);
+            keys.add(key);
+            cachedRecommendations.add(cached);
+            if (cached.isEmpty()) {
+                uncachedGroups.add(group);
+            }
+        }
+
+        List<List<Recommendation>> newRecommendations = uncachedGroups.isEmpty()
+                ? List.of()
+                : new Recommender(model, settings, horizon, objective)
+                        .recommendGroups(uncachedGroups, locations);
+
+        List<List<Recommendation>> recommendationsOfGroups = new ArrayList<>();
+        int next = 0;
+        for (int i = 0; i < groups.size(); i++) {
+            if (cachedRecommendations.get(i).isPresent()) {
+                recommendationsOfGroups.add(cachedRecommendations.get(i).get());
+                continue;
+            }
+            List<Recommendation> groupRecommendations = newRecommendations.get(next++);
+            recommendationCache.put(keys.get(i), groupRecommendations);
+            recommendationsOfGroups.add(groupRecommendations);
+        }
+        return recommendationsOfGroups;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof BatchMeetCommand // instanceof handles nulls
+                && groups.equals(((BatchMeetCommand) other).groups)
+                && locations.equals(((BatchMeetCommand) other).locations)
+                && recommendationsPerGroup == ((BatchMeetCommand) other).recommendationsPerGroup
+                && horizon.equals(((BatchMeetCommand) other).horizon)
+                && objective == ((BatchMeetCommand) other).objective); // state check
+    }
+}
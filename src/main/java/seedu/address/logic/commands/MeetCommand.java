@@ -4,17 +4,26 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.commands.results.CommandResult;
+import seedu.address.logic.commands.results.PendingCommandResult;
 import seedu.address.logic.parser.IndexHandler;
+import seedu.address.logic.recommender.RecommendationCache;
+import seedu.address.logic.recommender.RecommendationPublisher;
+import seedu.address.logic.recommender.RecommendationStream;
 import seedu.address.logic.recommender.Recommender;
+import seedu.address.logic.recommender.RecommenderSettings;
+import seedu.address.logic.recommender.location.LocationObjective;
 import seedu.address.model.Model;
 import seedu.address.model.location.Location;
 import seedu.address.model.person.ContactIndex;
 import seedu.address.model.recommendation.Recommendation;
+import seedu.address.model.time.SchedulingHorizon;
 
 /**
  * Based on a list of people, recommends a list of places to eat and/or study.
@@ -27,26 +36,84 @@ public class MeetCommand extends Command {
     public static final String MESSAGE_NO_COMMON_TIME = "There are no common available timings"
         + " amongst selected parties";
     public static final String MESSAGE_SUCCESS = "Here are the recommendations!";
+    public static final String MESSAGE_QUORUM_TOO_LARGE = "Minimum attendance cannot be more than "
+        + "the %d people meeting";
     public static final int DEFAULT_NUMBER_OF_RECOMMENDATIONS = 10;
+    public static final int ALL_PARTICIPANTS = 0;
     public static final String MESSAGE_USAGE =
             String.format("%s/%s/%s", EAT_COMMAND_WORD, STUDY_COMMAND_WORD, MEET_COMMAND_WORD)
-                    + ": Recommends locations to eat/study/meet based on the indices of the people.";
+                    + ": Recommends locations to eat/study/meet based on the indices of the people.\n"
+                    + "Optionally, k/MINIMUM_ATTENDANCE recommends timings where at least that many "
+                    + "people (including you) are free.\n"
+                    + "Optionally, d/DAY... recommends timings only on those days, including weekends.\n"
+                    + "Optionally, o/OBJECTIVE recommends locations with the least MIDPOINT, TOTAL_DISTANCE, "
+                    + "MAX_DISTANCE, TOTAL_TRAVEL_TIME or MAX_TRAVEL_TIME.\n"
+                    + "Optionally, c/CATEGORY... recommends your own destinations in those categories instead.";
 
     private final Set<ContactIndex> indices;
     private final Collection<Location> locations;
     private final int numberOfRecommendations;
+    private final int minimumAttendance;
+    private final SchedulingHorizon horizon;
+    private final LocationObjective objective;
 
     /**
      * Constructor for a {@code MeetCommand}.
      * @param indices The indices of people we want to meet.
      * @param locations The potential locations to meet.
      * @param numberOfRecommendations The maximum search result size.
+     * @param minimumAttendance The least number of people that must be free,
+     *                          or {@code ALL_PARTICIPANTS} if everyone must be free.
+     * @param horizon The days to recommend timings on.
+     * @param objective What the recommended locations should be best at.
      */
-    public MeetCommand(
-            Set<ContactIndex> indices, Collection<Location> locations, int numberOfRecommendations) {
+    public MeetCommand(Set<ContactIndex> indices, Collection<Location> locations,
+            int numberOfRecommendations, int minimumAttendance, SchedulingHorizon horizon,
+            LocationObjective objective) {
         this.indices = indices;
         this.locations = locations;
         this.numberOfRecommendations = numberOfRecommendations;
+        this.minimumAttendance = minimumAttendance;
+        this.horizon = horizon;
+        this.objective = objective;
+    }
+
+    /**
+     * Constructor for a {@code MeetCommand}.
+     * @param indices The indices of people we want to meet.
+     * @param locations The potential locations to meet.
+     * @param numberOfRecommendations The maximum search result size.
+     * @param minimumAttendance The least number of people that must be free,
+     *                          or {@code ALL_PARTICIPANTS} if everyone must be free.
+     * @param horizon The days to recommend timings on.
+     */
+    public MeetCommand(Set<ContactIndex> indices, Collection<Location> locations,
+            int numberOfRecommendations, int minimumAttendance, SchedulingHorizon horizon) {
+        this(indices, locations, numberOfRecommendations, minimumAttendance, horizon, LocationObjective.MIDPOINT);
+    }
+
+    /**
+     * Constructor for a {@code MeetCommand}.
+     * @param indices The indices of people we want to meet.
+     * @param locations The potential locations to meet.
+     * @param numberOfRecommendations The maximum search result size.
+     * @param minimumAttendance The least number of people that must be free,
+     *                          or {@code ALL_PARTICIPANTS} if everyone must be free.
+     */
+    public MeetCommand(Set<ContactIndex> indices, Collection<Location> locations,
+            int numberOfRecommendations, int minimumAttendance) {
+        this(indices, locations, numberOfRecommendations, minimumAttendance, SchedulingHorizon.SCHOOL_WEEK);
+    }
+
+    /**
+     * Constructor for a {@code MeetCommand}.
+     * @param indices The indices of people we want to meet.
+     * @param locations The potential locations to meet.
+     * @param numberOfRecommendations The maximum search result size.
+     */
+    public MeetCommand(
+            Set<ContactIndex> indices, Collection<Location> locations, int numberOfRecommendations) {
+        this(indices, locations, numberOfRecommendations, ALL_PARTICIPANTS);
     }
 
     /**
@@ -78,14 +145,33 @@ public class MeetCommand extends Command {
             throw new CommandException("Invalid contact indices given: " + message);
         }
 
-        List<Recommendation> recommendations = new Recommender(model).recommend(indices, locations);
+        if (minimumAttendance > indices.size()) {
+            throw new CommandException(String.format(MESSAGE_QUORUM_TOO_LARGE, indices.size()));
+        }
 
-        model.setRecommendations(recommendations);
-        model.updateObservableRecommendationList();
+        RecommendationCache recommendationCache = model.getRecommendationCache();
+        RecommenderSettings settings = model.getRecommenderSettings();
+        RecommendationCache.Key key = recommendationCache.getKey(indices, locations, minimumAttendance, horizon,
+                objective, settings);
+        Optional<List<Recommendation>> cachedRecommendations = recommendationCache.get(key);
+        CompletableFuture<Void> published;
+        if (cachedRecommendations.isPresent()) {
+            model.setRecommendations(cachedRecommendations.get());
+            model.updateObservableRecommendationList();
+            published = CompletableFuture.completedFuture(null);
+        } else {
+            Recommender recommender = new Recommender(model, settings, horizon, objective);
+            RecommendationStream stream = minimumAttendance == ALL_PARTICIPANTS
+                    ? recommender.stream(indices, locations)
+                    : recommender.stream(indices, locations, minimumAttendance);
+            published = RecommendationPublisher.publish(model, stream,
+                    recommendations -> recommendationCache.put(key, recommendations));
+        }
 
         model.setParticipants(indices);
 
-        return new CommandResult("");
+        // recommendations still being published are saved once they are all in the list
+        return published.isDone() ? new CommandResult("") : new PendingCommandResult("", published);
     }
 
     @Override
@@ -94,6 +180,9 @@ public class MeetCommand extends Command {
                 || (other instanceof MeetCommand // instanceof handles nulls
                 && indices.equals(((MeetCommand) other).indices)
                 && locations.equals(((MeetCommand) other).locations)
-                && numberOfRecommendations == ((MeetCommand) other).numberOfRecommendations); // state check
+                && numberOfRecommendations == ((MeetCommand) other).numberOfRecommendations
+                && minimumAttendance == ((MeetCommand) other).minimumAttendance
+                && horizon.equals(((MeetCommand) other).horizon)
+                && objective == ((MeetCommand) other).objective); // state check
     }
 }
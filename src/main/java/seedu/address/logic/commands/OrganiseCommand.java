@@ -5,6 +5,7 @@ import static java.util.Objects.requireNonNull;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.commands.results.CommandResult;
@@ -127,7 +128,12 @@ public class OrganiseCommand extends Command {
             throw new CommandException(MESSAGE_NO_SUCH_RECOMMENDATION);
         }
         Recommendation recommendation = model.getRecommendationByIndex(this.index).get();
-        Participants participants = model.getParticipants();
+        Participants participants = recommendation.getGroup().isEmpty()
+                ? model.getParticipants()
+                : new Participants(recommendation.getGroup().stream()
+                        .map(model::getPersonByIndex)
+                        .flatMap(Optional::stream)
+                        .collect(Collectors.toList()));
 
         for (Person person : participants.getParticipants()) {
             if (!model.hasPerson(person)) {
@@ -5,6 +5,7 @@ import static java.util.Objects.requireNonNull;
 import java.nio.file.Path;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import seedu.address.model.person.Person;
 
@@ -54,6 +55,14 @@ public class CommandResult {
         return Optional.empty();
     }
 
+    /**
+     * Returns what completes once the command has finished changing the model,
+     * if it is still changing the model after it returns.
+     */
+    public Optional<CompletableFuture<?>> getPendingChanges() {
+        return Optional.empty();
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
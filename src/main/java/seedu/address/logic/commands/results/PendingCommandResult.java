@@ -0,0 +1,31 @@
+package seedu.address.logic.commands.results;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * CommandResult of a command that is still changing the model after it returns,
+ * such as a MeetCommand whose recommendations are published in the background.
+ */
+public class PendingCommandResult extends CommandResult {
+
+    /** Completes once the command has finished changing the model */
+    private final CompletableFuture<?> pendingChanges;
+
+    /**
+     * Constructs a {@code PendingCommandResult} with the specified fields.
+     */
+    public PendingCommandResult(String feedbackToUser, CompletableFuture<?> pendingChanges) {
+        super(feedbackToUser);
+        requireNonNull(pendingChanges);
+
+        this.pendingChanges = pendingChanges;
+    }
+
+    @Override
+    public Optional<CompletableFuture<?>> getPendingChanges() {
+        return Optional.of(pendingChanges);
+    }
+}
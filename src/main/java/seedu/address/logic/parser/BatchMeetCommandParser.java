@@ -0,0 +1,56 @@
+package seedu.address.logic.parser;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.logic.commands.BatchMeetCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.logic.recommender.location.LocationObjective;
+import seedu.address.model.location.Location;
+import seedu.address.model.location.util.LocationDataUtil;
+import seedu.address.model.person.ContactIndex;
+import seedu.address.model.time.SchedulingHorizon;
+
+/**
+ * Parses input arguments and creates a new BatchMeetCommand object
+ */
+public class BatchMeetCommandParser implements Parser<BatchMeetCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the BatchMeetCommand
+     * and returns a BatchMeetCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public BatchMeetCommand parse(String args) throws ParseException {
+        ArgumentMultimap argumentMultimap = ArgumentTokenizer.tokenize(args, Prefix.DAY, Prefix.OBJECTIVE,
+                Prefix.CATEGORY);
+
+        List<Set<ContactIndex>> groups = new ArrayList<>();
+        for (String groupAsStr : argumentMultimap.getPreamble().split(BatchMeetCommand.GROUP_SEPARATOR)) {
+            List<String> indexArray = Arrays.stream(groupAsStr.split(" "))
+                    .filter(x -> !x.isEmpty())
+                    .collect(Collectors.toList());
+            if (indexArray.isEmpty()) {
+                continue;
+            }
+            Set<ContactIndex> group = ParserUtil.parseIndices(indexArray);
+            group.add(ContactIndex.USER_CONTACT_INDEX);
+            groups.add(group);
+        }
+
+        SchedulingHorizon horizon = MeetCommandParser.parseHorizon(argumentMultimap.getAllValues(Prefix.DAY));
+        LocationObjective objective = argumentMultimap.getValue(Prefix.OBJECTIVE).isEmpty()
+                ? LocationObjective.MIDPOINT
+                : MeetCommandParser.parseObjective(argumentMultimap.getValue(Prefix.OBJECTIVE).get());
+        Collection<Location> destinations = argumentMultimap.getAllValues(Prefix.CATEGORY).isEmpty()
+                ? LocationDataUtil.getMeetLocations()
+                : MeetCommandParser.parseCategories(argumentMultimap.getAllValues(Prefix.CATEGORY));
+
+        return new BatchMeetCommand(groups, destinations, BatchMeetCommand.DEFAULT_RECOMMENDATIONS_PER_GROUP,
+                horizon, objective);
+    }
+}
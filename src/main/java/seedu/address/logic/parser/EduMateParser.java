@@ -7,6 +7,7 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.BatchMeetCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.DeleteCommand;
@@ -99,6 +100,9 @@ public class EduMateParser {
         case MeetCommand.MEET_COMMAND_WORD:
             return new MeetCommandParser(MeetType.MEET).parse(arguments);
 
+        case BatchMeetCommand.COMMAND_WORD:
+            return new BatchMeetCommandParser().parse(arguments);
+
         case TagCommand.COMMAND_WORD:
             return new TagCommandParser().parse(arguments);
 
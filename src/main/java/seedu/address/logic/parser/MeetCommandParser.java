@@ -9,15 +9,25 @@ import java.util.stream.Collectors;
 
 import seedu.address.logic.commands.MeetCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.logic.recommender.location.LocationObjective;
 import seedu.address.model.location.Location;
 import seedu.address.model.location.util.LocationDataUtil;
+import seedu.address.model.location.util.VenueCatalogue;
 import seedu.address.model.person.ContactIndex;
+import seedu.address.model.time.Day;
+import seedu.address.model.time.SchedulingHorizon;
 
 /**
  * Parses input arguments and creates a new MeetCommand object
  */
 public class MeetCommandParser implements Parser<MeetCommand> {
 
+    public static final String MESSAGE_INVALID_QUORUM = "Minimum attendance should be a positive number.";
+    public static final String MESSAGE_INVALID_OBJECTIVE = "Objective should be one of MIDPOINT, TOTAL_DISTANCE, "
+            + "MAX_DISTANCE, TOTAL_TRAVEL_TIME or MAX_TRAVEL_TIME.";
+    public static final String MESSAGE_UNKNOWN_CATEGORY = "There are no destinations in %s. "
+            + "Destinations can be added to %s, one name|latitude|longitude|category per line.";
+
     private final Collection<Location> locationHashSet;
 
     /**
@@ -27,13 +37,13 @@ public class MeetCommandParser implements Parser<MeetCommand> {
     public MeetCommandParser(MeetType meetType) {
         switch (meetType) {
         case EAT:
-            locationHashSet = LocationDataUtil.EAT_LOCATIONS;
+            locationHashSet = LocationDataUtil.getEatLocations();
             break;
         case STUDY:
-            locationHashSet = LocationDataUtil.STUDY_LOCATIONS;
+            locationHashSet = LocationDataUtil.getStudyLocations();
             break;
         case MEET:
-            locationHashSet = LocationDataUtil.MEET_LOCATIONS;
+            locationHashSet = LocationDataUtil.getMeetLocations();
             break;
         default:
             locationHashSet = new HashSet<>();
@@ -46,7 +56,8 @@ public class MeetCommandParser implements Parser<MeetCommand> {
      * @throws ParseException if the user input does not conform the expected format
      */
     public MeetCommand parse(String args) throws ParseException {
-        ArgumentMultimap argumentMultimap = ArgumentTokenizer.tokenize(args);
+        ArgumentMultimap argumentMultimap = ArgumentTokenizer.tokenize(args, Prefix.QUORUM, Prefix.DAY,
+                Prefix.OBJECTIVE, Prefix.CATEGORY);
         List<String> indexArray = Arrays.stream(argumentMultimap.getPreamble().split(" "))
                 .filter(x -> !x.isEmpty())
                 .collect(Collectors.toList());
@@ -56,6 +67,62 @@ public class MeetCommandParser implements Parser<MeetCommand> {
 
         indices.add(new ContactIndex(0));
 
-        return new MeetCommand(indices, locationHashSet);
+        SchedulingHorizon horizon = parseHorizon(argumentMultimap.getAllValues(Prefix.DAY));
+        LocationObjective objective = argumentMultimap.getValue(Prefix.OBJECTIVE).isEmpty()
+                ? LocationObjective.MIDPOINT
+                : parseObjective(argumentMultimap.getValue(Prefix.OBJECTIVE).get());
+        Collection<Location> destinations = argumentMultimap.getAllValues(Prefix.CATEGORY).isEmpty()
+                ? locationHashSet
+                : parseCategories(argumentMultimap.getAllValues(Prefix.CATEGORY));
+
+        if (argumentMultimap.getValue(Prefix.QUORUM).isEmpty()) {
+            return new MeetCommand(indices, destinations,
+                    MeetCommand.DEFAULT_NUMBER_OF_RECOMMENDATIONS, MeetCommand.ALL_PARTICIPANTS, horizon, objective);
+        }
+
+        int minimumAttendance = ParserUtil.parseInt(argumentMultimap.getValue(Prefix.QUORUM).get());
+        if (minimumAttendance < 1) {
+            throw new ParseException(MESSAGE_INVALID_QUORUM);
+        }
+
+        return new MeetCommand(indices, destinations,
+                MeetCommand.DEFAULT_NUMBER_OF_RECOMMENDATIONS, minimumAttendance, horizon, objective);
+    }
+
+    /**
+     * Parses the days to recommend timings on, which are the weekdays if none are given.
+     */
+    static SchedulingHorizon parseHorizon(List<String> daysAsStr) throws ParseException {
+        if (daysAsStr.isEmpty()) {
+            return SchedulingHorizon.SCHOOL_WEEK;
+        }
+        Set<Day> days = new HashSet<>();
+        for (String dayAsStr : daysAsStr) {
+            days.add(ParserUtil.parseDay(dayAsStr.trim()));
+        }
+        return new SchedulingHorizon(days);
+    }
+
+    /**
+     * Parses what the recommended locations should be best at, ignoring case.
+     */
+    static LocationObjective parseObjective(String objectiveAsStr) throws ParseException {
+        try {
+            return LocationObjective.valueOf(objectiveAsStr.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new ParseException(MESSAGE_INVALID_OBJECTIVE);
+        }
+    }
+
+    /**
+     * Parses the categories of the destinations supplied by the user to recommend from, ignoring case.
+     */
+    static Collection<Location> parseCategories(List<String> categories) throws ParseException {
+        VenueCatalogue.Selection destinations = LocationDataUtil.getVenueCatalogue().select(categories);
+        if (destinations.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_UNKNOWN_CATEGORY,
+                    String.join(", ", categories), LocationDataUtil.VENUE_FILE));
+        }
+        return destinations;
     }
 }
@@ -11,6 +11,8 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import org.joda.time.LocalTime;
 
@@ -29,6 +31,7 @@ import seedu.address.model.tag.GroupTag;
 import seedu.address.model.tag.ModuleTag;
 import seedu.address.model.time.Day;
 import seedu.address.model.time.TimeBlock;
+import seedu.address.model.time.TimeSlots;
 import seedu.address.model.time.util.TimeUtil;
 
 /**
@@ -44,8 +47,12 @@ public class ParserUtil {
 
     public static final String MESSAGE_INVALID_END_HOUR = "End hours can only range from 9am to 11pm!";
 
+    public static final String MESSAGE_WEEKEND_LESSON = "Lessons can only be on weekdays!";
+
     public static final String MESSAGE_INVALID_INT = "No integer entered!";
 
+    private static final Pattern TIME_FORMAT = Pattern.compile("(?<hour>[+-]?\\d+)(:(?<minute>[0-5]\\d))?");
+
     private static final Logger logger = LogsCenter.getLogger(ParserUtil.class);
 
     /**
@@ -221,6 +228,9 @@ public class ParserUtil {
 
         String moduleCode = args.get(0);
         Day day = parseDay(args.get(1));
+        if (day.isWeekend()) {
+            throw new ParseException(MESSAGE_WEEKEND_LESSON);
+        }
         LocalTime startTime = parseLocalTime(args.get(2), true);
         LocalTime endTime = parseLocalTime(args.get(3), false);
 
@@ -255,6 +265,10 @@ public class ParserUtil {
             throw new ParseException("Did you mean Tuesday or Thursday?");
         }
 
+        if (upperDayAsStr.equals("S")) {
+            throw new ParseException("Did you mean Saturday or Sunday?");
+        }
+
         for (Day day : Day.values()) {
             if (day.toString().startsWith(upperDayAsStr)) {
                 return day;
@@ -265,19 +279,36 @@ public class ParserUtil {
 
     /**
      * Parses a local time and checks whether it is valid.
+     * The time is either a whole hour such as {@code 14}, or an hour and minutes such as {@code 14:30}.
      */
     public static LocalTime parseLocalTime(String localTimeAsStr, boolean isStartHour) throws ParseException {
+        Matcher matcher = TIME_FORMAT.matcher(localTimeAsStr);
+        if (!matcher.matches()) {
+            throw new ParseException("Invalid time");
+        }
+        int hour;
         try {
-            int hour = Integer.parseInt(localTimeAsStr);
-            if (!TimeUtil.isValidHour(hour)) {
-                throw new ParseException(MESSAGE_INVALID_HOUR);
-            }
+            hour = Integer.parseInt(matcher.group("hour"));
+        } catch (NumberFormatException nfe) {
+            throw new ParseException("Invalid time");
+        }
+        if (!TimeUtil.isValidHour(hour)) {
+            throw new ParseException(MESSAGE_INVALID_HOUR);
+        }
+        if (matcher.group("minute") == null) {
             return isStartHour
                 ? parseStartHour(hour)
                 : parseEndHour(hour);
-        } catch (NumberFormatException nfe) {
-            throw new ParseException("Invalid time");
         }
+
+        int minute = Integer.parseInt(matcher.group("minute"));
+        if (isStartHour && !TimeUtil.isValidStartTime(hour, minute)) {
+            throw new ParseException(MESSAGE_INVALID_START_HOUR);
+        }
+        if (!isStartHour && !TimeUtil.isValidEndTime(hour, minute)) {
+            throw new ParseException(MESSAGE_INVALID_END_HOUR);
+        }
+        return TimeUtil.getTime(hour, minute);
     }
 
     private static TimeBlock parseTimeBlock(LocalTime startTime, LocalTime endTime, Day day) throws ParseException {
@@ -293,7 +324,7 @@ public class ParserUtil {
      */
     public static LocalTime parseStartHour(int hour) throws ParseException {
         if (TimeUtil.isValidStartHour(hour)) {
-            return new LocalTime(hour, 0);
+            return TimeSlots.getHour(hour);
         } else {
             throw new ParseException(MESSAGE_INVALID_START_HOUR);
         }
@@ -304,7 +335,7 @@ public class ParserUtil {
      */
     public static LocalTime parseEndHour(int hour) throws ParseException {
         if (TimeUtil.isValidEndHour(hour)) {
-            return new LocalTime(hour, 0);
+            return TimeSlots.getHour(hour);
         } else {
             throw new ParseException(MESSAGE_INVALID_END_HOUR);
         }
@@ -16,7 +16,10 @@ public enum Prefix {
 
     DAY("d/", "Day"),
     TIME("T/", "Time Period"),
-    LOCATION("l/", "Location");
+    LOCATION("l/", "Location"),
+    QUORUM("k/", "Minimum Attendance"),
+    OBJECTIVE("o/", "Objective"),
+    CATEGORY("c/", "Category");
     private final String prefix;
     private final String description;
 
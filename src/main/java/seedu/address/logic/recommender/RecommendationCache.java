@@ -0,0 +1,236 @@
+package seedu.address.logic.recommender;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.logic.recommender.location.LocationObjective;
+import seedu.address.logic.recommender.scoring.RecommendationScorer;
+import seedu.address.model.location.Location;
+import seedu.address.model.person.ContactIndex;
+import seedu.address.model.recommendation.Recommendation;
+import seedu.address.model.time.SchedulingHorizon;
+import seedu.address.model.timetable.TimeModel;
+
+/**
+ * Keeps the recommendations of the most recent meetups that were asked for, so that asking for the same meetup
+ * again does not run the recommender again until one of its participants changes.
+ * Entries are looked up by the sorted participants, the destinations, the options of the meetup and the scorer
+ * and time model it is recommended with, together with the version of every participant when the recommendations
+ * were asked for.
+ * Whoever edits or deletes a person has to invalidate the person's contact index.
+ */
+public class RecommendationCache {
+
+    public static final int DEFAULT_CAPACITY = 32;
+
+    private final int capacity;
+    private final Map<Key, List<Recommendation>> entries;
+
+    /**
+     * The version of every participant that has been invalidated, where the others are at version 0.
+     */
+    private final Map<ContactIndex, Integer> versions = new HashMap<>();
+
+    /**
+     * The number of times every participant was invalidated at once.
+     */
+    private int generation = 0;
+
+    private int hitCount = 0;
+    private int missCount = 0;
+
+    /**
+     * Constructs a {@code RecommendationCache} holding the recommendations of {@code DEFAULT_CAPACITY} meetups.
+     */
+    public RecommendationCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a {@code RecommendationCache} holding the recommendations of at most {@code capacity} meetups,
+     * dropping those used least recently first.
+     */
+    public RecommendationCache(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity of recommendation cache must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, List<Recommendation>> eldest) {
+                return size() > RecommendationCache.this.capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the key of a meetup, holding the current version of each participant.
+     * @param participants The contact indices of everyone meeting, including the user.
+     * @param destinations The potential locations to meet, which are told apart by their contents.
+     * @param minimumAttendance The least number of people that must be free.
+     * @param horizon The days to recommend timings on.
+     * @param objective What the recommended locations should be best at.
+     * @param settings How the recommendations are made, of which the scorer and time model change them.
+     */
+    public synchronized Key getKey(Collection<ContactIndex> participants, Collection<Location> destinations,
+            int minimumAttendance, SchedulingHorizon horizon, LocationObjective objective,
+            RecommenderSettings settings) {
+        requireNonNull(participants);
+        requireNonNull(destinations);
+        requireNonNull(horizon);
+        requireNonNull(objective);
+        requireNonNull(settings);
+        ContactIndex[] sortedParticipants = participants.stream().sorted().toArray(ContactIndex[]::new);
+        int[] participantVersions = Arrays.stream(sortedParticipants).mapToInt(this::getVersion).toArray();
+        return new Key(sortedParticipants, participantVersions, generation, destinations, minimumAttendance, horizon,
+                objective, settings.getScorer().orElse(null), settings.getTimeModel());
+    }
+
+    /**
+     * Returns the recommendations of the meetup, if they are still held.
+     */
+    public synchronized Optional<List<Recommendation>> get(Key key) {
+        requireNonNull(key);
+        List<Recommendation> recommendations = entries.get(key);
+        if (recommendations == null) {
+            missCount++;
+            return Optional.empty();
+        }
+        hitCount++;
+        return Optional.of(recommendations);
+    }
+
+    /**
+     * Holds the recommendations of the meetup.
+     * Recommendations for a key taken before one of its participants was invalidated are not held,
+     * as they may have been made from the participant before the change.
+     */
+    public synchronized void put(Key key, List<Recommendation> recommendations) {
+        requireNonNull(key);
+        requireNonNull(recommendations);
+        if (key.generation != generation) {
+            return;
+        }
+        for (int i = 0; i < key.participants.length; i++) {
+            if (getVersion(key.participants[i]) != key.versions[i]) {
+                return;
+            }
+        }
+        entries.put(key, List.copyOf(recommendations));
+    }
+
+    /**
+     * Drops the recommendations of every meetup the participant is in.
+     */
+    public synchronized void invalidate(ContactIndex participant) {
+        requireNonNull(participant);
+        versions.merge(participant, 1, Integer::sum);
+        Iterator<Key> iterator = entries.keySet().iterator();
+        while (iterator.hasNext()) {
+            if (Arrays.asList(iterator.next().participants).contains(participant)) {
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Drops the recommendations of every meetup, such as when all persons are replaced.
+     */
+    public synchronized void clear() {
+        generation++;
+        versions.clear();
+        entries.clear();
+    }
+
+    /**
+     * Returns the number of meetups with recommendations held.
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the number of lookups that found recommendations.
+     */
+    public synchronized int getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Returns the number of lookups that did not find recommendations.
+     */
+    public synchronized int getMissCount() {
+        return missCount;
+    }
+
+    private int getVersion(ContactIndex participant) {
+        return versions.getOrDefault(participant, 0);
+    }
+
+    /**
+     * Identifies the recommendations of a meetup.
+     */
+    public static class Key {
+        private final ContactIndex[] participants;
+        private final int[] versions;
+        private final int generation;
+        private final Collection<Location> destinations;
+        private final int minimumAttendance;
+        private final SchedulingHorizon horizon;
+        private final LocationObjective objective;
+        private final RecommendationScorer scorer;
+        private final TimeModel timeModel;
+        private final int hashCode;
+
+        private Key(ContactIndex[] participants, int[] versions, int generation, Collection<Location> destinations,
+                int minimumAttendance, SchedulingHorizon horizon, LocationObjective objective,
+                RecommendationScorer scorer, TimeModel timeModel) {
+            this.participants = participants;
+            this.versions = versions;
+            this.generation = generation;
+            this.destinations = destinations;
+            this.minimumAttendance = minimumAttendance;
+            this.horizon = horizon;
+            this.objective = objective;
+            this.scorer = scorer;
+            this.timeModel = timeModel;
+            this.hashCode = Objects.hash(Arrays.hashCode(participants), Arrays.hashCode(versions), generation,
+                    destinations.hashCode(), minimumAttendance, horizon, objective, scorer, timeModel);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            Key otherKey = (Key) other;
+            return hashCode == otherKey.hashCode
+                    && Arrays.equals(participants, otherKey.participants)
+                    && Arrays.equals(versions, otherKey.versions)
+                    && generation == otherKey.generation
+                    && minimumAttendance == otherKey.minimumAttendance
+                    && horizon.equals(otherKey.horizon)
+                    && objective == otherKey.objective
+                    && Objects.equals(scorer, otherKey.scorer)
+                    && timeModel == otherKey.timeModel
+                    && destinations.equals(otherKey.destinations);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package seedu.address.logic.recommender;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.Model;
+import seedu.address.model.recommendation.Recommendation;
+
+/**
+ * Publishes the recommendations of a stream to the recommendation list of the model as they are made.
+ * By default, the stream is run to the end on the calling thread, appending each batch as it is made.
+ * Given a publishing executor, such as {@code Platform::runLater} for the JavaFX application thread,
+ * the stream is run on a background thread instead, and each batch is handed to the executor to be appended,
+ * so that the first recommendations are shown without waiting for the rest.
+ */
+public class RecommendationPublisher {
+
+    private static final Logger logger = LogsCenter.getLogger(RecommendationPublisher.class);
+
+    /**
+     * The number of streams that have been published, so that a stream on the background thread
+     * stops before its next batch once a newer one has been published.
+     */
+    private static final AtomicLong publishedStreams = new AtomicLong();
+
+    /**
+     * The executor that batches are appended on, or null to run streams on the calling thread.
+     */
+    private static Executor publishingExecutor;
+    private static ExecutorService backgroundExecutor;
+
+    /**
+     * Sets the executor that the batches of recommendations are appended to the model on,
+     * which must be the only thread that changes the model.
+     * @param executor the publishing executor, or null to run streams to the end on the calling thread.
+     */
+    public static synchronized void setPublishingExecutor(Executor executor) {
+        publishingExecutor = executor;
+        if (executor != null && backgroundExecutor == null) {
+            backgroundExecutor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "recommendation-publisher");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    private static synchronized Executor getPublishingExecutor() {
+        return publishingExecutor;
+    }
+
+    private static synchronized ExecutorService getBackgroundExecutor() {
+        return backgroundExecutor;
+    }
+
+    /**
+     * Replaces the recommendation list of the model with the recommendations of the stream, a batch at a time.
+     * Batches that are made after the recommendation list has been replaced again are dropped,
+     * and the stream stops before its next batch once the list is replaced or a newer stream is published.
+     * @param onComplete takes every recommendation of the stream once it has run to the end,
+     *                   which may be on the background thread.
+     * @return a future that completes on the publishing executor once every batch has been appended,
+     *         so that the recommendation list can be saved, or that is cancelled if the batches were dropped.
+     */
+    public static CompletableFuture<Void> publish(Model model, RecommendationStream stream,
+            Consumer<List<Recommendation>> onComplete) {
+        requireAllNonNull(model, stream, onComplete);
+        model.resetRecommendations();
+        model.updateObservableRecommendationList();
+
+        Executor executor = getPublishingExecutor();
+        if (executor == null) {
+            onComplete.accept(stream.forEachBatch(model::addRecommendations));
+            return CompletableFuture.completedFuture(null);
+        }
+
+        CompletableFuture<Void> published = new CompletableFuture<>();
+        int version = model.getRecommendationListVersion();
+        long streamNumber = publishedStreams.incrementAndGet();
+        BooleanSupplier isSuperseded = () -> publishedStreams.get() != streamNumber
+                || model.getRecommendationListVersion() != version;
+        getBackgroundExecutor().execute(() -> {
+            Optional<List<Recommendation>> recommendations;
+            try {
+                recommendations = stream.forEachBatch(batch -> executor.execute(() -> {
+                    if (model.getRecommendationListVersion() == version) {
+                        model.addRecommendations(batch);
+                    }
+                }), isSuperseded);
+            } catch (RuntimeException e) {
+                logger.warning("Could not finish recommending: " + e);
+                published.completeExceptionally(e);
+                return;
+            }
+            if (recommendations.isEmpty()) {
+                published.cancel(false);
+                return;
+            }
+            onComplete.accept(recommendations.get());
+            // the batches are appended in order, so every batch has been appended by the time this runs
+            executor.execute(() -> {
+                if (model.getRecommendationListVersion() == version) {
+                    published.complete(null);
+                } else {
+                    published.cancel(false);
+                }
+            });
+        });
+        return published;
+    }
+}
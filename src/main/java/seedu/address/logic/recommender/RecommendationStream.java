@@ -0,0 +1,166 @@
+package seedu.address.logic.recommender;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
+
+import seedu.address.logic.recommender.location.LocationRecommender;
+import seedu.address.logic.recommender.location.LocationTracker;
+import seedu.address.logic.recommender.scoring.CandidateSet;
+import seedu.address.logic.recommender.scoring.RecommendationScorer;
+import seedu.address.model.location.Location;
+import seedu.address.model.recommendation.Recommendation;
+import seedu.address.model.time.TimePeriod;
+
+/**
+ * The recommendations for the timings of a meetup, which are made a batch of timings at a time,
+ * so that the recommendations of the first timings can be shown while those of the later timings are being made.
+ * Everything needed from the model is read before the stream is made, so the stream can be run on any thread.
+ */
+public class RecommendationStream {
+
+    private final List<TimePeriod> timings;
+    private final Set<LocationTracker> trackers;
+    private final LocationRecommender locationRecommender;
+    private final ExecutorService executor;
+    private final int firstBatchSize;
+    private final int limit;
+    private final RecommendationScorer scorer;
+    private final ToIntFunction<TimePeriod> attendance;
+
+    /**
+     * Constructs a {@code RecommendationStream} for the timings, in the order they should be recommended.
+     * @param trackers The location trackers of the participants.
+     * @param locationRecommender A location recommender that has been initialised with the destinations.
+     * @param executor The threads to recommend locations for the timings on, or null to recommend them one by one.
+     * @param firstBatchSize The number of timings in the first batch, such as the number of threads.
+     * @param limit The most recommendations to make.
+     * @param scorer How the recommendations are picked from every timing and location,
+     *               or null to recommend the timings in order, each at the best location not taken yet.
+     * @param attendance Counts the participants that are free for the whole of a timing, if there is a scorer.
+     */
+    RecommendationStream(List<TimePeriod> timings, Set<LocationTracker> trackers,
+            LocationRecommender locationRecommender, ExecutorService executor, int firstBatchSize, int limit,
+            RecommendationScorer scorer, ToIntFunction<TimePeriod> attendance) {
+        assert firstBatchSize > 0;
+        assert scorer == null || attendance != null;
+        this.timings = timings;
+        this.trackers = trackers;
+        this.locationRecommender = locationRecommender;
+        this.executor = executor;
+        this.firstBatchSize = firstBatchSize;
+        this.limit = limit;
+        this.scorer = scorer;
+        this.attendance = attendance;
+    }
+
+    /**
+     * Makes the recommendations, handing each batch of them to {@code action} as soon as they are final.
+     * The recommendations of a timing are final once those of all the timings before it are made,
+     * as a timing is only recommended at a location that no earlier timing was recommended at.
+     * Each batch of timings is twice as large as the one before, so that the first recommendations come soon
+     * while the later ones do not come in too many batches. Batches without any recommendations are not handed over.
+     * With a scorer, every timing is compared with every other, so the recommendations are handed over in one batch.
+     * @return Every recommendation, in the same order as they were handed over.
+     */
+    public List<Recommendation> forEachBatch(Consumer<List<Recommendation>> action) {
+        return forEachBatch(action, () -> false).orElseThrow();
+    }
+
+    /**
+     * Makes the recommendations like {@link #forEachBatch(Consumer)}, but stops before making the next batch
+     * once {@code isStopped} is true, such as when the recommendations are no longer wanted.
+     * @return Every recommendation, or nothing if the stream was stopped before it ran to the end.
+     */
+    public Optional<List<Recommendation>> forEachBatch(Consumer<List<Recommendation>> action,
+            BooleanSupplier isStopped) {
+        requireAllNonNull(action, isStopped);
+        if (isStopped.getAsBoolean()) {
+            return Optional.empty();
+        }
+        if (scorer != null) {
+            List<Recommendation> recommendations = scorer.recommend(
+                    new CandidateSet(timings, recommendLocations(timings), trackers, attendance), limit);
+            if (!recommendations.isEmpty()) {
+                action.accept(recommendations);
+            }
+            return Optional.of(recommendations);
+        }
+
+        Set<TimePeriod> timePeriods = new HashSet<>();
+        Set<Location> locations = new HashSet<>();
+        List<Recommendation> recommendations = new ArrayList<>();
+
+        int batchSize = firstBatchSize;
+        for (int start = 0; start < timings.size() && recommendations.size() < limit; start += batchSize) {
+            if (start > 0 && isStopped.getAsBoolean()) {
+                return Optional.empty();
+            }
+            batchSize = start == 0 ? firstBatchSize : batchSize * 2;
+            List<TimePeriod> batchTimings = timings.subList(start, Math.min(start + batchSize, timings.size()));
+            List<List<Location>> batchLocations = recommendLocations(batchTimings);
+
+            List<Recommendation> batch = new ArrayList<>();
+            for (int i = 0; i < batchTimings.size(); i++) {
+                for (Location location : batchLocations.get(i)) {
+                    if (recommendations.size() + batch.size() >= limit) {
+                        break;
+                    }
+                    TimePeriod timePeriod = batchTimings.get(i);
+                    // filters out duplicate timings or locations
+                    if (timePeriods.contains(timePeriod) || locations.contains(location)) {
+                        continue;
+                    }
+                    batch.add(new Recommendation(location, timePeriod));
+                    timePeriods.add(timePeriod);
+                    locations.add(location);
+                }
+            }
+
+            if (!batch.isEmpty()) {
+                recommendations.addAll(batch);
+                action.accept(batch);
+            }
+        }
+        return Optional.of(recommendations);
+    }
+
+    /**
+     * Makes the recommendations all at once.
+     */
+    public List<Recommendation> collect() {
+        return forEachBatch(batch -> {});
+    }
+
+    /**
+     * Recommends locations for each of the timings, spread over the threads of the executor if there is one.
+     */
+    private List<List<Location>> recommendLocations(List<TimePeriod> timingsToRecommend) {
+        return Recommender.runAll(executor, timingsToRecommend.stream()
+                .<Supplier<List<Location>>>map(timing -> () ->
+                        locationRecommender.recommend(getLocationsFromTimePeriod(timing)))
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Gets the location of each person from the time period, with one entry for every person,
+     * so that people at the same place each count towards the objective.
+     */
+    private List<Location> getLocationsFromTimePeriod(TimePeriod timePeriod) {
+        return trackers.stream()
+                .map(lt -> lt.getLocation(timePeriod))
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .collect(Collectors.toList());
+    }
+}
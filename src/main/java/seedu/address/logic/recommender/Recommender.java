@@ -1,24 +1,40 @@
 package seedu.address.logic.recommender;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import seedu.address.commons.core.LogsCenter;
-import seedu.address.commons.util.CollectionUtil;
+import seedu.address.logic.parser.IndexHandler;
+import seedu.address.logic.recommender.location.LocationObjective;
 import seedu.address.logic.recommender.location.LocationRecommender;
 import seedu.address.logic.recommender.location.LocationTracker;
+import seedu.address.logic.recommender.scoring.RecommendationScorer;
 import seedu.address.logic.recommender.timing.TimingRecommender;
 import seedu.address.model.Model;
 import seedu.address.model.location.Location;
 import seedu.address.model.person.ContactIndex;
+import seedu.address.model.person.Person;
 import seedu.address.model.recommendation.Recommendation;
+import seedu.address.model.time.SchedulingHorizon;
 import seedu.address.model.time.TimePeriod;
+import seedu.address.model.timetable.TimeModel;
 
 /**
  * Recommends meetup times and locations.
@@ -27,18 +43,69 @@ public class Recommender {
 
     private static final Logger logger = LogsCenter.getLogger(Recommender.class);
     private static final int RECOMMENDATION_LIMIT = 20;
+
+    /**
+     * The number of timings to consider with a scorer, as a shorter timing may still be best on the other components.
+     */
+    private static final int SCORED_TIMING_LIMIT = 100;
+
     private final LocationRecommender locationRecommender;
+    private final LocationObjective locationObjective;
     private final TimingRecommender timingRecommender;
     private final Model model;
+    private final TimeModel timeModel;
+    private final SchedulingHorizon horizon;
+    private final RecommenderSettings settings;
     private Set<LocationTracker> locationTrackers;
 
     /**
-     * Constructs a {@code Recommender} object
+     * Constructs a {@code Recommender} object with the recommender settings of the model.
      */
     public Recommender(Model model) {
+        this(model, model.getRecommenderSettings().getTimeModel());
+    }
+
+    /**
+     * Constructs a {@code Recommender} object that reads schedules with the given time model.
+     */
+    public Recommender(Model model, TimeModel timeModel) {
+        this(model, timeModel, SchedulingHorizon.SCHOOL_WEEK);
+    }
+
+    /**
+     * Constructs a {@code Recommender} object that recommends timings on the days of the horizon.
+     */
+    public Recommender(Model model, TimeModel timeModel, SchedulingHorizon horizon) {
+        this(model, timeModel, horizon, LocationObjective.MIDPOINT);
+    }
+
+    /**
+     * Constructs a {@code Recommender} object that recommends timings on the days of the horizon,
+     * and locations that are best at the objective.
+     */
+    public Recommender(Model model, TimeModel timeModel, SchedulingHorizon horizon, LocationObjective objective) {
+        this(model, model.getRecommenderSettings(), timeModel, horizon, objective);
+    }
+
+    /**
+     * Constructs a {@code Recommender} object that recommends with the given settings, on the days of the horizon,
+     * and locations that are best at the objective.
+     */
+    public Recommender(Model model, RecommenderSettings settings, SchedulingHorizon horizon,
+            LocationObjective objective) {
+        this(model, settings, settings.getTimeModel(), horizon, objective);
+    }
+
+    private Recommender(Model model, RecommenderSettings settings, TimeModel timeModel, SchedulingHorizon horizon,
+            LocationObjective objective) {
+        requireNonNull(settings);
         this.model = model;
+        this.settings = settings;
+        this.timeModel = timeModel;
+        this.horizon = horizon;
         locationRecommender = new LocationRecommender();
-        timingRecommender = new TimingRecommender(model);
+        locationObjective = objective;
+        timingRecommender = new TimingRecommender(model, timeModel, horizon);
         locationTrackers = new HashSet<>();
     }
 
@@ -46,90 +113,152 @@ public class Recommender {
      * Returns a list of recommendations.
      */
     public List<Recommendation> recommend(Collection<ContactIndex> contactIndices, Collection<Location> destinations) {
-        logger.info(String.format("Persons to meet: %s", contactIndices.toString()));
-
-        initialise(contactIndices, destinations);
-        List<TimePeriod> timingRecommendations =
-                timingRecommender.giveLongestTimingRecommendations(RECOMMENDATION_LIMIT);
-
-        logger.info(String.format("%d timings recommended", timingRecommendations.size()));
-
-        List<List<Location>> locationRecommendations = timingRecommendations.stream()
-                .map(this::getLocationsFromTimePeriod)
-                .map(locationRecommender::recommend)
-                .collect(Collectors.toList());
+        return stream(contactIndices, destinations).collect();
+    }
 
-        List<Recommendation> recommendations = CollectionUtil
-                .zip(locationRecommendations.stream(),
-                        timingRecommendations.stream(),
-                        this::recommendFromLocationsTimePeriod)
-                .flatMap(List::stream)
-                .collect(Collectors.toList());
+    /**
+     * Returns a list of recommendations at timings where at least {@code minimumAttendance} persons are free.
+     */
+    public List<Recommendation> recommend(Collection<ContactIndex> contactIndices, Collection<Location> destinations,
+            int minimumAttendance) {
+        return stream(contactIndices, destinations, minimumAttendance).collect();
+    }
 
-        List<Recommendation> filteredRecommendations = filterRecommendations(recommendations);
+    /**
+     * Returns the recommendations as a stream, which makes them a batch of timings at a time.
+     * The timings are recommended on this thread, but their locations are only recommended when the stream is run.
+     */
+    public RecommendationStream stream(Collection<ContactIndex> contactIndices, Collection<Location> destinations) {
+        logger.info(String.format("Persons to meet: %s", contactIndices.toString()));
 
-        return filteredRecommendations.stream().limit(RECOMMENDATION_LIMIT).collect(Collectors.toList());
+        initialise(contactIndices, destinations);
+        return createStream(timingRecommender, timingRecommender::giveLongestTimingRecommendations,
+                locationTrackers, settings.getExecutor());
     }
 
     /**
-     * Sets up the {@code LocationRecommender}, {@code TimingRecommender}
-     * and {@code LocationTracker} for each person.
+     * Returns the recommendations at timings where at least {@code minimumAttendance} persons are free as a stream,
+     * which makes them a batch of timings at a time.
+     * The timings are recommended on this thread, but their locations are only recommended when the stream is run.
      */
-    private void initialise(Collection<ContactIndex> contactIndices, Collection<Location> destinations) {
-        locationRecommender.initialise(destinations);
-        timingRecommender.initialise(contactIndices);
-        locationTrackers = timingRecommender.getParticipants().stream()
-                .map(LocationTracker::new)
-                .collect(Collectors.toSet());
+    public RecommendationStream stream(Collection<ContactIndex> contactIndices, Collection<Location> destinations,
+            int minimumAttendance) {
+        logger.info(String.format("Persons to meet: %s, at least %d attending",
+                contactIndices.toString(), minimumAttendance));
 
-        logger.info(String.format("Location Trackers: %s", locationTrackers.stream()
-                .map(LocationTracker::toString)
-                .collect(Collectors.joining("\n"))));
+        initialise(contactIndices, destinations);
+        return createStream(timingRecommender,
+                limit -> timingRecommender.giveQuorumTimingRecommendations(minimumAttendance, limit),
+                locationTrackers, settings.getExecutor());
     }
 
     /**
-     * Gets location from hour block.
+     * Returns a list of recommendations for each group of persons, in the same order as the groups.
+     * The destinations are only set up once, and each person is only looked up once however many groups
+     * the person is in. The groups are spread over the recommendation threads if there are any.
      */
-    private Set<Location> getLocationsFromTimePeriod(TimePeriod timePeriod) {
-        return locationTrackers.stream()
-                .map(lt -> lt.getLocation(timePeriod))
-                .filter(Optional::isPresent)
-                .map(Optional::get)
-                .collect(Collectors.toSet());
+    public List<List<Recommendation>> recommendGroups(List<? extends Collection<ContactIndex>> groups,
+            Collection<Location> destinations) {
+        logger.info(String.format("Groups to meet: %s", groups.toString()));
+
+        locationRecommender.initialise(destinations, locationObjective);
+        IndexHandler indexHandler = new IndexHandler(model);
+        ExecutorService executor = settings.getExecutor();
+        Map<ContactIndex, Optional<Person>> persons = new HashMap<>();
+        Map<Person, LocationTracker> trackers = new IdentityHashMap<>();
+        List<Supplier<List<Recommendation>>> tasks = new ArrayList<>();
+        for (Collection<ContactIndex> group : groups) {
+            List<Person> participants = group.stream()
+                    .map(index -> persons.computeIfAbsent(index, indexHandler::getPersonByIndex))
+                    .flatMap(Optional::stream)
+                    .collect(Collectors.toList());
+            // availability masks are built lazily, so they are built here before the groups share them across threads
+            participants.forEach(Person::getAvailabilityMask);
+            Set<LocationTracker> groupTrackers = participants.stream()
+                    .map(person -> trackers.computeIfAbsent(person, key -> model.getLocationTracker(key, timeModel)))
+                    .collect(Collectors.toSet());
+            tasks.add(() -> recommendGroup(participants, groupTrackers, groups.size() == 1 ? executor : null));
+        }
+        return runAll(executor, tasks);
     }
 
     /**
-     * Returns a list of recommendation based on a particular timing.
+     * Recommends the longest timings that the participants are all free, and locations for each of them.
+     * @param executor the threads to recommend locations for the timings on, or null to recommend them one by one.
      */
-    private List<Recommendation> recommendFromLocationsTimePeriod(
-            List<Location> locations, TimePeriod timePeriod) {
-        return locations.stream()
-                .map(l -> new Recommendation(l, timePeriod))
-                .collect(Collectors.toList());
+    private List<Recommendation> recommendGroup(List<Person> participants, Set<LocationTracker> groupTrackers,
+            ExecutorService executor) {
+        TimingRecommender groupTimingRecommender = new TimingRecommender(model, timeModel, horizon)
+                .initialisePersons(participants);
+        return createStream(groupTimingRecommender, groupTimingRecommender::giveLongestTimingRecommendations,
+                groupTrackers, executor).collect();
     }
 
     /**
-     * Filters out duplicate timings or locations.
+     * Creates a stream that recommends locations for each of the timings.
+     * Its first batch has a timing for each thread of the executor.
+     * @param giveTimings gives at most the given number of timings, from the timing recommender of the participants.
      */
-    private List<Recommendation> filterRecommendations(List<Recommendation> recommendations) {
-        Set<TimePeriod> timePeriods = new HashSet<>();
-        Set<Location> locations = new HashSet<>();
+    private RecommendationStream createStream(TimingRecommender participantTimingRecommender,
+            IntFunction<List<TimePeriod>> giveTimings, Set<LocationTracker> trackers, ExecutorService executor) {
+        RecommendationScorer currentScorer = settings.getScorer().orElse(null);
+        List<TimePeriod> timingRecommendations =
+                giveTimings.apply(currentScorer == null ? RECOMMENDATION_LIMIT : SCORED_TIMING_LIMIT);
+        logger.info(String.format("%d timings recommended", timingRecommendations.size()));
 
-        List<Recommendation> filteredRecommendations = new ArrayList<>();
+        return new RecommendationStream(timingRecommendations, trackers, locationRecommender, executor,
+                executor == null ? 1 : settings.getThreads(), RECOMMENDATION_LIMIT, currentScorer,
+                currentScorer == null ? null : participantTimingRecommender.getAvailabilityCount()::getAttendance);
+    }
 
-        for (Recommendation recommendation : recommendations) {
-            TimePeriod timePeriod = recommendation.getTimePeriod();
-            Location location = recommendation.getLocation();
+    /**
+     * Runs the tasks, returning their results in the same order as the tasks.
+     * The tasks must not depend on one another, as they are spread over the threads of the executor.
+     * @param executor the threads to run the tasks on, or null to run them one by one on this thread.
+     */
+    static <T> List<T> runAll(ExecutorService executor, List<Supplier<T>> tasks) {
+        if (executor == null || tasks.size() < 2) {
+            return tasks.stream()
+                    .map(Supplier::get)
+                    .collect(Collectors.toList());
+        }
 
-            if (timePeriods.contains(timePeriod) || locations.contains(location)) {
-                continue;
+        List<Callable<T>> callables = tasks.stream()
+                .<Callable<T>>map(task -> task::get)
+                .collect(Collectors.toList());
+        try {
+            List<T> results = new ArrayList<>(callables.size());
+            for (Future<T> future : executor.invokeAll(callables)) {
+                results.add(future.get());
             }
-
-            filteredRecommendations.add(recommendation);
-            timePeriods.add(timePeriod);
-            locations.add(location);
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while recommending", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
         }
+    }
 
-        return filteredRecommendations;
+    /**
+     * Sets up the {@code LocationRecommender}, {@code TimingRecommender}
+     * and {@code LocationTracker} for each person.
+     */
+    private void initialise(Collection<ContactIndex> contactIndices, Collection<Location> destinations) {
+        locationRecommender.initialise(destinations, locationObjective);
+        timingRecommender.initialise(contactIndices);
+        locationTrackers = timingRecommender.getParticipants().stream()
+                .map(person -> model.getLocationTracker(person, timeModel))
+                .collect(Collectors.toSet());
+
+        logger.info(String.format("Location Trackers: %s", locationTrackers.stream()
+                .map(LocationTracker::toString)
+                .collect(Collectors.joining("\n"))));
     }
 }
@@ -0,0 +1,127 @@
+package seedu.address.logic.recommender;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.recommender.scoring.RecommendationScorer;
+import seedu.address.model.timetable.TimeModel;
+
+/**
+ * How a {@code Recommender} recommends, which is the number of threads it recommends locations on,
+ * how it picks recommendations from the timings and their locations, and how it reads schedules.
+ */
+public class RecommenderSettings {
+
+    private static final Logger logger = LogsCenter.getLogger(RecommenderSettings.class);
+
+    /**
+     * How long an idle recommendation thread is kept before it ends.
+     */
+    private static final long THREAD_KEEP_ALIVE_SECONDS = 60;
+
+    private final int numberOfThreads;
+    private final RecommendationScorer scorer;
+    private final TimeModel timeModel;
+    private ExecutorService executor;
+
+    /**
+     * Constructs a {@code RecommenderSettings} that recommends on the calling thread,
+     * the longest timings first and reading schedules by the hour.
+     */
+    public RecommenderSettings() {
+        this(1, null, TimeModel.HOURLY);
+    }
+
+    /**
+     * Constructs a {@code RecommenderSettings} with the given threads, scorer and time model.
+     * The recommendations are the same whatever the number of threads, only the time taken differs.
+     * @param threads the number of threads, where 0 uses one thread for each processor
+     *                and 1 recommends one timing after another on the calling thread.
+     * @param scorer the scorer, or null to recommend the longest timings first, each at the best location not taken.
+     * @param timeModel how the schedules of participants are read.
+     */
+    public RecommenderSettings(int threads, RecommendationScorer scorer, TimeModel timeModel) {
+        requireNonNull(timeModel);
+        if (threads < 0) {
+            throw new IllegalArgumentException("Number of recommendation threads cannot be negative: " + threads);
+        }
+        this.numberOfThreads = threads == 0 ? Runtime.getRuntime().availableProcessors() : threads;
+        this.scorer = scorer;
+        this.timeModel = timeModel;
+    }
+
+    /**
+     * Returns the settings given by the number of recommendation threads, the weights of the score components
+     * and the time model in the {@code config} object. Invalid weights and time models are ignored.
+     */
+    public static RecommenderSettings of(Config config) {
+        requireNonNull(config);
+        String timeModelName = config.getRecommendationTimeModel();
+        TimeModel timeModel;
+        try {
+            timeModel = TimeModel.valueOf(String.valueOf(timeModelName).trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            logger.warning("Ignoring unknown recommendation time model in config: " + timeModelName);
+            timeModel = TimeModel.HOURLY;
+        }
+
+        Map<String, Double> weights = config.getRecommendationWeights();
+        RecommendationScorer scorer;
+        try {
+            scorer = weights.isEmpty() ? null : RecommendationScorer.of(weights);
+        } catch (IllegalArgumentException e) {
+            logger.warning("Ignoring recommendation weights in config: " + e.getMessage());
+            scorer = null;
+        }
+
+        RecommenderSettings settings = new RecommenderSettings(config.getRecommendationThreads(), scorer, timeModel);
+        logger.info(String.format("Recommending locations on %d thread(s)", settings.getThreads()));
+        return settings;
+    }
+
+    public int getThreads() {
+        return numberOfThreads;
+    }
+
+    /**
+     * Returns how recommendations are picked from the timings and their locations,
+     * or an empty optional if the longest timings are recommended first.
+     */
+    public Optional<RecommendationScorer> getScorer() {
+        return Optional.ofNullable(scorer);
+    }
+
+    public TimeModel getTimeModel() {
+        return timeModel;
+    }
+
+    /**
+     * Returns the threads to recommend locations on, or null to recommend them on the calling thread.
+     * The threads are only started once they are first used, and end once they have been idle for a while.
+     */
+    public synchronized ExecutorService getExecutor() {
+        if (executor == null && numberOfThreads > 1) {
+            AtomicInteger threadCount = new AtomicInteger();
+            ThreadPoolExecutor threadPool = new ThreadPoolExecutor(numberOfThreads, numberOfThreads,
+                    THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+                        Thread thread = new Thread(runnable, "recommender-" + threadCount.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+            threadPool.allowCoreThreadTimeOut(true);
+            executor = threadPool;
+        }
+        return executor;
+    }
+}
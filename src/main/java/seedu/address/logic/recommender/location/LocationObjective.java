@@ -0,0 +1,32 @@
+package seedu.address.logic.recommender.location;
+
+/**
+ * Represents what the recommended destinations should be best at for the people meeting there.
+ */
+public enum LocationObjective {
+    /**
+     * Closest to the midpoint of where everyone is coming from,
+     * which is the same as the least sum of squared distances.
+     */
+    MIDPOINT,
+
+    /**
+     * The least distance summed over everyone.
+     */
+    TOTAL_DISTANCE,
+
+    /**
+     * The least distance for whoever is furthest away.
+     */
+    MAX_DISTANCE,
+
+    /**
+     * The least travel time over the train network, summed over everyone.
+     */
+    TOTAL_TRAVEL_TIME,
+
+    /**
+     * The least travel time over the train network for whoever travels the longest.
+     */
+    MAX_TRAVEL_TIME
+}
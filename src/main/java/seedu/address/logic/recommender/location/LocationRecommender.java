@@ -1,54 +1,224 @@
 package seedu.address.logic.recommender.location;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.location.Location;
+import seedu.address.model.location.util.DestinationIndex;
 import seedu.address.model.location.util.DistanceUtil;
 import seedu.address.model.location.util.LocationDataUtil;
+import seedu.address.model.location.util.TransitGraph;
 
 /**
  * Recommends a location based on a collection of locations
- * and a collection of destinations
+ * and a collection of destinations.
+ * Recommendations may be made from several threads at once, as each of them reads the destinations
+ * and objective that were last set up in one go, and otherwise only keeps state on its own stack.
  */
 public class LocationRecommender {
 
     private static final Logger logger = LogsCenter.getLogger(LocationRecommender.class);
+    private static final int RECOMMENDATION_LIMIT = 10;
+
+    /**
+     * Slack in kilometres for rounding errors in the smallest enclosing circle, so that pruning stays exact.
+     */
+    private static final double MINIMAX_TOLERANCE = 1e-6;
 
-    private Collection<Location> destinations;
+    private volatile Setup setup;
 
     /**
      * Constructs a location recommender with default destinations.
      */
     public LocationRecommender() {
-        destinations = LocationDataUtil.MEET_LOCATIONS;
+        initialise(LocationDataUtil.getMeetLocations());
     }
 
     /**
      * Sets up the recommender with the destinations that we want.
+     * The destinations are indexed here, so that every recommendation afterwards can reuse the index.
      */
     public void initialise(Collection<Location> destinations) {
-        this.destinations = destinations;
+        initialise(destinations, LocationObjective.MIDPOINT);
+    }
+
+    /**
+     * Sets up the recommender with the destinations that we want, recommending those best at the objective.
+     * The destinations are only listed out for the travel time objectives, which evaluate every one of them,
+     * as the other objectives only look up the index.
+     */
+    public void initialise(Collection<Location> destinations, LocationObjective objective) {
+        requireNonNull(objective);
+        List<Location> destinationList = objective == LocationObjective.TOTAL_TRAVEL_TIME
+                || objective == LocationObjective.MAX_TRAVEL_TIME
+                ? new ArrayList<>(destinations)
+                : null;
+        setup = new Setup(LocationDataUtil.getIndex(destinations), destinationList, objective);
     }
 
     /**
      * Recommends a set of destinations given a list of sources.
-     * @param sources Where people are coming from.
+     * @param sources Where people are coming from, with one entry for each person,
+     *                so that people coming from the same place are each counted.
      */
     public List<Location> recommend(Collection<Location> sources) {
         logger.info(String.format("Locations to consider: %s", sources.toString()));
 
+        Setup setup = this.setup;
+        switch (setup.objective) {
+        case TOTAL_DISTANCE:
+        case MAX_DISTANCE:
+            return recommendByDistance(setup, new ArrayList<>(sources));
+        case TOTAL_TRAVEL_TIME:
+        case MAX_TRAVEL_TIME:
+            return recommendByTravelTime(setup, sources);
+        default:
+            return recommendClosestToMidpoint(setup, sources);
+        }
+    }
+
+    /**
+     * Recommends the destinations closest to the midpoint of the sources,
+     * which are also those with the least sum of squared distances from the sources.
+     */
+    private List<Location> recommendClosestToMidpoint(Setup setup, Collection<Location> sources) {
         Location midpoint = DistanceUtil.getMidpoint(sources);
 
         logger.info(String.format("Midpoint: %s", midpoint));
 
-        List<Location> recommendedLocations =
-                DistanceUtil.getClosestPoints(midpoint, 10, destinations);
+        List<Location> recommendedLocations = setup.destinationIndex.getClosestPoints(midpoint, RECOMMENDATION_LIMIT);
 
         logger.info(recommendedLocations.toString());
 
         return recommendedLocations;
     }
+
+    /**
+     * Recommends the destinations with the least total distance, or the least distance to the furthest source.
+     * Destinations are evaluated outwards from the point that is best at the objective, in growing batches,
+     * until even the closest destination left cannot beat the recommendations found so far.
+     * Destinations that are equally good keep the order of their distance from that point.
+     */
+    private List<Location> recommendByDistance(Setup setup, List<Location> sources) {
+        LocationObjective objective = setup.objective;
+        DestinationIndex destinationIndex = setup.destinationIndex;
+        boolean isTotal = objective == LocationObjective.TOTAL_DISTANCE;
+        Location centre = isTotal
+                ? DistanceUtil.getGeometricMedian(sources)
+                : DistanceUtil.getMinimaxPoint(sources);
+        double centreCost = getDistanceCost(objective, sources, centre);
+
+        logger.info(String.format("Best meeting point: %s", centre));
+
+        int limit = Math.min(RECOMMENDATION_LIMIT, destinationIndex.size());
+        double[] bestCosts = new double[limit];
+        Location[] bestLocations = new Location[limit];
+        int bestCount = 0;
+        int evaluatedCount = 0;
+        for (int batchSize = limit; evaluatedCount < destinationIndex.size(); batchSize *= 2) {
+            List<Location> closestPoints = destinationIndex.getClosestPoints(centre, batchSize);
+            for (; evaluatedCount < closestPoints.size(); evaluatedCount++) {
+                Location destination = closestPoints.get(evaluatedCount);
+                double cost = getDistanceCost(objective, sources, destination);
+                if (bestCount == limit && cost >= bestCosts[limit - 1]) {
+                    continue;
+                }
+                int position = bestCount < limit ? bestCount++ : limit - 1;
+                for (; position > 0 && bestCosts[position - 1] > cost; position--) {
+                    bestCosts[position] = bestCosts[position - 1];
+                    bestLocations[position] = bestLocations[position - 1];
+                }
+                bestCosts[position] = cost;
+                bestLocations[position] = destination;
+            }
+
+            // every destination left is at least this far from the centre, so by the triangle inequality its total
+            // is at least n * reached - centreCost, and some source on the smallest enclosing circle is at least
+            // hypot(radius, reached) away from it
+            double reached = DistanceUtil.computeDistance(centre, closestPoints.get(evaluatedCount - 1));
+            double lowerBound = isTotal
+                    ? sources.size() * reached - centreCost
+                    : Math.hypot(centreCost, reached) - MINIMAX_TOLERANCE;
+            if (bestCount == limit && lowerBound > bestCosts[limit - 1]) {
+                break;
+            }
+        }
+
+        List<Location> recommendedLocations = new ArrayList<>(Arrays.asList(bestLocations).subList(0, bestCount));
+
+        logger.info(recommendedLocations.toString());
+
+        return recommendedLocations;
+    }
+
+    private static double getDistanceCost(LocationObjective objective, List<Location> sources,
+            Location destination) {
+        double cost = 0;
+        for (Location source : sources) {
+            double distance = DistanceUtil.computeDistance(source, destination);
+            cost = objective == LocationObjective.MAX_DISTANCE ? Math.max(cost, distance) : cost + distance;
+        }
+        return cost;
+    }
+
+    /**
+     * Recommends the destinations with the least travel time over the train network.
+     * The travel times from a place are only found once, however many people are coming from it.
+     * Destinations with the same travel time keep the order they were given in.
+     */
+    private List<Location> recommendByTravelTime(Setup setup, Collection<Location> sources) {
+        LocationObjective objective = setup.objective;
+        List<Location> destinations = setup.destinations;
+        TransitGraph transitGraph = LocationDataUtil.getTransitGraph();
+        Map<Location, Integer> numberOfPeople = new LinkedHashMap<>();
+        sources.forEach(source -> numberOfPeople.merge(source, 1, Integer::sum));
+
+        double[] costs = new double[destinations.size()];
+        for (Map.Entry<Location, Integer> entry : numberOfPeople.entrySet()) {
+            double[] travelTimes = transitGraph.getTravelTimes(entry.getKey(), destinations);
+            for (int i = 0; i < costs.length; i++) {
+                costs[i] = objective == LocationObjective.MAX_TRAVEL_TIME
+                        ? Math.max(costs[i], travelTimes[i])
+                        : costs[i] + entry.getValue() * travelTimes[i];
+            }
+        }
+
+        List<Location> recommendedLocations = IntStream.range(0, costs.length)
+                .boxed()
+                .sorted(Comparator.comparingDouble(i -> costs[i]))
+                .limit(RECOMMENDATION_LIMIT)
+                .map(destinations::get)
+                .collect(Collectors.toList());
+
+        logger.info(recommendedLocations.toString());
+
+        return recommendedLocations;
+    }
+
+    /**
+     * The destinations and objective that recommendations are made with, which are replaced together.
+     */
+    private static class Setup {
+        private final DestinationIndex destinationIndex;
+        /** The destinations in the order they were given, if the objective needs all of them. */
+        private final List<Location> destinations;
+        private final LocationObjective objective;
+
+        private Setup(DestinationIndex destinationIndex, List<Location> destinations, LocationObjective objective) {
+            this.destinationIndex = destinationIndex;
+            this.destinations = destinations;
+            this.objective = objective;
+        }
+    }
 }
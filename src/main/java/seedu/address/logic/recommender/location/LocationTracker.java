@@ -2,16 +2,10 @@ package seedu.address.logic.recommender.location;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
-import javafx.util.Pair;
 import seedu.address.model.commitment.Commitment;
 import seedu.address.model.location.Location;
 import seedu.address.model.location.util.DistanceUtil;
@@ -19,201 +13,207 @@ import seedu.address.model.person.Person;
 import seedu.address.model.time.Day;
 import seedu.address.model.time.HourBlock;
 import seedu.address.model.time.TimePeriod;
+import seedu.address.model.timetable.IntervalSchedule;
+import seedu.address.model.timetable.ReadOnlyIntervalSchedule;
+import seedu.address.model.timetable.TimeModel;
 import seedu.address.model.timetable.Timetable;
 
 /**
  * Follows a person around and can predict a person's location given a timing.
+ * The coordinates of every slot are kept in primitive arrays, so that filling in the slots between
+ * known locations and averaging over a timing do not create a {@code Location} for every hour.
  */
 public class LocationTracker {
-    private static final Integer[] START_TIMINGS = Timetable.START_TIMINGS;
-    private static final int EARLIEST_TIMING = START_TIMINGS[0];
-    private static final int LATEST_TIMING = START_TIMINGS[START_TIMINGS.length - 1];
-    private static final int NUMBER_OF_HOURS = START_TIMINGS.length;
+    private static final int NUMBER_OF_SLOTS = Timetable.NUMBER_OF_SLOTS;
     private final Person person;
-    private final HashMap<Day, ArrayList<Optional<Location>>> locations;
+    private final TimeModel timeModel;
+    private final ReadOnlyIntervalSchedule intervalSchedule;
 
     /**
-     * Constructor for a {@code LocationTracker} object.
+     * The latitude of the person in each slot, indexed by {@code Day#ordinal()} and then by slot.
+     * Slots without a commitment hold a point on the way between the known locations around them.
      */
-    public LocationTracker(Person person) {
-        this.person = person;
-        locations = new HashMap<>();
-        initialiseWithEmptyLocations();
-        initialiseWithSchedule();
-        fillUnknown();
-    }
+    private final double[][] latitudes;
 
     /**
-     * Creates an empty locations list.
+     * The longitude of the person in each slot, laid out like {@code latitudes}.
      */
-    private void initialiseWithEmptyLocations() {
-        for (Day day : Day.values()) {
-            locations.put(day, new ArrayList<>(Collections.nCopies(NUMBER_OF_HOURS, Optional.empty())));
-        }
-    }
+    private final double[][] longitudes;
 
     /**
-     * Uses the person schedule to populate the locations list.
+     * Constructor for a {@code LocationTracker} object that follows the person by the hour.
      */
-    private void initialiseWithSchedule() {
-        for (Map.Entry<Day, ArrayList<HourBlock>> entry : person.getTimetable().getSchedule().entrySet()) {
-            ArrayList<Optional<Location>> dayLocations = locations.get(entry.getKey());
-
-            entry.getValue().stream()
-                    .filter(hourBlock -> hourBlock.getCommitment().isPresent())
-                    .forEach(hourBlock -> setHourBlock(dayLocations, hourBlock));
-        };
+    public LocationTracker(Person person) {
+        this(person, TimeModel.HOURLY);
     }
 
     /**
-     * Converts an hour block into a more manageable index.
+     * Constructor for a {@code LocationTracker} object that follows the person with the given time model.
      */
-    private int getIndexFromHourBlock(HourBlock hourBlock) {
-        return hourBlock.getStartTime().getHourOfDay() - EARLIEST_TIMING;
+    public LocationTracker(Person person, TimeModel timeModel) {
+        this.person = person;
+        this.timeModel = timeModel;
+        this.intervalSchedule = timeModel == TimeModel.EXACT ? person.getIntervalSchedule() : null;
+        int numberOfDays = Day.values().length;
+        latitudes = new double[numberOfDays][NUMBER_OF_SLOTS];
+        longitudes = new double[numberOfDays][NUMBER_OF_SLOTS];
+        for (Day day : Day.values()) {
+            trackDay(day);
+        }
     }
 
     /**
-     * Gets the location from the hour block, and fills in the Location list.
+     * Uses the person schedule to fill in the slots of a day.
+     * The slots before the first commitment, between commitments and after the last commitment
+     * are spread evenly along the way, starting and ending the day at the home station.
      */
-    private void setHourBlock(ArrayList<Optional<Location>> dayLocations, HourBlock hourBlock) {
-        int indexOfHourBlock = getIndexFromHourBlock(hourBlock);
-        assert indexOfHourBlock >= 0 && indexOfHourBlock < NUMBER_OF_HOURS;
-
-        dayLocations.set(indexOfHourBlock, getLocationFromHourBlock(hourBlock));
+    private void trackDay(Day day) {
+        Timetable timetable = person.getTimetable();
+        Location homeStation = person.getStation().getValue();
+        double[] dayLatitudes = latitudes[day.ordinal()];
+        double[] dayLongitudes = longitudes[day.ordinal()];
+
+        int lastKnownSlot = -1;
+        double lastLatitude = homeStation.getLatitude();
+        double lastLongitude = homeStation.getLongitude();
+        int occupiedSlots = timetable.getOccupancy(day);
+        while (occupiedSlots != 0) {
+            int slot = Integer.numberOfTrailingZeros(occupiedSlots);
+            occupiedSlots &= occupiedSlots - 1;
+            assert slot >= 0 && slot < NUMBER_OF_SLOTS;
+            Optional<Location> location = timetable.getCommitment(day, slot).map(Commitment::getLocation);
+            if (location.isEmpty()) {
+                continue;
+            }
+
+            double latitude = location.get().getLatitude();
+            double longitude = location.get().getLongitude();
+            dayLatitudes[slot] = latitude;
+            dayLongitudes[slot] = longitude;
+            interpolate(dayLatitudes, lastKnownSlot, lastLatitude, slot, latitude);
+            interpolate(dayLongitudes, lastKnownSlot, lastLongitude, slot, longitude);
+            lastKnownSlot = slot;
+            lastLatitude = latitude;
+            lastLongitude = longitude;
+        }
+        interpolate(dayLatitudes, lastKnownSlot, lastLatitude, NUMBER_OF_SLOTS, homeStation.getLatitude());
+        interpolate(dayLongitudes, lastKnownSlot, lastLongitude, NUMBER_OF_SLOTS, homeStation.getLongitude());
     }
 
     /**
-     * Gets the location from the hour block.
+     * Fills the slots strictly between two known slots with evenly spaced values from one to the other.
      */
-    private Optional<Location> getLocationFromHourBlock(HourBlock hourBlock) {
-        return hourBlock.getCommitment().map(Commitment::getLocation);
+    private static void interpolate(double[] values, int fromSlot, double fromValue, int toSlot, double toValue) {
+        double numberOfSteps = toSlot - fromSlot;
+        for (int slot = fromSlot + 1; slot < toSlot; slot++) {
+            double lambda = (slot - fromSlot) / numberOfSteps;
+            values[slot] = fromValue * (1 - lambda) + toValue * lambda;
+        }
     }
 
     /**
      * Gets the location of the person given a timing, consisting of the day as well.
      */
     public Optional<Location> getLocation(HourBlock hourBlock) {
-        return getLocation(hourBlock.getSchoolDay(), hourBlock.getStartTime().getHourOfDay());
-    }
-
-    /**
-     * Gets the location of the person given a day and hour.
-     */
-    private Optional<Location> getLocation(Day day, int hour) {
-        assert hour >= EARLIEST_TIMING && hour <= LATEST_TIMING;
-        return locations.get(day).get(hour - EARLIEST_TIMING);
+        return getLocation((TimePeriod) hourBlock);
     }
 
     /**
      * Gets the average location of a person within a time period.
+     * The slots covered by the time period are averaged directly from the coordinate arrays.
      */
     public Optional<Location> getLocation(TimePeriod timePeriod) {
         requireNonNull(timePeriod);
-        List<Location> locations =
-                timePeriod.fragmentIntoHourBlocks()
-                        .stream().map(this::getLocation)
-                        .filter(Optional::isPresent)
-                        .map(Optional::get)
-                        .collect(Collectors.toList());
-
-        return Optional.of(DistanceUtil.getMidpoint(locations));
-    }
-
-    /**
-     * Fills the unknown locations based on the last known and next known locations.
-     */
-    private void fillUnknown() {
-        Location homeStation = person.getStation().getValue();
-        Pair<Location, Integer> startPair = new Pair<>(homeStation, -1);
-        Pair<Location, Integer> endPair = new Pair<>(homeStation, NUMBER_OF_HOURS);
-
-        for (List<Optional<Location>> dayLocations : locations.values()) {
-            List<Pair<Location, Integer>> knownLocationIndices = new ArrayList<>();
-            knownLocationIndices.add(startPair);
-            knownLocationIndices.addAll(findKnownLocationIndices(dayLocations));
-            knownLocationIndices.add(endPair);
-            fillUnknownWithKnown(knownLocationIndices, dayLocations);
+        if (timeModel == TimeModel.EXACT) {
+            return getExactLocation(timePeriod);
         }
-    }
 
-    /**
-     * Finds the indices of times when we know the person's location.
-     */
-    private List<Pair<Location, Integer>> findKnownLocationIndices(List<Optional<Location>> dayLocations) {
-        List<Integer> knownIndices = IntStream.range(0, dayLocations.size() - 1)
-                .filter(i -> dayLocations.get(i).isPresent())
-                .boxed().collect(Collectors.toList());
-        List<Pair<Location, Integer>> knownLocationIndices = new ArrayList<>();
-
-        for (int index : knownIndices) {
-            assert dayLocations.get(index).isPresent();
-            knownLocationIndices.add(new Pair<>(dayLocations.get(index).get(), index));
+        int dayIndex = timePeriod.getSchoolDay().ordinal();
+        int fromSlot = Math.max(Timetable.getSlotIndex(timePeriod.getStartTime().getHourOfDay()), 0);
+        int toSlot = Math.min(Timetable.getSlotIndex(timePeriod.getEndTime().getHourOfDay()), NUMBER_OF_SLOTS);
+        if (fromSlot >= toSlot) {
+            return Optional.of(DistanceUtil.getMidpoint(List.of()));
         }
 
-        return knownLocationIndices;
+        double latitudeSum = 0;
+        double longitudeSum = 0;
+        for (int slot = fromSlot; slot < toSlot; slot++) {
+            latitudeSum += latitudes[dayIndex][slot];
+            longitudeSum += longitudes[dayIndex][slot];
+        }
+        int numberOfSlots = toSlot - fromSlot;
+        return Optional.of(new Location(latitudeSum / numberOfSlots, longitudeSum / numberOfSlots));
     }
 
     /**
-     * Looks for the last known and next known locations.
-     * Uses these to fill up the unknown locations.
+     * Gets the average location of a person within a time period, using the exact commitments.
+     * If the person has no commitment during the period, the person is somewhere between
+     * the last and next known locations of the day.
      */
-    private void fillUnknownWithKnown(
-            List<Pair<Location, Integer>> knownLocationIndices, List<Optional<Location>> dayLocations) {
+    private Optional<Location> getExactLocation(TimePeriod timePeriod) {
+        List<Location> locations = intervalSchedule.getClashingCommitments(timePeriod).stream()
+                .map(Commitment::getLocation)
+                .collect(Collectors.toList());
 
-        Pair<Location, Integer> currLocationIndex = knownLocationIndices.get(0);
-        for (Pair<Location, Integer> locationIndex : knownLocationIndices) {
-            fillUnknownWithStartEnd(currLocationIndex, locationIndex, dayLocations);
-            currLocationIndex = locationIndex;
+        if (locations.isEmpty()) {
+            locations = List.of(getLocationBefore(timePeriod), getLocationAfter(timePeriod));
         }
+
+        return Optional.of(DistanceUtil.getMidpoint(locations));
     }
 
     /**
-     * Fills a range of unknown locations with known ones.
+     * Gets where the person is coming from just before the time period,
+     * which is the home station if the time period starts the day.
      */
-    private void fillUnknownWithStartEnd(
-            Pair<Location, Integer> startLocationIndex,
-            Pair<Location, Integer> endLocationIndex,
-            List<Optional<Location>> dayLocations) {
-        int startIndex = startLocationIndex.getValue();
-        int endIndex = endLocationIndex.getValue();
-        Location startLocation = startLocationIndex.getKey();
-        Location endLocation = endLocationIndex.getKey();
-
-        // number of unknown hours between the two known locations
-        int n = endIndex - startIndex - 1;
-
-        // we don't do anything if there are no unknown hours in between
-        if (n < 1) {
-            return;
+    public Location getLocationBefore(TimePeriod timePeriod) {
+        requireNonNull(timePeriod);
+        Location homeStation = person.getStation().getValue();
+        Day day = timePeriod.getSchoolDay();
+        if (timeModel == TimeModel.EXACT) {
+            return intervalSchedule
+                    .getCommitmentBefore(day, IntervalSchedule.toMinuteOfDay(timePeriod.getStartTime()))
+                    .map(Commitment::getLocation)
+                    .orElse(homeStation);
         }
 
-        List<Location> fillLocations = DistanceUtil.getApproximateLocations(startLocation, endLocation, n);
-        fillWithApproximateLocations(dayLocations, fillLocations, startIndex);
+        int slot = Timetable.getSlotIndex(timePeriod.getStartTime().getHourOfDay()) - 1;
+        return slot >= 0 && slot < NUMBER_OF_SLOTS
+                ? new Location(latitudes[day.ordinal()][slot], longitudes[day.ordinal()][slot])
+                : homeStation;
     }
 
     /**
-     * Fills a range of empty locations with known ones.
+     * Gets where the person is going to just after the time period,
+     * which is the home station if the time period ends the day.
      */
-    private void fillWithApproximateLocations(
-            List<Optional<Location>> dayLocations,
-            List<Location> fillLocations,
-            int startIndex) {
-        for (int i = 0; i < fillLocations.size(); i++) {
-            int indexToFill = i + startIndex + 1;
-            assert dayLocations.get(indexToFill).isEmpty();
-
-            dayLocations.set(indexToFill, Optional.of(fillLocations.get(i)));
+    public Location getLocationAfter(TimePeriod timePeriod) {
+        requireNonNull(timePeriod);
+        Location homeStation = person.getStation().getValue();
+        Day day = timePeriod.getSchoolDay();
+        if (timeModel == TimeModel.EXACT) {
+            return intervalSchedule
+                    .getCommitmentAfter(day, IntervalSchedule.toMinuteOfDay(timePeriod.getEndTime()))
+                    .map(Commitment::getLocation)
+                    .orElse(homeStation);
         }
+
+        int slot = Timetable.getSlotIndex(timePeriod.getEndTime().getHourOfDay());
+        return slot >= 0 && slot < NUMBER_OF_SLOTS
+                ? new Location(latitudes[day.ordinal()][slot], longitudes[day.ordinal()][slot])
+                : homeStation;
     }
 
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
         for (Day day : Day.values()) {
-            sb.append(locations.get(day).stream()
-                    .map(lc -> lc.orElse(Location.NUS))
-                    .map(Location::toString)
-                    .collect(Collectors.joining(", ")));
+            for (int slot = 0; slot < NUMBER_OF_SLOTS; slot++) {
+                if (slot > 0) {
+                    sb.append(", ");
+                }
+                sb.append(String.format("[%s %s]", latitudes[day.ordinal()][slot], longitudes[day.ordinal()][slot]));
+            }
             sb.append("\n");
         }
         return sb.toString();
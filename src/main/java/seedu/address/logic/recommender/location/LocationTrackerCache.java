@@ -0,0 +1,54 @@
+package seedu.address.logic.recommender.location;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.timetable.TimeModel;
+
+/**
+ * Keeps the location trackers of persons between recommendations,
+ * so that a person's schedule is only walked again after the person is edited.
+ * Persons are told apart by identity, and an edited person has to be invalidated by whoever edits it.
+ */
+public class LocationTrackerCache {
+
+    private final Map<Person, LocationTracker[]> trackers = new IdentityHashMap<>();
+
+    /**
+     * Returns the location tracker of the person with the time model, creating it the first time.
+     */
+    public synchronized LocationTracker get(Person person, TimeModel timeModel) {
+        requireNonNull(person);
+        requireNonNull(timeModel);
+        LocationTracker[] personTrackers = trackers.computeIfAbsent(person, key ->
+                new LocationTracker[TimeModel.values().length]);
+        if (personTrackers[timeModel.ordinal()] == null) {
+            personTrackers[timeModel.ordinal()] = new LocationTracker(person, timeModel);
+        }
+        return personTrackers[timeModel.ordinal()];
+    }
+
+    /**
+     * Drops the location trackers of the person, if there are any.
+     */
+    public synchronized void invalidate(Person person) {
+        trackers.remove(person);
+    }
+
+    /**
+     * Drops every location tracker.
+     */
+    public synchronized void clear() {
+        trackers.clear();
+    }
+
+    /**
+     * Returns the number of persons with location trackers.
+     */
+    public synchronized int size() {
+        return trackers.size();
+    }
+}
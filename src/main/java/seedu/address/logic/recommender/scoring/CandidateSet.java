@@ -0,0 +1,180 @@
+package seedu.address.logic.recommender.scoring;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+import seedu.address.logic.recommender.location.LocationTracker;
+import seedu.address.model.location.Location;
+import seedu.address.model.location.util.DistanceUtil;
+import seedu.address.model.recommendation.Recommendation;
+import seedu.address.model.time.TimePeriod;
+
+/**
+ * The pairs of timing and location that could be recommended for a meetup, together with what is needed to score them.
+ * Where the participants are around each timing is looked up once when the set is made,
+ * and kept with the coordinates of every candidate in primitive arrays, so that measuring thousands of candidates
+ * does not look up a {@code LocationTracker} or create a {@code Location} for each of them.
+ */
+public class CandidateSet {
+
+    private final List<TimePeriod> timings;
+    private final int numberOfParticipants;
+
+    /**
+     * The length in minutes and the fraction of participants free, indexed by timing.
+     */
+    private final double[] slotLengths;
+    private final double[] attendanceRatios;
+
+    /**
+     * Where each participant is during, just before and just after each timing, indexed by
+     * {@code timing * numberOfParticipants + participant}.
+     */
+    private final double[] sourceLatitudes;
+    private final double[] sourceLongitudes;
+    private final double[] beforeLatitudes;
+    private final double[] beforeLongitudes;
+    private final double[] afterLatitudes;
+    private final double[] afterLongitudes;
+
+    /**
+     * The timing and location of each candidate, in the order they were given.
+     */
+    private final int[] candidateTimings;
+    private final Location[] candidateLocations;
+    private final double[] candidateLatitudes;
+    private final double[] candidateLongitudes;
+
+    /**
+     * Constructs a {@code CandidateSet} pairing each timing with each of its locations.
+     * @param timings The timings, in the order that candidates that score the same should be recommended.
+     * @param locationsOfTimings The locations to consider for each timing, in the same order as the timings.
+     * @param trackers The location trackers of the participants.
+     * @param attendance Counts the participants that are free for the whole of a timing.
+     */
+    public CandidateSet(List<TimePeriod> timings, List<List<Location>> locationsOfTimings,
+            Collection<LocationTracker> trackers, ToIntFunction<TimePeriod> attendance) {
+        requireAllNonNull(timings, locationsOfTimings, trackers, attendance);
+        assert timings.size() == locationsOfTimings.size();
+        this.timings = new ArrayList<>(timings);
+        this.numberOfParticipants = trackers.size();
+
+        int numberOfTimings = timings.size();
+        slotLengths = new double[numberOfTimings];
+        attendanceRatios = new double[numberOfTimings];
+        sourceLatitudes = new double[numberOfTimings * numberOfParticipants];
+        sourceLongitudes = new double[sourceLatitudes.length];
+        beforeLatitudes = new double[sourceLatitudes.length];
+        beforeLongitudes = new double[sourceLatitudes.length];
+        afterLatitudes = new double[sourceLatitudes.length];
+        afterLongitudes = new double[sourceLatitudes.length];
+        for (int t = 0; t < numberOfTimings; t++) {
+            TimePeriod timing = timings.get(t);
+            slotLengths[t] = timing.getDurationInMinutes();
+            attendanceRatios[t] = numberOfParticipants == 0
+                    ? 1
+                    : (double) attendance.applyAsInt(timing) / numberOfParticipants;
+            int offset = t * numberOfParticipants;
+            for (LocationTracker tracker : trackers) {
+                Location before = tracker.getLocationBefore(timing);
+                Location source = tracker.getLocation(timing).orElse(before);
+                Location after = tracker.getLocationAfter(timing);
+                sourceLatitudes[offset] = source.getLatitude();
+                sourceLongitudes[offset] = source.getLongitude();
+                beforeLatitudes[offset] = before.getLatitude();
+                beforeLongitudes[offset] = before.getLongitude();
+                afterLatitudes[offset] = after.getLatitude();
+                afterLongitudes[offset] = after.getLongitude();
+                offset++;
+            }
+        }
+
+        int size = locationsOfTimings.stream().mapToInt(List::size).sum();
+        candidateTimings = new int[size];
+        candidateLocations = new Location[size];
+        candidateLatitudes = new double[size];
+        candidateLongitudes = new double[size];
+        int candidate = 0;
+        for (int t = 0; t < numberOfTimings; t++) {
+            for (Location location : locationsOfTimings.get(t)) {
+                candidateTimings[candidate] = t;
+                candidateLocations[candidate] = location;
+                candidateLatitudes[candidate] = location.getLatitude();
+                candidateLongitudes[candidate] = location.getLongitude();
+                candidate++;
+            }
+        }
+    }
+
+    public int size() {
+        return candidateTimings.length;
+    }
+
+    public int getNumberOfTimings() {
+        return timings.size();
+    }
+
+    /**
+     * Gets the index of the timing of the candidate, in the order the timings were given.
+     */
+    public int getTimingIndex(int candidate) {
+        return candidateTimings[candidate];
+    }
+
+    public Location getLocation(int candidate) {
+        return candidateLocations[candidate];
+    }
+
+    /**
+     * Gets the candidate as a recommendation.
+     */
+    public Recommendation getRecommendation(int candidate) {
+        return new Recommendation(candidateLocations[candidate], timings.get(candidateTimings[candidate]));
+    }
+
+    /**
+     * Measures every component of every candidate in one pass over the candidates.
+     * @return The measurements indexed by {@code ScoreComponent#ordinal()} and then by candidate,
+     *         in the unit of each component.
+     */
+    public double[][] measure() {
+        int size = size();
+        double[][] measurements = new double[ScoreComponent.values().length][size];
+        double[] slotLengthMeasurements = measurements[ScoreComponent.SLOT_LENGTH.ordinal()];
+        double[] totalDistances = measurements[ScoreComponent.TOTAL_DISTANCE.ordinal()];
+        double[] maxDistances = measurements[ScoreComponent.MAX_DISTANCE.ordinal()];
+        double[] attendanceMeasurements = measurements[ScoreComponent.ATTENDANCE.ordinal()];
+        double[] commitmentDistances = measurements[ScoreComponent.COMMITMENT_DISTANCE.ordinal()];
+
+        for (int candidate = 0; candidate < size; candidate++) {
+            int timing = candidateTimings[candidate];
+            double latitude = candidateLatitudes[candidate];
+            double longitude = candidateLongitudes[candidate];
+
+            double totalDistance = 0;
+            double maxDistance = 0;
+            double commitmentDistance = 0;
+            int end = (timing + 1) * numberOfParticipants;
+            for (int i = timing * numberOfParticipants; i < end; i++) {
+                double distance = DistanceUtil.computeDistance(sourceLatitudes[i], sourceLongitudes[i],
+                        latitude, longitude);
+                totalDistance += distance;
+                maxDistance = Math.max(maxDistance, distance);
+                commitmentDistance += DistanceUtil.computeDistance(beforeLatitudes[i], beforeLongitudes[i],
+                        latitude, longitude)
+                        + DistanceUtil.computeDistance(latitude, longitude, afterLatitudes[i], afterLongitudes[i]);
+            }
+
+            slotLengthMeasurements[candidate] = slotLengths[timing];
+            totalDistances[candidate] = totalDistance;
+            maxDistances[candidate] = maxDistance;
+            attendanceMeasurements[candidate] = attendanceRatios[timing];
+            commitmentDistances[candidate] = commitmentDistance;
+        }
+        return measurements;
+    }
+}
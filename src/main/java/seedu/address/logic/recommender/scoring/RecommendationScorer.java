@@ -0,0 +1,220 @@
+package seedu.address.logic.recommender.scoring;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import seedu.address.model.location.Location;
+import seedu.address.model.recommendation.Recommendation;
+
+/**
+ * Scores candidate recommendations by a weighted sum of their score components, and picks the best of them.
+ * Each component is scaled to between 0 and 1 over the candidates before it is weighed,
+ * so that the weights say how much each component matters rather than depending on its unit.
+ * Only components with a positive weight are measured against one another.
+ */
+public class RecommendationScorer {
+
+    public static final String MESSAGE_UNKNOWN_COMPONENT = "Unknown score component: %s";
+    public static final String MESSAGE_INVALID_WEIGHT = "Weight of %s must be a non-negative number: %s";
+    public static final String MESSAGE_NO_POSITIVE_WEIGHT = "At least one score component must have a positive weight";
+
+    /**
+     * The weight of each component, indexed by {@code ScoreComponent#ordinal()}.
+     */
+    private final double[] weights;
+
+    /**
+     * The components with a positive weight.
+     */
+    private final ScoreComponent[] activeComponents;
+
+    /**
+     * Constructs a {@code RecommendationScorer} with the weight of each component,
+     * where components that are left out have no weight.
+     * @throws IllegalArgumentException if a weight is negative or not finite, or if no weight is positive.
+     */
+    public RecommendationScorer(Map<ScoreComponent, Double> weights) {
+        requireNonNull(weights);
+        this.weights = new double[ScoreComponent.values().length];
+        for (Map.Entry<ScoreComponent, Double> entry : weights.entrySet()) {
+            Double weight = entry.getValue();
+            if (weight == null || !Double.isFinite(weight) || weight < 0) {
+                throw new IllegalArgumentException(String.format(MESSAGE_INVALID_WEIGHT, entry.getKey(), weight));
+            }
+            this.weights[entry.getKey().ordinal()] = weight;
+        }
+        activeComponents = Arrays.stream(ScoreComponent.values())
+                .filter(component -> this.weights[component.ordinal()] > 0)
+                .toArray(ScoreComponent[]::new);
+        if (activeComponents.length == 0) {
+            throw new IllegalArgumentException(MESSAGE_NO_POSITIVE_WEIGHT);
+        }
+    }
+
+    /**
+     * Constructs a {@code RecommendationScorer} with the weights given by the names of their components,
+     * such as those read from the config file. Names are not case-sensitive.
+     * @throws IllegalArgumentException if a name is not a score component, or the weights are invalid.
+     */
+    public static RecommendationScorer of(Map<String, Double> weightsByName) {
+        requireNonNull(weightsByName);
+        Map<ScoreComponent, Double> weights = new EnumMap<>(ScoreComponent.class);
+        for (Map.Entry<String, Double> entry : weightsByName.entrySet()) {
+            try {
+                weights.put(ScoreComponent.valueOf(entry.getKey().trim().toUpperCase(Locale.ROOT)), entry.getValue());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException(String.format(MESSAGE_UNKNOWN_COMPONENT, entry.getKey()), e);
+            }
+        }
+        return new RecommendationScorer(weights);
+    }
+
+    public double getWeight(ScoreComponent component) {
+        return weights[component.ordinal()];
+    }
+
+    /**
+     * Scores every candidate, where a higher score is better.
+     */
+    public double[] score(CandidateSet candidates) {
+        requireNonNull(candidates);
+        return weigh(scale(candidates.measure()), candidates.size());
+    }
+
+    /**
+     * Picks at most {@code limit} candidates as recommendations, no two of which share a timing or a location.
+     * Candidates are picked from the candidates that no other candidate left beats on every component,
+     * from the highest score down, and only once none of those can be picked are the candidates they beat
+     * considered. Candidates with the same score are picked in the order they were given.
+     */
+    public List<Recommendation> recommend(CandidateSet candidates, int limit) {
+        requireNonNull(candidates);
+        double[][] values = scale(candidates.measure());
+        double[] scores = weigh(values, candidates.size());
+        int[] remaining = IntStream.range(0, candidates.size())
+                .boxed()
+                .sorted(Comparator.comparingDouble(candidate -> -scores[candidate]))
+                .mapToInt(Integer::intValue)
+                .toArray();
+
+        boolean[] isTimingUsed = new boolean[candidates.getNumberOfTimings()];
+        Set<Location> usedLocations = new HashSet<>();
+        List<Recommendation> recommendations = new ArrayList<>();
+        int remainingCount = remaining.length;
+        while (recommendations.size() < limit && remainingCount > 0) {
+            // a candidate that beats another on every component also has a higher score, so every candidate
+            // is only compared with those ahead of it
+            int[] dominated = new int[remainingCount];
+            int dominatedCount = 0;
+            for (int i = 0; i < remainingCount; i++) {
+                int candidate = remaining[i];
+                if (isDominated(values, remaining, i)) {
+                    dominated[dominatedCount++] = candidate;
+                    continue;
+                }
+                int timing = candidates.getTimingIndex(candidate);
+                Location location = candidates.getLocation(candidate);
+                if (recommendations.size() < limit && !isTimingUsed[timing] && !usedLocations.contains(location)) {
+                    recommendations.add(candidates.getRecommendation(candidate));
+                    isTimingUsed[timing] = true;
+                    usedLocations.add(location);
+                }
+            }
+
+            remainingCount = 0;
+            for (int i = 0; i < dominatedCount; i++) {
+                int candidate = dominated[i];
+                if (!isTimingUsed[candidates.getTimingIndex(candidate)]
+                        && !usedLocations.contains(candidates.getLocation(candidate))) {
+                    remaining[remainingCount++] = candidate;
+                }
+            }
+        }
+        return recommendations;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RecommendationScorer // instanceof handles nulls
+                && Arrays.equals(weights, ((RecommendationScorer) other).weights));
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(weights);
+    }
+
+    /**
+     * Scales the measurements of each component with a weight to between 0 and 1 in place, with 1 being the best.
+     * Components that measure the same for every candidate are 1 for all of them.
+     */
+    private double[][] scale(double[][] measurements) {
+        for (ScoreComponent component : activeComponents) {
+            double[] values = measurements[component.ordinal()];
+            double min = Double.POSITIVE_INFINITY;
+            double max = Double.NEGATIVE_INFINITY;
+            for (double value : values) {
+                min = Math.min(min, value);
+                max = Math.max(max, value);
+            }
+            double range = max - min;
+            for (int i = 0; i < values.length; i++) {
+                if (range == 0) {
+                    values[i] = 1;
+                } else {
+                    values[i] = component.isHigherBetter() ? (values[i] - min) / range : (max - values[i]) / range;
+                }
+            }
+        }
+        return measurements;
+    }
+
+    private double[] weigh(double[][] values, int size) {
+        double[] scores = new double[size];
+        for (ScoreComponent component : activeComponents) {
+            double weight = weights[component.ordinal()];
+            double[] componentValues = values[component.ordinal()];
+            for (int i = 0; i < size; i++) {
+                scores[i] += weight * componentValues[i];
+            }
+        }
+        return scores;
+    }
+
+    /**
+     * Checks whether a candidate ahead of the one at {@code position} is at least as good on every component
+     * with a weight, and better on one of them.
+     */
+    private boolean isDominated(double[][] values, int[] order, int position) {
+        int candidate = order[position];
+        for (int i = 0; i < position; i++) {
+            int other = order[i];
+            boolean isBetter = false;
+            boolean isWorse = false;
+            for (ScoreComponent component : activeComponents) {
+                double[] componentValues = values[component.ordinal()];
+                if (componentValues[other] > componentValues[candidate]) {
+                    isBetter = true;
+                } else if (componentValues[other] < componentValues[candidate]) {
+                    isWorse = true;
+                    break;
+                }
+            }
+            if (isBetter && !isWorse) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,44 @@
+package seedu.address.logic.recommender.scoring;
+
+/**
+ * Represents a part of the score of a recommendation, which is weighed against the other parts.
+ * Each part is measured in its own unit, and is scaled to between 0 and 1 over the candidates being compared,
+ * with 1 being the best, before it is weighed.
+ */
+public enum ScoreComponent {
+    /**
+     * The length of the timing in minutes, where longer is better.
+     */
+    SLOT_LENGTH(true),
+
+    /**
+     * The total distance from where the participants are during the timing to the location, where less is better.
+     */
+    TOTAL_DISTANCE(false),
+
+    /**
+     * The distance from the furthest participant to the location, where less is better.
+     */
+    MAX_DISTANCE(false),
+
+    /**
+     * The fraction of participants that are free for the whole timing, where more is better.
+     */
+    ATTENDANCE(true),
+
+    /**
+     * The total distance to the location from where the participants are just before the timing,
+     * and from the location to where they are going just after it, where less is better.
+     */
+    COMMITMENT_DISTANCE(false);
+
+    private final boolean isHigherBetter;
+
+    ScoreComponent(boolean isHigherBetter) {
+        this.isHigherBetter = isHigherBetter;
+    }
+
+    public boolean isHigherBetter() {
+        return isHigherBetter;
+    }
+}
@@ -2,21 +2,28 @@ package seedu.address.logic.recommender.timing;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.ToLongFunction;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.CollectionUtil;
 import seedu.address.logic.parser.IndexHandler;
 import seedu.address.model.Model;
 import seedu.address.model.person.ContactIndex;
 import seedu.address.model.person.Person;
 import seedu.address.model.time.Day;
 import seedu.address.model.time.HourBlock;
+import seedu.address.model.time.SchedulingHorizon;
 import seedu.address.model.time.TimePeriod;
 import seedu.address.model.time.util.TimeUtil;
+import seedu.address.model.timetable.AvailabilityCount;
+import seedu.address.model.timetable.AvailabilityMask;
+import seedu.address.model.timetable.IntervalSchedule;
+import seedu.address.model.timetable.ReadOnlyIntervalSchedule;
+import seedu.address.model.timetable.TimeModel;
 import seedu.address.model.timetable.Timetable;
 
 /**
@@ -27,16 +34,44 @@ public class TimingRecommender {
 
     private static final Logger logger = LogsCenter.getLogger(TimingRecommender.class);
     private List<Timetable> schedules;
+    private List<AvailabilityMask> availabilityMasks;
+    private List<ReadOnlyIntervalSchedule> intervalSchedules;
     private Model model;
     private List<Person> participants;
+    private final TimeModel timeModel;
+    private final SchedulingHorizon horizon;
 
     /**
-     * Constructs a timing.
+     * Constructs a timing that reads schedules by the hour.
      * @param model
      */
     public TimingRecommender(Model model) {
+        this(model, TimeModel.HOURLY);
+    }
+
+    /**
+     * Constructs a timing that reads schedules with the given time model.
+     * @param model
+     * @param timeModel
+     */
+    public TimingRecommender(Model model, TimeModel timeModel) {
+        this(model, timeModel, SchedulingHorizon.SCHOOL_WEEK);
+    }
+
+    /**
+     * Constructs a timing that reads schedules with the given time model,
+     * recommending only on the days of the horizon.
+     * @param model
+     * @param timeModel
+     * @param horizon
+     */
+    public TimingRecommender(Model model, TimeModel timeModel, SchedulingHorizon horizon) {
         this.model = model;
+        this.timeModel = timeModel;
+        this.horizon = horizon;
         this.schedules = new ArrayList<>();
+        this.availabilityMasks = new ArrayList<>();
+        this.intervalSchedules = new ArrayList<>();
         this.participants = new ArrayList<>();
     }
 
@@ -54,20 +89,45 @@ public class TimingRecommender {
         return this;
     }
 
+    /**
+     * Initialises the timing with participants that have already been looked up.
+     * @param participants The people to find timings for, such as one of the groups of a batch.
+     */
+    public TimingRecommender initialisePersons(Collection<Person> participants) {
+        addPersons(participants);
+        return this;
+    }
+
     /**
      * Adds participants from the model by their ContactIndex.
      */
     private void addParticipants(Collection<ContactIndex> participantIndices) {
         IndexHandler indexHandler = new IndexHandler(model);
-        // Fill participants into participants
-        participantIndices.stream().map(indexHandler::getPersonByIndex)
+        addPersons(participantIndices.stream().map(indexHandler::getPersonByIndex)
                 .filter(Optional::isPresent)
                 .map(Optional::get)
-                .forEach(this.participants::add);
+                .collect(Collectors.toList()));
+    }
 
-        this.participants.stream()
+    /**
+     * Adds the schedules of the participants.
+     */
+    private void addPersons(Collection<Person> persons) {
+        persons.forEach(this.participants::add);
+
+        persons.stream()
                 .map(Person::getTimetable)
                 .forEach(this.schedules::add);
+
+        persons.stream()
+                .map(Person::getAvailabilityMask)
+                .forEach(this.availabilityMasks::add);
+
+        if (timeModel == TimeModel.EXACT) {
+            persons.stream()
+                    .map(Person::getIntervalSchedule)
+                    .forEach(this.intervalSchedules::add);
+        }
     }
 
     /**
@@ -75,15 +135,41 @@ public class TimingRecommender {
      */
     public void addTimetable(Timetable timetable) {
         this.schedules.add(timetable);
+        this.availabilityMasks.add(AvailabilityMask.of(timetable));
+    }
+
+    /**
+     * Adds an exact schedule to collate all schedules.
+     */
+    public void addIntervalSchedule(ReadOnlyIntervalSchedule intervalSchedule) {
+        this.intervalSchedules.add(intervalSchedule);
     }
 
     /**
      * Recommends the longest common timing that is available.
      */
     public Optional<TimePeriod> giveLongestTimingRecommendation() {
-        List<TimePeriod> periods = getAllTimings();
-        return periods.stream()
-                .max(Comparator.comparing(TimePeriod::getHoursBetween));
+        return giveTopTimingRecommendations(1, TimingScore.LONGEST).stream().findFirst();
+    }
+
+    /**
+     * Counts how many participants are free in each slot.
+     */
+    public AvailabilityCount getAvailabilityCount() {
+        return new AvailabilityCount(availabilityMasks);
+    }
+
+    /**
+     * Recommends timings where at least {@code minimumAttendance} participants are free,
+     * preferring timings that more participants can attend, then longer timings.
+     * Attendance is always counted on the hourly slots.
+     * @param minimumAttendance least number of participants that must be free.
+     * @param limit number of recommendations.
+     */
+    public List<TimePeriod> giveQuorumTimingRecommendations(int minimumAttendance, int limit) {
+        return getAvailabilityCount().getQuorumPeriods(minimumAttendance, horizon).stream()
+                .limit(limit)
+                .collect(Collectors.toList());
     }
 
     /**
@@ -91,21 +177,36 @@ public class TimingRecommender {
      * @param limit number of recommendations.
      */
     public List<TimePeriod> giveLongestTimingRecommendations(int limit) {
-        List<TimePeriod> periods = getAllTimings();
-        return periods.stream()
-            .sorted(Comparator.comparing(TimePeriod::getHoursBetween).reversed())
-            .limit(limit)
-            .collect(Collectors.toList());
+        return giveTopTimingRecommendations(limit, TimingScore.LONGEST);
     }
 
     /**
-     * Get all Time Periods that everyone is free.
+     * Recommends the common available timings with the highest scores, from the highest score down.
+     * Timings with the same score are recommended by day, then by start time.
+     * @param limit number of recommendations.
+     * @param scorer how each timing is scored, such as a {@code TimingScore}.
+     */
+    public List<TimePeriod> giveTopTimingRecommendations(int limit, ToLongFunction<? super TimePeriod> scorer) {
+        return CollectionUtil.getTopK(getAllTimings(), scorer, limit);
+    }
+
+    /**
+     * Gets the slots of the week where every participant is free.
+     */
+    public AvailabilityMask getCommonAvailability() {
+        return AvailabilityMask.intersect(availabilityMasks);
+    }
+
+    /**
+     * Get all Time Periods in a week of the horizon that everyone is free.
      */
     public List<TimePeriod> getAllTimings() {
+        AvailabilityMask commonAvailability = timeModel == TimeModel.EXACT ? null : getCommonAvailability();
         List<TimePeriod> periods = new ArrayList<>();
-        for (Day day : Day.values()) {
-            List<HourBlock> availableHourBlocks = TimeUtil.getFreeCommonIntervals(day, schedules);
-            periods.addAll(TimeUtil.mergeTimeSlots(availableHourBlocks));
+        for (Day day : horizon.getDays()) {
+            periods.addAll(timeModel == TimeModel.EXACT
+                    ? IntervalSchedule.getCommonFreePeriods(day, intervalSchedules)
+                    : commonAvailability.toTimePeriods(day));
         }
         logger.info(String.format("%d possible timings", periods.size()));
         return periods;
@@ -115,8 +216,9 @@ public class TimingRecommender {
      * Get all Time Periods that everyone is free on that school day.
      */
     public List<TimePeriod> getAllTimings(Day schoolDay) {
-        List<HourBlock> availableHourBlocks = TimeUtil.getFreeCommonIntervals(schoolDay, schedules);
-        return new ArrayList<>(TimeUtil.mergeTimeSlots(availableHourBlocks));
+        return timeModel == TimeModel.EXACT
+                ? IntervalSchedule.getCommonFreePeriods(schoolDay, intervalSchedules)
+                : getCommonAvailability().toTimePeriods(schoolDay);
     }
 
     /**
@@ -124,7 +226,7 @@ public class TimingRecommender {
      */
     public List<HourBlock> getAllHourBlocks() {
         List<HourBlock> blocks = new ArrayList<>();
-        for (Day day : Day.values()) {
+        for (Day day : horizon.getDays()) {
             List<HourBlock> availableHourBlocks = TimeUtil.getFreeCommonIntervals(day, schedules);
             blocks.addAll(availableHourBlocks);
         }
@@ -135,6 +237,18 @@ public class TimingRecommender {
         return schedules;
     }
 
+    public List<ReadOnlyIntervalSchedule> getIntervalSchedules() {
+        return intervalSchedules;
+    }
+
+    public TimeModel getTimeModel() {
+        return timeModel;
+    }
+
+    public SchedulingHorizon getHorizon() {
+        return horizon;
+    }
+
     public Model getModel() {
         return model;
     }
@@ -0,0 +1,34 @@
+package seedu.address.logic.recommender.timing;
+
+import java.util.function.ToLongFunction;
+
+import seedu.address.model.time.TimePeriod;
+import seedu.address.model.time.util.TimeUtil;
+
+/**
+ * Represents how timings are ranked, with higher scores recommended first.
+ * Scores are primitive so that the best timings can be picked without boxing every candidate.
+ */
+public enum TimingScore implements ToLongFunction<TimePeriod> {
+    /**
+     * Ranks longer timings first.
+     */
+    LONGEST {
+        @Override
+        public long applyAsLong(TimePeriod timePeriod) {
+            return timePeriod.getDurationInMinutes();
+        }
+    },
+
+    /**
+     * Ranks longer timings first, then timings that start earlier in the week.
+     */
+    LONGEST_THEN_EARLIEST {
+        @Override
+        public long applyAsLong(TimePeriod timePeriod) {
+            int minuteOfWeek = TimeUtil.toMinuteOfWeek(timePeriod.getSchoolDay(), timePeriod.getStartTime());
+            return (long) timePeriod.getDurationInMinutes() * TimeUtil.MINUTES_PER_WEEK
+                    + (TimeUtil.MINUTES_PER_WEEK - 1 - minuteOfWeek);
+        }
+    }
+}
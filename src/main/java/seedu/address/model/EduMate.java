@@ -167,6 +167,21 @@ public class EduMate implements ReadOnlyEduMate {
         recommendations.add(p);
     }
 
+    /**
+     * Adds the recommendations to the address book at once.
+     * Those that already exist in the address book are skipped.
+     */
+    public void addRecommendations(List<Recommendation> recommendations) {
+        this.recommendations.addAll(recommendations);
+    }
+
+    /**
+     * Returns the recommendations that {@link #addRecommendations(List)} would add, in order.
+     */
+    public List<Recommendation> getNewRecommendations(List<Recommendation> recommendations) {
+        return this.recommendations.getNewRecommendations(recommendations);
+    }
+
     /**
      * Replaces the given recommendation {@code target} in the list with {@code editedRecommendation}.
      * {@code target} must exist in the address book.
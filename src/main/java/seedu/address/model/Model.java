@@ -9,6 +9,9 @@ import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.logic.recommender.RecommendationCache;
+import seedu.address.logic.recommender.RecommenderSettings;
+import seedu.address.logic.recommender.location.LocationTracker;
 import seedu.address.model.meetup.MeetUp;
 import seedu.address.model.meetup.MeetUpIndex;
 import seedu.address.model.meetup.Participants;
@@ -16,6 +19,8 @@ import seedu.address.model.person.ContactIndex;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.User;
 import seedu.address.model.recommendation.Recommendation;
+import seedu.address.model.time.Day;
+import seedu.address.model.timetable.TimeModel;
 
 /**
  * The API of the Model component.
@@ -138,12 +143,24 @@ public interface Model {
 
     void setRecommendations(List<Recommendation> recommendations);
 
+    /**
+     * Adds the recommendations after those already in the recommendation list, indexing them on from there.
+     * Recommendations that already exist in the address book are skipped.
+     */
+    void addRecommendations(List<Recommendation> recommendations);
+
     /**
      * Clears the person list.
      * Used for sorting the list, as the list needs to be cleared before it can be sorted.
      */
     void resetRecommendations();
 
+    /**
+     * Returns the number of times the recommendation list has been replaced as a whole,
+     * so that recommendations made for an earlier list can be told apart.
+     */
+    int getRecommendationListVersion();
+
     /**
      * Returns the user object.
      * User will not be null.
@@ -158,6 +175,28 @@ public interface Model {
 
     Optional<Person> getPersonByIndex(ContactIndex index);
 
+    /**
+     * Returns the location tracker of the person with the time model.
+     * The tracker is reused until the person is edited or deleted.
+     */
+    LocationTracker getLocationTracker(Person person, TimeModel timeModel);
+
+    /**
+     * Returns the recommendations of recent meetups.
+     * The recommendations of a meetup are dropped when any of its participants is edited or deleted.
+     */
+    RecommendationCache getRecommendationCache();
+
+    /**
+     * Returns how recommendations are made.
+     */
+    RecommenderSettings getRecommenderSettings();
+
+    /**
+     * Sets how recommendations are made.
+     */
+    void setRecommenderSettings(RecommenderSettings recommenderSettings);
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getObservablePersonList();
 
@@ -224,6 +263,11 @@ public interface Model {
 
     void removeEmptyMeetUps();
 
+    /**
+     * Returns the scheduled meet ups on that day that the person with {@code contactIndex} attends.
+     */
+    List<MeetUp> getMeetUps(ContactIndex contactIndex, Day day);
+
     void setParticipants(Set<ContactIndex> indices);
 
     Participants getParticipants();
@@ -20,17 +20,22 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.parser.IndexHandler;
 import seedu.address.logic.parser.MeetUpIndexHandler;
+import seedu.address.logic.recommender.RecommendationCache;
+import seedu.address.logic.recommender.RecommenderSettings;
+import seedu.address.logic.recommender.location.LocationTracker;
+import seedu.address.logic.recommender.location.LocationTrackerCache;
 import seedu.address.model.commitment.Commitment;
 import seedu.address.model.meetup.MeetUp;
 import seedu.address.model.meetup.MeetUpIndex;
+import seedu.address.model.meetup.MeetUpSchedule;
 import seedu.address.model.meetup.Participants;
 import seedu.address.model.meetup.exceptions.MeetUpClashException;
 import seedu.address.model.person.ContactIndex;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.User;
 import seedu.address.model.recommendation.Recommendation;
-import seedu.address.model.time.TimePeriod;
-import seedu.address.model.time.util.TimeUtil;
+import seedu.address.model.time.Day;
+import seedu.address.model.timetable.TimeModel;
 import seedu.address.model.timetable.Timetable;
 
 /**
@@ -50,7 +55,16 @@ public class ModelManager implements Model {
     private final MeetUpIndexHandler meetUpIndexHandler;
     private final FilteredList<MeetUp> filteredMeetUps;
     private final SortedList<MeetUp> observableMeetUps;
+    private final MeetUpSchedule meetUpSchedule;
+    private final LocationTrackerCache locationTrackerCache = new LocationTrackerCache();
+    private final RecommendationCache recommendationCache = new RecommendationCache();
+    private volatile RecommenderSettings recommenderSettings = new RecommenderSettings();
 
+    /**
+     * The number of times the recommendation list was replaced as a whole,
+     * which streams publishing in the background read to stop once their list is replaced.
+     */
+    private volatile int recommendationListVersion = 0;
 
     /**
      * Initializes a ModelManager with the given eduMate and userPrefs.
@@ -71,6 +85,7 @@ public class ModelManager implements Model {
 
         filteredMeetUps = new FilteredList<>(this.eduMate.getMeetUpList());
         observableMeetUps = new SortedList<>(filteredMeetUps);
+        meetUpSchedule = new MeetUpSchedule(this.eduMate.getMeetUpList());
 
         filteredRecommendations = new FilteredList<>(this.eduMate.getRecommendationList());
         observableRecommendations = new SortedList<>(filteredRecommendations);
@@ -121,6 +136,10 @@ public class ModelManager implements Model {
     @Override
     public void setEduMate(ReadOnlyEduMate eduMate) {
         this.eduMate.resetData(eduMate);
+        recommendationListVersion++;
+        meetUpSchedule.setMeetUps(this.eduMate.getMeetUpList());
+        locationTrackerCache.clear();
+        recommendationCache.clear();
     }
 
     @Override
@@ -149,6 +168,8 @@ public class ModelManager implements Model {
     @Override
     public void deletePerson(Person target) {
         eduMate.removePerson(target);
+        locationTrackerCache.invalidate(target);
+        recommendationCache.invalidate(target.getContactIndex());
         //check if person is in meetup list, if yes remove
         updateMeetUpForDeletePerson(target);
     }
@@ -173,7 +194,14 @@ public class ModelManager implements Model {
     }
 
     public void removeEmptyMeetUps() {
+        List<MeetUp> emptyMeetUps = new ArrayList<>();
+        for (MeetUp meetUp : eduMate.getMeetUpList()) {
+            if (meetUp.getParticipants().getParticipants().isEmpty()) {
+                emptyMeetUps.add(meetUp);
+            }
+        }
         this.eduMate.removeEmptyMeetUps();
+        emptyMeetUps.forEach(meetUpSchedule::remove);
     }
 
     @Override
@@ -190,6 +218,10 @@ public class ModelManager implements Model {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
         eduMate.setPerson(target, editedPerson);
+        locationTrackerCache.invalidate(target);
+        locationTrackerCache.invalidate(editedPerson);
+        recommendationCache.invalidate(target.getContactIndex());
+        recommendationCache.invalidate(editedPerson.getContactIndex());
         updateMeetUpForEditPerson(target, editedPerson);
         editParticipants(target, editedPerson);
 
@@ -232,6 +264,8 @@ public class ModelManager implements Model {
     @Override
     public void resetPersons() {
         eduMate.resetPersons();
+        locationTrackerCache.clear();
+        recommendationCache.clear();
     }
 
     // recommendation-level methods
@@ -264,17 +298,34 @@ public class ModelManager implements Model {
         eduMate.setRecommendation(target, editedRecommendation);
     }
 
+    @Override
+    public void addRecommendations(List<Recommendation> recommendations) {
+        requireAllNonNull(recommendations);
+        // indices are assigned in turn from the first free one, rather than searching for a free one each time
+        int nextIndex = indexHandler.assignRecommendationIndex().getValue();
+        List<Recommendation> indexedRecommendations = new ArrayList<>();
+        for (Recommendation recommendation : eduMate.getNewRecommendations(recommendations)) {
+            indexedRecommendations.add(recommendation.setContactIndex(new ContactIndex(nextIndex++)));
+        }
+        eduMate.addRecommendations(indexedRecommendations);
+        updateObservableRecommendationList();
+    }
+
     @Override
     public void setRecommendations(List<Recommendation> recommendations) {
         resetRecommendations();
-        for (Recommendation recommendation : recommendations) {
-            addRecommendation(recommendation);
-        }
+        addRecommendations(recommendations);
     }
 
     @Override
     public void resetRecommendations() {
         eduMate.resetRecommendations();
+        recommendationListVersion++;
+    }
+
+    @Override
+    public int getRecommendationListVersion() {
+        return recommendationListVersion;
     }
 
     @Override
@@ -286,9 +337,33 @@ public class ModelManager implements Model {
     public void setUser(User user) {
         requireNonNull(user);
 
+        locationTrackerCache.invalidate(eduMate.getUser());
+        locationTrackerCache.invalidate(user);
+        recommendationCache.invalidate(ContactIndex.USER_CONTACT_INDEX);
         eduMate.setUser(user);
     }
 
+    @Override
+    public LocationTracker getLocationTracker(Person person, TimeModel timeModel) {
+        return locationTrackerCache.get(person, timeModel);
+    }
+
+    @Override
+    public RecommendationCache getRecommendationCache() {
+        return recommendationCache;
+    }
+
+    @Override
+    public RecommenderSettings getRecommenderSettings() {
+        return recommenderSettings;
+    }
+
+    @Override
+    public void setRecommenderSettings(RecommenderSettings recommenderSettings) {
+        requireNonNull(recommenderSettings);
+        this.recommenderSettings = recommenderSettings;
+    }
+
     //=========== Filtered Person List Accessors =============================================================
 
     /**
@@ -423,6 +498,7 @@ public class ModelManager implements Model {
         }
 
         eduMate.addMeetUp(meetUp);
+        meetUpSchedule.add(meetUp);
     }
 
     /**
@@ -430,12 +506,7 @@ public class ModelManager implements Model {
      * @return true if a clash exists, else false.
      */
     public boolean hasClashScheduled(MeetUp meetUp) {
-        List<TimePeriod> timePeriods = new ArrayList<>();
-        for (MeetUp meet : observableMeetUps) {
-            timePeriods.add(meet.getTimePeriod());
-        }
-        timePeriods.add(meetUp.getTimePeriod());
-        return TimeUtil.hasAnyClash(timePeriods);
+        return meetUpSchedule.hasClash(meetUp.getTimePeriod());
     }
 
     /**
@@ -465,7 +536,14 @@ public class ModelManager implements Model {
 
     @Override
     public void deleteMeetUp(MeetUpIndex meetUpIndex) {
-        eduMate.removeMeetUp(this.getMeetUpByIndex(meetUpIndex).get());
+        MeetUp meetUp = this.getMeetUpByIndex(meetUpIndex).get();
+        eduMate.removeMeetUp(meetUp);
+        meetUpSchedule.remove(meetUp);
+    }
+
+    @Override
+    public List<MeetUp> getMeetUps(ContactIndex contactIndex, Day day) {
+        return meetUpSchedule.getMeetUps(contactIndex, day);
     }
 
     @Override
@@ -2,17 +2,12 @@ package seedu.address.model.commitment;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.Objects;
-import java.util.Optional;
-import java.util.Set;
 
 import org.joda.time.LocalTime;
 
 import seedu.address.model.location.Location;
 import seedu.address.model.time.Day;
-import seedu.address.model.time.HourBlock;
 import seedu.address.model.time.TimePeriod;
 
 /**
@@ -52,29 +47,6 @@ public class Commitment {
         return timePeriod.getEndTime();
     }
 
-    /**
-     * Checks whether the Commitment can fit into a list of slots.
-     */
-    public boolean canFitIntoDaySchedule(ArrayList<HourBlock> slots) {
-        boolean canFit = true;
-        for (int i = getStartTime().getHourOfDay() - 8; i < getEndTime().getHourOfDay() - 8; i++) {
-            canFit &= slots.get(i).isFree();
-        }
-        return canFit;
-    }
-
-    /**
-     * Gets the set of Commitments that will clash with this.
-     */
-    public Set<Commitment> getClashingCommitments(ArrayList<HourBlock> slots) {
-        Set<Commitment> clashingCommitments = new HashSet<>();
-        for (int i = getStartTime().getHourOfDay() - 8; i < getEndTime().getHourOfDay() - 8; i++) {
-            Optional<Commitment> commitment = slots.get(i).getCommitment();
-            commitment.ifPresent(clashingCommitments::add);
-        }
-        return clashingCommitments;
-    }
-
     @Override
     public boolean equals(Object other) {
         if (this == other) {
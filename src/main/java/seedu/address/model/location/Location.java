@@ -8,16 +8,24 @@ import java.util.Objects;
 /**
  * Location object which contains a Latitude(lat), a Longitude(lon) and a name.
  * Calculations are handled by {@code DistanceUtil} and parsing is handled by {@code LocationUtil}.
+ * Locations are equal if they fall in the same cell of a grid {@code ALLOWABLE_ERROR} wide, whatever their names,
+ * so that equal locations always have the same hash code.
+ * Named locations can be interned by {@code LocationRegistry}, which gives each of them an id for caches to use.
  */
 public class Location implements Comparable<Location> {
 
     public static final String MESSAGE_CONSTRAINTS = "Locations should be between [1.23776, 1.46066] and "
             + "[103.61751, 104.04360] for latitude and longitude respectively.";
 
+    /**
+     * The id of a location that is not interned by {@code LocationRegistry}.
+     */
+    public static final int UNREGISTERED_ID = -1;
+
     /**
      * NUS is a commonly used location, so we cache it here.
      */
-    public static final Location NUS = new Location("NUS", 1.29551, 103.77693);
+    public static final Location NUS = LocationRegistry.intern(new Location("NUS", 1.29551, 103.77693));
 
     /**
      * The absolute bounds of Singapore.
@@ -29,11 +37,21 @@ public class Location implements Comparable<Location> {
     private static final double MAX_LONGITUDE = 104.04360;
     private static final double ALLOWABLE_ERROR = 0.0001;
 
+    /**
+     * The grid is shifted by an odd fraction of a cell, so that coordinates with a few decimal places,
+     * like those in the data files, are never on the edge of a cell where rounding errors could tip them over.
+     */
+    private static final double GRID_OFFSET = 0.3183;
+
     private static final String DOUBLE_PATTERN = "[0-9]+(\\.)?[0-9]*";
 
     private final String name;
     private final double latitude;
     private final double longitude;
+    private final long latitudeCell;
+    private final long longitudeCell;
+    private final int hashCode;
+    private final int id;
 
     /**
      * Constructs an unnamed {@code Location}.
@@ -56,6 +74,27 @@ public class Location implements Comparable<Location> {
         this.name = name;
         this.latitude = latitude;
         this.longitude = longitude;
+        this.latitudeCell = getCell(latitude);
+        this.longitudeCell = getCell(longitude);
+        this.hashCode = Objects.hash(latitudeCell, longitudeCell);
+        this.id = UNREGISTERED_ID;
+    }
+
+    /**
+     * Constructs the interned copy of a location with its id.
+     */
+    Location(Location location, int id) {
+        this.name = location.name;
+        this.latitude = location.latitude;
+        this.longitude = location.longitude;
+        this.latitudeCell = location.latitudeCell;
+        this.longitudeCell = location.longitudeCell;
+        this.hashCode = location.hashCode;
+        this.id = id;
+    }
+
+    private static long getCell(double coordinate) {
+        return (long) Math.floor(coordinate / ALLOWABLE_ERROR + GRID_OFFSET);
     }
 
     /**
@@ -122,6 +161,20 @@ public class Location implements Comparable<Location> {
         return longitude;
     }
 
+    /**
+     * Gets the id given by {@code LocationRegistry}, or {@code UNREGISTERED_ID} if the location is not interned.
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Returns whether the location is the single instance interned by {@code LocationRegistry}.
+     */
+    public boolean isInterned() {
+        return id != UNREGISTERED_ID;
+    }
+
     @Override
     public String toString() {
         return String.format("[%s %s %s]", getName(), latitude, longitude);
@@ -138,13 +191,16 @@ public class Location implements Comparable<Location> {
         }
 
         Location otherLocation = (Location) other;
-        return Math.abs(latitude - otherLocation.latitude) <= ALLOWABLE_ERROR
-                && Math.abs(longitude - otherLocation.longitude) <= ALLOWABLE_ERROR;
+        if (isInterned() && id == otherLocation.id) {
+            return true;
+        }
+        return latitudeCell == otherLocation.latitudeCell
+                && longitudeCell == otherLocation.longitudeCell;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(name, latitude, longitude);
+        return hashCode;
     }
 
     @Override
@@ -0,0 +1,63 @@
+package seedu.address.model.location;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Interns named locations, so that every named location in use is a single instance with an integer id.
+ * The ids count up from 0, so that caches can keep whatever they know about a location in arrays indexed by id.
+ * Unnamed locations, such as those in between other locations, are left as they are.
+ */
+public class LocationRegistry {
+
+    /**
+     * The interned locations by name, and then by where they are, since locations ignore their names when compared.
+     */
+    private static final Map<String, Map<Location, Location>> internedLocations = new HashMap<>();
+    private static final List<Location> locationsById = new ArrayList<>();
+
+    /**
+     * Returns the single instance of a named location, interning it if it is the first of its kind.
+     * An unnamed location is returned as it is.
+     */
+    public static synchronized Location intern(Location location) {
+        requireNonNull(location);
+        if (location.isInterned() || location.getName().isEmpty()) {
+            return location;
+        }
+        Map<Location, Location> locationsWithName =
+                internedLocations.computeIfAbsent(location.getName(), name -> new HashMap<>());
+        Location internedLocation = locationsWithName.get(location);
+        if (internedLocation == null) {
+            internedLocation = new Location(location, locationsById.size());
+            locationsWithName.put(internedLocation, internedLocation);
+            locationsById.add(internedLocation);
+        }
+        return internedLocation;
+    }
+
+    /**
+     * Returns the single instance of the named location with the coordinates.
+     */
+    public static Location intern(String name, double latitude, double longitude) {
+        return intern(new Location(name, latitude, longitude));
+    }
+
+    /**
+     * Returns the interned location with the id.
+     */
+    public static synchronized Location get(int id) {
+        return locationsById.get(id);
+    }
+
+    /**
+     * Returns the number of interned locations, which is one more than the largest id.
+     */
+    public static synchronized int size() {
+        return locationsById.size();
+    }
+}
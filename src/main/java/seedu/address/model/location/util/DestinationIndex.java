@@ -0,0 +1,21 @@
+package seedu.address.model.location.util;
+
+import java.util.List;
+
+import seedu.address.model.location.Location;
+
+/**
+ * An index over a set of destinations, for finding the destinations closest to a location.
+ */
+public interface DestinationIndex {
+
+    /**
+     * Returns the number of destinations in the index.
+     */
+    int size();
+
+    /**
+     * Returns up to {@code limit} destinations closest to a location, from the closest.
+     */
+    List<Location> getClosestPoints(Location location, int limit);
+}
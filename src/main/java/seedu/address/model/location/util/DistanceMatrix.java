@@ -0,0 +1,114 @@
+package seedu.address.model.location.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import seedu.address.model.location.Location;
+
+/**
+ * Holds the precomputed distances between every pair of known named locations.
+ * Locations are looked up by identity, so only the instances the matrix was built from are known;
+ * any other location, such as an interpolated one, has to be measured on the fly.
+ * Interned locations are looked up by their id instead, in an array rather than a map.
+ */
+public class DistanceMatrix {
+
+    private static final int UNKNOWN = -1;
+
+    private final Map<Location, Integer> ids = new IdentityHashMap<>();
+
+    /**
+     * The id in the matrix of each interned location, indexed by its id in the {@code LocationRegistry}.
+     */
+    private final int[] idsByRegistryId;
+
+    /**
+     * The distances as a lower triangle, where row {@code i} holds the distances to locations {@code 0} to
+     * {@code i - 1}, since the distance is the same both ways and always zero to itself.
+     */
+    private final double[][] distances;
+
+    /**
+     * Builds the matrix over the locations, skipping any location that appears more than once.
+     */
+    public DistanceMatrix(Collection<Location> locations) {
+        requireNonNull(locations);
+        for (Location location : locations) {
+            ids.putIfAbsent(location, ids.size());
+        }
+
+        Location[] knownLocations = new Location[ids.size()];
+        ids.forEach((location, id) -> knownLocations[id] = location);
+
+        int registrySize = 0;
+        for (Location location : knownLocations) {
+            registrySize = Math.max(registrySize, location.getId() + 1);
+        }
+        idsByRegistryId = new int[registrySize];
+        Arrays.fill(idsByRegistryId, UNKNOWN);
+        for (int i = 0; i < knownLocations.length; i++) {
+            if (knownLocations[i].isInterned()) {
+                idsByRegistryId[knownLocations[i].getId()] = i;
+            }
+        }
+
+        distances = new double[knownLocations.length][];
+        for (int i = 0; i < knownLocations.length; i++) {
+            distances[i] = new double[i];
+            for (int j = 0; j < i; j++) {
+                distances[i][j] = DistanceUtil.computeDistance(knownLocations[i], knownLocations[j]);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of known locations.
+     */
+    public int size() {
+        return distances.length;
+    }
+
+    /**
+     * Returns the id of a known location, or {@code -1} if the location is not in the matrix.
+     */
+    public int getId(Location location) {
+        if (location.isInterned()) {
+            return location.getId() < idsByRegistryId.length ? idsByRegistryId[location.getId()] : UNKNOWN;
+        }
+        return ids.getOrDefault(location, UNKNOWN);
+    }
+
+    /**
+     * Returns whether the location is in the matrix.
+     */
+    public boolean contains(Location location) {
+        return getId(location) != UNKNOWN;
+    }
+
+    /**
+     * Returns the distance between the locations with these ids.
+     */
+    public double getDistance(int firstId, int secondId) {
+        if (firstId == secondId) {
+            return 0;
+        }
+        return firstId > secondId ? distances[firstId][secondId] : distances[secondId][firstId];
+    }
+
+    /**
+     * Returns the distance between the locations if both are known.
+     * @return the distance, or {@code Double.NaN} if either location is not in the matrix.
+     */
+    public double getDistance(Location firstLocation, Location secondLocation) {
+        int firstId = getId(firstLocation);
+        int secondId = getId(secondLocation);
+        if (firstId == UNKNOWN || secondId == UNKNOWN) {
+            return Double.NaN;
+        }
+        return getDistance(firstId, secondId);
+    }
+}
@@ -6,7 +6,6 @@ import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 import seedu.address.model.location.Location;
 
@@ -16,15 +15,44 @@ import seedu.address.model.location.Location;
  */
 public class DistanceUtil {
 
-    private static final double DISTANCE_CONSTANT = 111.33;
+    /**
+     * The number of kilometres in a degree of latitude or longitude, which is about the same near the equator.
+     */
+    public static final double DISTANCE_CONSTANT = 111.33;
+
+    private static final int MAX_MEDIAN_ITERATIONS = 200;
+    private static final double MEDIAN_TOLERANCE = 1e-10;
 
     /**
      * Calculates the distance between locations.
+     * Known named locations read their distance off the precomputed {@code DistanceMatrix},
+     * while any other location is measured on the fly, without loading the bundled data sets for the matrix.
      */
     public static double getDistance(Location firstLocation, Location secondLocation) {
-        return DISTANCE_CONSTANT * Math.pow(
-                Math.pow(firstLocation.getLatitude() - secondLocation.getLatitude(), 2)
-                        + Math.pow(firstLocation.getLongitude() - secondLocation.getLongitude(), 2), 0.5);
+        if (!firstLocation.isInterned() || !secondLocation.isInterned()) {
+            return computeDistance(firstLocation, secondLocation);
+        }
+        double distance = LocationDataUtil.getDistanceMatrix().getDistance(firstLocation, secondLocation);
+        return Double.isNaN(distance) ? computeDistance(firstLocation, secondLocation) : distance;
+    }
+
+    /**
+     * Measures the distance between locations from their coordinates.
+     */
+    public static double computeDistance(Location firstLocation, Location secondLocation) {
+        return computeDistance(firstLocation.getLatitude(), firstLocation.getLongitude(),
+                secondLocation.getLatitude(), secondLocation.getLongitude());
+    }
+
+    /**
+     * Measures the distance between two pairs of coordinates, for callers that keep them in primitive arrays.
+     */
+    public static double computeDistance(double firstLatitude, double firstLongitude,
+            double secondLatitude, double secondLongitude) {
+        double latitudeDifference = firstLatitude - secondLatitude;
+        double longitudeDifference = firstLongitude - secondLongitude;
+        return DISTANCE_CONSTANT * Math.sqrt(latitudeDifference * latitudeDifference
+                + longitudeDifference * longitudeDifference);
     }
 
     /**
@@ -47,6 +75,113 @@ public class DistanceUtil {
         return getMidpoint(Arrays.asList(locations));
     }
 
+    /**
+     * Gets the geometric median of the locations, which has the least total distance to them,
+     * using Weiszfeld's algorithm starting from the midpoint.
+     * By default, an invalid calculation returns the coordinates of NUS.
+     */
+    public static Location getGeometricMedian(Collection<? extends Location> locations) {
+        Location midpoint = getMidpoint(locations);
+        if (locations.isEmpty()) {
+            return midpoint;
+        }
+        double latitude = midpoint.getLatitude();
+        double longitude = midpoint.getLongitude();
+        for (int iteration = 0; iteration < MAX_MEDIAN_ITERATIONS; iteration++) {
+            double weightSum = 0;
+            double latitudeSum = 0;
+            double longitudeSum = 0;
+            for (Location location : locations) {
+                double distance = Math.hypot(location.getLatitude() - latitude, location.getLongitude() - longitude);
+                if (distance < MEDIAN_TOLERANCE) {
+                    // the estimate sits on a location, where the weights are undefined
+                    return new Location(latitude, longitude);
+                }
+                weightSum += 1 / distance;
+                latitudeSum += location.getLatitude() / distance;
+                longitudeSum += location.getLongitude() / distance;
+            }
+            double nextLatitude = latitudeSum / weightSum;
+            double nextLongitude = longitudeSum / weightSum;
+            boolean hasConverged = Math.hypot(nextLatitude - latitude, nextLongitude - longitude) < MEDIAN_TOLERANCE;
+            latitude = nextLatitude;
+            longitude = nextLongitude;
+            if (hasConverged) {
+                break;
+            }
+        }
+        return new Location(latitude, longitude);
+    }
+
+    /**
+     * Gets the centre of the smallest circle enclosing the locations, which has the least distance
+     * to the furthest of them.
+     * By default, an invalid calculation returns the coordinates of NUS.
+     */
+    public static Location getMinimaxPoint(Collection<? extends Location> locations) {
+        if (locations.isEmpty()) {
+            return getMidpoint(locations);
+        }
+        Location[] points = locations.toArray(new Location[0]);
+        double[] circle = {points[0].getLatitude(), points[0].getLongitude(), 0};
+        for (int i = 1; i < points.length; i++) {
+            if (isInCircle(circle, points[i])) {
+                continue;
+            }
+            circle = new double[] {points[i].getLatitude(), points[i].getLongitude(), 0};
+            for (int j = 0; j < i; j++) {
+                if (isInCircle(circle, points[j])) {
+                    continue;
+                }
+                circle = getCircle(points[i], points[j]);
+                for (int k = 0; k < j; k++) {
+                    if (!isInCircle(circle, points[k])) {
+                        circle = getCircle(points[i], points[j], points[k]);
+                    }
+                }
+            }
+        }
+        return new Location(circle[0], circle[1]);
+    }
+
+    private static boolean isInCircle(double[] circle, Location location) {
+        return Math.hypot(location.getLatitude() - circle[0], location.getLongitude() - circle[1])
+                <= circle[2] * (1 + MEDIAN_TOLERANCE) + MEDIAN_TOLERANCE;
+    }
+
+    /**
+     * Returns the smallest circle through both locations, as its centre and radius.
+     */
+    private static double[] getCircle(Location first, Location second) {
+        double latitude = (first.getLatitude() + second.getLatitude()) / 2;
+        double longitude = (first.getLongitude() + second.getLongitude()) / 2;
+        double radius = Math.hypot(first.getLatitude() - latitude, first.getLongitude() - longitude);
+        return new double[] {latitude, longitude, radius};
+    }
+
+    /**
+     * Returns the circle through all three locations, or around the furthest two if they lie on a line.
+     */
+    private static double[] getCircle(Location first, Location second, Location third) {
+        double bx = second.getLatitude() - first.getLatitude();
+        double by = second.getLongitude() - first.getLongitude();
+        double cx = third.getLatitude() - first.getLatitude();
+        double cy = third.getLongitude() - first.getLongitude();
+        double determinant = 2 * (bx * cy - by * cx);
+        if (Math.abs(determinant) < MEDIAN_TOLERANCE * MEDIAN_TOLERANCE) {
+            double[] firstSecond = getCircle(first, second);
+            double[] firstThird = getCircle(first, third);
+            double[] secondThird = getCircle(second, third);
+            double[] widest = firstSecond[2] >= firstThird[2] ? firstSecond : firstThird;
+            return widest[2] >= secondThird[2] ? widest : secondThird;
+        }
+        double b = bx * bx + by * by;
+        double c = cx * cx + cy * cy;
+        double x = (cy * b - by * c) / determinant;
+        double y = (bx * c - cx * b) / determinant;
+        return new double[] {first.getLatitude() + x, first.getLongitude() + y, Math.hypot(x, y)};
+    }
+
     /**
      * Creates n evenly-spaced locations between the start and end locations.
      */
@@ -93,13 +228,11 @@ public class DistanceUtil {
     /**
      * Returns the closest points to a particular location.
      * For example, "the 5 closest restaurants to home" would be {@code getClosestPoint(home, 5, restaurants)}.
+     * Use a {@code LocationIndex} instead when querying the same locations many times.
      */
     public static List<Location> getClosestPoints(
             Location location, int limit, Collection<Location> locations) {
-        return locations.stream()
-                .sorted(Comparator.comparingDouble((Location other) -> getDistance(other, location)))
-                .limit(limit)
-                .collect(Collectors.toList());
+        return new LocationIndex(locations).getClosestPoints(location, limit);
     }
 
     public static List<Location> getClosestPoints(
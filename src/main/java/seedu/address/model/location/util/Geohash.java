@@ -0,0 +1,67 @@
+package seedu.address.model.location.util;
+
+/**
+ * Encodes coordinates as geohashes, which interleave the bits of the longitude and the latitude
+ * so that locations close to each other share a prefix.
+ * The hashes are kept as numbers of {@code BITS} bits, standing for cells of about 1.2km by 0.6km,
+ * which are the cells of a 6-character geohash.
+ */
+public class Geohash {
+
+    public static final int BITS = 30;
+    public static final int CHARACTERS = BITS / 5;
+    public static final double LATITUDE_CELL_DEGREES = 180.0 / (1 << BITS / 2);
+    public static final double LONGITUDE_CELL_DEGREES = 360.0 / (1 << BITS / 2);
+
+    private static final int BITS_PER_AXIS = BITS / 2;
+    private static final int CELLS_PER_AXIS = 1 << BITS_PER_AXIS;
+    private static final String BASE_32 = "0123456789bcdefghjkmnpqrstuvwxyz";
+
+    /**
+     * Returns the row of cells that the latitude falls in, counting from the south pole.
+     */
+    public static int getLatitudeCell(double latitude) {
+        return clamp((int) Math.floor((latitude + 90) / LATITUDE_CELL_DEGREES));
+    }
+
+    /**
+     * Returns the column of cells that the longitude falls in, counting eastwards from the antimeridian.
+     */
+    public static int getLongitudeCell(double longitude) {
+        return clamp((int) Math.floor((longitude + 180) / LONGITUDE_CELL_DEGREES));
+    }
+
+    /**
+     * Returns the geohash of the cell with the coordinates.
+     */
+    public static long encode(double latitude, double longitude) {
+        return encode(getLatitudeCell(latitude), getLongitudeCell(longitude));
+    }
+
+    /**
+     * Returns the geohash of a cell, starting with the highest bit of its longitude.
+     */
+    public static long encode(int latitudeCell, int longitudeCell) {
+        long hash = 0;
+        for (int bit = BITS_PER_AXIS - 1; bit >= 0; bit--) {
+            hash = (hash << 1) | ((longitudeCell >>> bit) & 1);
+            hash = (hash << 1) | ((latitudeCell >>> bit) & 1);
+        }
+        return hash;
+    }
+
+    /**
+     * Returns the geohash in its usual base 32 form.
+     */
+    public static String toString(long hash) {
+        StringBuilder sb = new StringBuilder(CHARACTERS);
+        for (int i = CHARACTERS - 1; i >= 0; i--) {
+            sb.append(BASE_32.charAt((int) (hash >>> (5 * i)) & 31));
+        }
+        return sb.toString();
+    }
+
+    private static int clamp(int cell) {
+        return Math.max(0, Math.min(cell, CELLS_PER_AXIS - 1));
+    }
+}
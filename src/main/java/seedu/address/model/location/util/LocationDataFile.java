@@ -0,0 +1,208 @@
+package seedu.address.model.location.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import seedu.address.model.location.Location;
+
+/**
+ * Compiles the bundled location data sets from their txt files into compact binary resources, and reads them back.
+ * Each resource holds the number of locations, the packed latitudes and longitudes, and then the names
+ * of the locations, so that a data set is read with a single buffered read independently of the others.
+ * The txt files stay the source of truth, and are only parsed at startup when the resources were not built.
+ */
+public class LocationDataFile {
+
+    /**
+     * Where the binary resource of a data set is found on the classpath.
+     */
+    public static final String RESOURCE_FORMAT = "data/%s.bin";
+
+    /**
+     * The data sets that are compiled, each named after its txt file in the data folder.
+     */
+    public static final List<String> DATA_SETS = List.of("eat", "study", "venues", "stations");
+
+    private static final int FORMAT = 0x4c4f4331;
+
+    /**
+     * Compiles the txt files in {@code args[0]/data} into binary files in {@code args[1]/data}.
+     * This is run by the build before the resources are packaged.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("Usage: LocationDataFile <resources folder> <output folder>");
+        }
+        compile(Paths.get(args[0]), Paths.get(args[1]));
+    }
+
+    /**
+     * Parses every data set in the resources folder and writes each of them into a binary file.
+     * Lines that cannot be parsed are skipped, just as they would be at startup.
+     */
+    public static void compile(Path resourcesFolder, Path outputFolder) throws IOException {
+        requireNonNull(resourcesFolder);
+        requireNonNull(outputFolder);
+        for (String dataSet : DATA_SETS) {
+            Path textFile = resourcesFolder.resolve(String.format("data/%s.txt", dataSet));
+            List<Location> locations;
+            try (InputStream inputStream = Files.newInputStream(textFile)) {
+                locations = parseText(inputStream, line ->
+                        System.err.printf("Invalid information in %s: %s%n", textFile, line));
+            }
+
+            Path outputFile = outputFolder.resolve(String.format(RESOURCE_FORMAT, dataSet));
+            Files.createDirectories(outputFile.toAbsolutePath().getParent());
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                    Files.newOutputStream(outputFile)))) {
+                write(locations, out);
+            }
+        }
+    }
+
+    /**
+     * Reads a data set from its binary resource on the classpath.
+     * @return the locations of the data set, which is empty if the resource was not built or cannot be read.
+     */
+    public static Optional<List<Location>> readResource(String dataSet) {
+        String resourceName = String.format(RESOURCE_FORMAT, dataSet);
+        try (InputStream inputStream = LocationDataFile.class.getClassLoader().getResourceAsStream(resourceName)) {
+            if (inputStream == null) {
+                return Optional.empty();
+            }
+            return Optional.of(read(inputStream));
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Reads a data set from a binary file, taking in all of its bytes at once.
+     * @return the locations of the data set, in the order they were compiled.
+     * @throws IOException if the file cannot be read or was not written by {@link #compile}.
+     */
+    public static List<Location> read(InputStream inputStream) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(inputStream.readAllBytes());
+        try {
+            if (buffer.getInt() != FORMAT) {
+                throw new IOException("Not a location data file");
+            }
+            return getLocations(buffer);
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            throw new IOException("Location data file is corrupted", e);
+        }
+    }
+
+    /**
+     * Parses the locations in a txt file, where each line is in the format {@code name|lat|lon}.
+     * @param inputStream the contents of the txt file.
+     * @param onInvalidLine told about every line that cannot be parsed, which is then skipped.
+     * @return the parsed locations, in the order of the file.
+     */
+    public static List<Location> parseText(InputStream inputStream, Consumer<String> onInvalidLine)
+            throws IOException {
+        List<Location> locations = new ArrayList<>();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            Optional<Location> location = parseLine(line);
+            if (location.isPresent()) {
+                locations.add(location.get());
+            } else {
+                onInvalidLine.accept(line);
+            }
+        }
+        return locations;
+    }
+
+    /**
+     * Tries to parse a line in the format {@code name|lat|lon}, ignoring anything after the longitude.
+     */
+    private static Optional<Location> parseLine(String line) {
+        int nameEnd = line.indexOf('|');
+        int latitudeEnd = nameEnd < 0 ? -1 : line.indexOf('|', nameEnd + 1);
+        if (latitudeEnd < 0) {
+            return Optional.empty();
+        }
+        int longitudeEnd = line.indexOf('|', latitudeEnd + 1);
+        if (longitudeEnd < 0) {
+            longitudeEnd = line.length();
+        }
+
+        try {
+            double latitude = Double.parseDouble(line.substring(nameEnd + 1, latitudeEnd));
+            double longitude = Double.parseDouble(line.substring(latitudeEnd + 1, longitudeEnd));
+            if (!Location.isValidLocation(latitude, longitude)) {
+                return Optional.empty();
+            }
+            return Optional.of(new Location(line.substring(0, nameEnd).trim(), latitude, longitude));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static void write(List<Location> locations, DataOutputStream out) throws IOException {
+        out.writeInt(FORMAT);
+        out.writeInt(locations.size());
+        for (Location location : locations) {
+            out.writeDouble(location.getLatitude());
+        }
+        for (Location location : locations) {
+            out.writeDouble(location.getLongitude());
+        }
+        for (Location location : locations) {
+            putString(location.getName(), out);
+        }
+    }
+
+    private static List<Location> getLocations(ByteBuffer buffer) {
+        int size = buffer.getInt();
+        if (size < 0 || size > buffer.remaining() / (2 * Double.BYTES)) {
+            throw new IllegalArgumentException("Invalid number of locations: " + size);
+        }
+        double[] latitudes = new double[size];
+        double[] longitudes = new double[size];
+        buffer.asDoubleBuffer().get(latitudes);
+        buffer.position(buffer.position() + size * Double.BYTES);
+        buffer.asDoubleBuffer().get(longitudes);
+        buffer.position(buffer.position() + size * Double.BYTES);
+
+        List<Location> locations = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            locations.add(new Location(getString(buffer), latitudes[i], longitudes[i]));
+        }
+        return locations;
+    }
+
+    private static void putString(String value, DataOutputStream out) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeShort(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        int length = Short.toUnsignedInt(buffer.getShort());
+        if (length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        String value = new String(buffer.array(), buffer.position(), length, StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+        return value;
+    }
+}
@@ -1,49 +1,213 @@
 package seedu.address.model.location.util;
 
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Scanner;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.location.Location;
+import seedu.address.model.location.LocationRegistry;
 
 /**
  * Processes the location data stored in the txt files.
  * Different from {@code DistanceUtil} which handles computations instead.
+ * Each data set is only read the first time it is needed, so that reading the saved contacts,
+ * which only needs the stations, does not wait for the places to eat and study.
  */
 public class LocationDataUtil {
     /**
-     * Keeping the locations as sets makes it easier to pass around.
+     * Where the travel times between stations are cached between launches.
+     */
+    public static final Path TRANSIT_CACHE_FILE = Paths.get("data", ".transit_cache");
+
+    /**
+     * Where the user can supply more destinations, one {@code name|lat|lon|category} per line.
+     */
+    public static final Path VENUE_FILE = Paths.get("data", "destinations.txt");
+
+    /**
+     * Where the destinations supplied by the user are saved after they are bucketed, so that they are only
+     * read again when the file changes.
      */
-    public static final Set<Location> EAT_LOCATIONS = readLocationData("eat");
-    public static final Set<Location> STUDY_LOCATIONS = readLocationData("study");
-    public static final Set<Location> MEET_LOCATIONS =
-            Stream.concat(EAT_LOCATIONS.stream(), STUDY_LOCATIONS.stream()).collect(Collectors.toSet());
-    public static final Set<Location> LESSON_VENUES = readLocationData("venues");
-    public static final Set<Location> STATIONS = readLocationData("stations");
+    public static final Path VENUE_INDEX_FILE = Paths.get("data", ".destinations_index");
 
     /**
-     * If we need to, we can convert them to hash map.
-     * The key will simply be the name of the location.
+     * The bundled destinations that are indexed once, and shared by every recommendation.
      */
-    public static final Map<String, Location> STATIONS_HASH_MAP = getLocationHashMap(STATIONS);
+    private static final Map<Collection<Location>, DestinationIndex> BUNDLED_INDICES = new IdentityHashMap<>();
+
+    private static TransitGraph transitGraph;
+    private static VenueCatalogue venueCatalogue;
 
     private static final Logger logger = LogsCenter.getLogger(LocationDataUtil.class);
 
     /**
-     * Reads and parses the location data from a txt file.
+     * Returns the places to eat at.
+     * Keeping the locations as sets makes it easier to pass around.
+     */
+    public static Set<Location> getEatLocations() {
+        return EatLocations.LOCATIONS;
+    }
+
+    /**
+     * Returns the places to study at.
+     */
+    public static Set<Location> getStudyLocations() {
+        return StudyLocations.LOCATIONS;
+    }
+
+    /**
+     * Returns the places to meet at, which are the places to eat and study at.
+     */
+    public static Set<Location> getMeetLocations() {
+        return MeetLocations.LOCATIONS;
+    }
+
+    /**
+     * Returns the lesson venues.
+     */
+    public static Set<Location> getLessonVenues() {
+        return LessonVenues.LOCATIONS;
+    }
+
+    /**
+     * Returns the train stations.
+     */
+    public static Set<Location> getStations() {
+        return Stations.LOCATIONS;
+    }
+
+    /**
+     * Returns the train stations by their names in lower case.
+     */
+    public static Map<String, Location> getStationsHashMap() {
+        return Stations.LOCATIONS_BY_NAME;
+    }
+
+    /**
+     * Returns the distances between every pair of bundled locations, which are measured the first time.
+     */
+    public static DistanceMatrix getDistanceMatrix() {
+        return BundledDistances.DISTANCE_MATRIX;
+    }
+
+    /**
+     * Starts loading every data set in parallel in the background, followed by the distances between them
+     * and the train network, reusing the travel times cached in the file.
+     * The destinations supplied by the user are loaded alongside.
+     * Anything that needs a data set in the meantime waits for it to be loaded, or loads it on the spot.
+     */
+    public static CompletableFuture<Void> loadInBackground(Path transitCacheFile, Path venueFile,
+            Path venueIndexFile) {
+        return CompletableFuture.allOf(
+                        CompletableFuture.runAsync(LocationDataUtil::getStations),
+                        CompletableFuture.runAsync(LocationDataUtil::getLessonVenues),
+                        CompletableFuture.runAsync(LocationDataUtil::getEatLocations),
+                        CompletableFuture.runAsync(LocationDataUtil::getStudyLocations),
+                        CompletableFuture.runAsync(() -> loadVenueCatalogue(venueFile, venueIndexFile)))
+                .thenCompose(unused -> CompletableFuture.allOf(
+                        CompletableFuture.runAsync(LocationDataUtil::getDistanceMatrix),
+                        CompletableFuture.runAsync(() -> loadTransitGraph(transitCacheFile))))
+                .whenComplete((unused, e) -> {
+                    if (e != null) {
+                        logger.warning("Unable to load the location data in the background: " + e);
+                    }
+                });
+    }
+
+    /**
+     * Returns an index over the destinations.
+     * The bundled destinations reuse their shared index, and destinations that are already an index are used
+     * as they are, while any other destinations are indexed afresh.
+     */
+    public static DestinationIndex getIndex(Collection<Location> destinations) {
+        if (destinations instanceof DestinationIndex) {
+            return (DestinationIndex) destinations;
+        } else if (destinations == EatLocations.LOCATIONS
+                || destinations == StudyLocations.LOCATIONS
+                || destinations == MeetLocations.LOCATIONS) {
+            synchronized (BUNDLED_INDICES) {
+                return BUNDLED_INDICES.computeIfAbsent(destinations, LocationIndex::new);
+            }
+        }
+        return new LocationIndex(destinations);
+    }
+
+    /**
+     * Returns the train network over the bundled stations.
+     * If it has not been loaded, the travel times are searched for in memory the first time.
+     */
+    public static synchronized TransitGraph getTransitGraph() {
+        if (transitGraph == null) {
+            transitGraph = new TransitGraph(getStations(), readLineData("lines"), getMeetLocations());
+        }
+        return transitGraph;
+    }
+
+    /**
+     * Loads the train network over the bundled stations, reusing the travel times cached in the file
+     * if they were found for the same network.
+     * Nothing is done if the network was already built, such as by a command that needed it first.
+     */
+    public static synchronized void loadTransitGraph(Path cacheFile) {
+        if (transitGraph == null) {
+            transitGraph = TransitGraph.load(getStations(), readLineData("lines"), getMeetLocations(), cacheFile);
+        }
+    }
+
+    /**
+     * Returns the destinations supplied by the user, loading them from {@code VENUE_FILE} the first time.
+     */
+    public static synchronized VenueCatalogue getVenueCatalogue() {
+        if (venueCatalogue == null) {
+            venueCatalogue = VenueCatalogue.load(VENUE_FILE, VENUE_INDEX_FILE);
+        }
+        return venueCatalogue;
+    }
+
+    /**
+     * Loads the destinations supplied by the user in the venue file, reusing the buckets saved in the index file
+     * if they were built from the same venue file.
+     * Nothing is done if the destinations were already loaded, so that selections of them stay equal.
+     */
+    public static synchronized void loadVenueCatalogue(Path venueFile, Path venueIndexFile) {
+        if (venueCatalogue == null) {
+            venueCatalogue = VenueCatalogue.load(venueFile, venueIndexFile);
+        }
+    }
+
+    /**
+     * Replaces the destinations supplied by the user, such as with those read from another venue file.
+     */
+    public static synchronized void setVenueCatalogue(VenueCatalogue venueCatalogue) {
+        LocationDataUtil.venueCatalogue = requireNonNull(venueCatalogue);
+    }
+
+    /**
+     * Reads the lines of the train network from a txt file.
+     * Each line is in the format {@code code|station|station|...}, listing the stations it stops at in order.
      * @param fileName the name of the file in the data folder.
-     * @return the parsed locations retrieved from the data file.
+     * @return the stations of each line, skipping any name that is not a bundled station.
      */
-    private static Set<Location> readLocationData(String fileName) {
-        HashSet<Location> locationSet = new HashSet<>();
+    private static List<List<Location>> readLineData(String fileName) {
+        List<List<Location>> lines = new ArrayList<>();
         String fullFileName = String.format("data/%s.txt", fileName);
         InputStreamReader file =
                 new InputStreamReader(
@@ -51,40 +215,57 @@ public class LocationDataUtil {
 
         Scanner scanner = new Scanner(file);
         while (scanner.hasNextLine()) {
-            String nextLine = scanner.nextLine();
+            List<String> lineData = Stream.of(scanner.nextLine().split("\\|"))
+                    .map(String::trim)
+                    .collect(Collectors.toList());
+            if (lineData.size() < 3) {
+                continue;
+            }
 
-            // Tries to parse the line, and just ignores if it throws an error
-            getLocationFromData(nextLine)
-                    .ifPresentOrElse(locationSet::add, () -> logger.warning("Invalid information in: " + nextLine));
+            List<Location> line = new ArrayList<>();
+            for (String stationName : lineData.subList(1, lineData.size())) {
+                Location station = getStationsHashMap().get(stationName.toLowerCase());
+                if (station == null) {
+                    logger.warning(String.format("Unknown station on line %s: %s", lineData.get(0), stationName));
+                    continue;
+                }
+                line.add(station);
+            }
+            lines.add(line);
         }
 
-
-
-        return locationSet;
+        return lines;
     }
 
     /**
-     * Tries to parse data into a location, and returns an {@code Optonal.empty()} if it fails.
-     * @param locationData string containing location information in the format {@code name|lat|long}.
-     * @return an {@code Optional<Location>} object which is empty if it cannot be parsed.
+     * Reads one of the bundled data sets.
+     * The data set is read from the binary resource compiled by the build, and its txt file is only parsed
+     * when the resource is missing, such as when running straight from the sources.
+     * @param fileName the name of the data set, which is also the name of its txt file in the data folder.
+     * @return the interned locations of the data set.
      */
-    private static Optional<Location> getLocationFromData(String locationData) {
-        List<String> locationDataList = Stream.of(locationData.split("\\|"))
-                .map(String::trim)
-                .limit(3) // name, lat, lon
-                .collect(Collectors.toList());
-
-        if (locationDataList.size() != 3
-                || !Location.isValidLocation(locationDataList.get(1), locationDataList.get(2))) {
-            return Optional.empty();
+    private static Set<Location> readLocationData(String fileName) {
+        Optional<List<Location>> compiledData = LocationDataFile.readResource(fileName);
+        if (compiledData.isPresent()) {
+            return internAll(compiledData.get());
         }
 
-        String name = locationDataList.get(0);
-
-        double lat = Double.parseDouble(locationDataList.get(1));
-        double lon = Double.parseDouble(locationDataList.get(2));
+        String fullFileName = String.format("data/%s.txt", fileName);
+        logger.fine(String.format(LocationDataFile.RESOURCE_FORMAT, fileName) + " not found, parsing " + fullFileName);
+        try (InputStream file = LocationDataUtil.class.getClassLoader().getResourceAsStream(fullFileName)) {
+            return internAll(LocationDataFile.parseText(file, line ->
+                    logger.warning("Invalid information in: " + line)));
+        } catch (IOException e) {
+            logger.warning("Unable to read " + fullFileName + ": " + e);
+            return new HashSet<>();
+        }
+    }
 
-        return Optional.of(new Location(name, lat, lon));
+    /**
+     * Interns the locations of a data set, so that every part of the app shares the same instances.
+     */
+    private static Set<Location> internAll(List<Location> locations) {
+        return locations.stream().map(LocationRegistry::intern).collect(Collectors.toCollection(HashSet::new));
     }
 
     /**
@@ -98,4 +279,50 @@ public class LocationDataUtil {
                         location -> location));
     }
 
+    /**
+     * Holds the places to eat at, which are read when the class is first used.
+     */
+    private static class EatLocations {
+        private static final Set<Location> LOCATIONS = readLocationData("eat");
+    }
+
+    /**
+     * Holds the places to study at.
+     */
+    private static class StudyLocations {
+        private static final Set<Location> LOCATIONS = readLocationData("study");
+    }
+
+    /**
+     * Holds the places to meet at.
+     */
+    private static class MeetLocations {
+        private static final Set<Location> LOCATIONS = Stream.concat(
+                EatLocations.LOCATIONS.stream(), StudyLocations.LOCATIONS.stream()).collect(Collectors.toSet());
+    }
+
+    /**
+     * Holds the lesson venues.
+     */
+    private static class LessonVenues {
+        private static final Set<Location> LOCATIONS = readLocationData("venues");
+    }
+
+    /**
+     * Holds the train stations, which are all that reading the saved contacts needs.
+     */
+    private static class Stations {
+        private static final Set<Location> LOCATIONS = readLocationData("stations");
+        private static final Map<String, Location> LOCATIONS_BY_NAME = getLocationHashMap(LOCATIONS);
+    }
+
+    /**
+     * Holds the distances between every pair of bundled locations.
+     */
+    private static class BundledDistances {
+        private static final DistanceMatrix DISTANCE_MATRIX = new DistanceMatrix(
+                Stream.of(List.of(Location.NUS), MeetLocations.LOCATIONS, LessonVenues.LOCATIONS, Stations.LOCATIONS)
+                        .flatMap(Collection::stream)
+                        .collect(Collectors.toList()));
+    }
 }
@@ -0,0 +1,254 @@
+package seedu.address.model.location.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.model.location.Location;
+
+/**
+ * A static k-d tree over a set of destinations, for finding the destinations closest to a location.
+ * The tree is built once, then each query only visits the branches that can still hold a closer destination.
+ * Destinations that are equally far keep the order they were given in.
+ */
+public class LocationIndex implements DestinationIndex {
+
+    private static final int LATITUDE_AXIS = 0;
+    private static final int LONGITUDE_AXIS = 1;
+
+    /**
+     * The destinations laid out as an implicit tree: the node of a range is its middle element,
+     * with the left subtree before it and the right subtree after it.
+     */
+    private final Location[] locations;
+    private final double[] latitudes;
+    private final double[] longitudes;
+
+    /**
+     * The position of each destination in the original collection, used to break ties.
+     */
+    private final int[] ranks;
+
+    /**
+     * Builds an index over the destinations.
+     */
+    public LocationIndex(Collection<Location> destinations) {
+        requireNonNull(destinations);
+        int size = destinations.size();
+        Location[] original = destinations.toArray(new Location[0]);
+        int[] order = new int[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        build(original, order, 0, size, LATITUDE_AXIS);
+
+        this.locations = new Location[size];
+        this.latitudes = new double[size];
+        this.longitudes = new double[size];
+        this.ranks = order;
+        for (int i = 0; i < size; i++) {
+            locations[i] = original[order[i]];
+            latitudes[i] = locations[i].getLatitude();
+            longitudes[i] = locations[i].getLongitude();
+        }
+    }
+
+    @Override
+    public int size() {
+        return locations.length;
+    }
+
+    /**
+     * Returns the closest destination to a location.
+     */
+    public Optional<Location> getClosestPoint(Location location) {
+        List<Location> closestPoints = getClosestPoints(location, 1);
+        return closestPoints.isEmpty() ? Optional.empty() : Optional.of(closestPoints.get(0));
+    }
+
+    @Override
+    public List<Location> getClosestPoints(Location location, int limit) {
+        requireNonNull(location);
+        Search search = new Search(location, Math.min(Math.max(limit, 0), size()));
+        if (search.capacity > 0) {
+            search.visit(0, size(), LATITUDE_AXIS);
+        }
+        return search.getResults();
+    }
+
+    /**
+     * Orders {@code order[from, to)} into a subtree, splitting on the median of the axis.
+     */
+    private static void build(Location[] original, int[] order, int from, int to, int axis) {
+        if (to - from <= 1) {
+            return;
+        }
+        int middle = (from + to) >>> 1;
+        select(original, order, from, to - 1, middle, axis);
+        build(original, order, from, middle, 1 - axis);
+        build(original, order, middle + 1, to, 1 - axis);
+    }
+
+    /**
+     * Moves the k-th smallest destination on the axis into position k,
+     * with smaller ones before it and larger ones after it.
+     */
+    private static void select(Location[] original, int[] order, int low, int high, int k, int axis) {
+        while (low < high) {
+            int pivot = order[(low + high) >>> 1];
+            int i = low;
+            int j = high;
+            while (i <= j) {
+                while (compare(original, order[i], pivot, axis) < 0) {
+                    i++;
+                }
+                while (compare(original, order[j], pivot, axis) > 0) {
+                    j--;
+                }
+                if (i <= j) {
+                    int temp = order[i];
+                    order[i++] = order[j];
+                    order[j--] = temp;
+                }
+            }
+            if (k <= j) {
+                high = j;
+            } else if (k >= i) {
+                low = i;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private static int compare(Location[] original, int first, int second, int axis) {
+        int result = Double.compare(getCoordinate(original[first], axis), getCoordinate(original[second], axis));
+        return result != 0 ? result : Integer.compare(first, second);
+    }
+
+    private static double getCoordinate(Location location, int axis) {
+        return axis == LATITUDE_AXIS ? location.getLatitude() : location.getLongitude();
+    }
+
+    /**
+     * A single nearest-destinations query, keeping the best destinations found so far in a max-heap,
+     * so the furthest of them is always at the root.
+     */
+    private class Search {
+        private final double latitude;
+        private final double longitude;
+        private final int capacity;
+        private final double[] distances;
+        private final int[] nodes;
+        private int heapSize = 0;
+
+        Search(Location location, int capacity) {
+            this.latitude = location.getLatitude();
+            this.longitude = location.getLongitude();
+            this.capacity = capacity;
+            this.distances = new double[capacity];
+            this.nodes = new int[capacity];
+        }
+
+        void visit(int from, int to, int axis) {
+            if (from >= to) {
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            offer(middle);
+
+            double difference = axis == LATITUDE_AXIS
+                    ? latitude - latitudes[middle]
+                    : longitude - longitudes[middle];
+            boolean isLeftNearer = difference < 0;
+            if (isLeftNearer) {
+                visit(from, middle, 1 - axis);
+            } else {
+                visit(middle + 1, to, 1 - axis);
+            }
+
+            // the other side can only hold a closer destination if it is no further than the splitting line
+            if (heapSize < capacity || difference * difference <= distances[0]) {
+                if (isLeftNearer) {
+                    visit(middle + 1, to, 1 - axis);
+                } else {
+                    visit(from, middle, 1 - axis);
+                }
+            }
+        }
+
+        private void offer(int node) {
+            double latitudeDifference = latitude - latitudes[node];
+            double longitudeDifference = longitude - longitudes[node];
+            double distance = latitudeDifference * latitudeDifference + longitudeDifference * longitudeDifference;
+            if (heapSize < capacity) {
+                distances[heapSize] = distance;
+                nodes[heapSize] = node;
+                siftUp(heapSize++);
+            } else if (isFurther(distances[0], nodes[0], distance, node)) {
+                distances[0] = distance;
+                nodes[0] = node;
+                siftDown(heapSize);
+            }
+        }
+
+        private boolean isFurther(double firstDistance, int firstNode, double secondDistance, int secondNode) {
+            return firstDistance > secondDistance
+                    || (firstDistance == secondDistance && ranks[firstNode] > ranks[secondNode]);
+        }
+
+        private boolean isFurther(int first, int second) {
+            return isFurther(distances[first], nodes[first], distances[second], nodes[second]);
+        }
+
+        private void siftUp(int position) {
+            while (position > 0) {
+                int parent = (position - 1) / 2;
+                if (!isFurther(position, parent)) {
+                    return;
+                }
+                swap(position, parent);
+                position = parent;
+            }
+        }
+
+        private void siftDown(int size) {
+            int position = 0;
+            while (2 * position + 1 < size) {
+                int child = 2 * position + 1;
+                if (child + 1 < size && isFurther(child + 1, child)) {
+                    child++;
+                }
+                if (!isFurther(child, position)) {
+                    return;
+                }
+                swap(position, child);
+                position = child;
+            }
+        }
+
+        private void swap(int first, int second) {
+            double distance = distances[first];
+            distances[first] = distances[second];
+            distances[second] = distance;
+            int node = nodes[first];
+            nodes[first] = nodes[second];
+            nodes[second] = node;
+        }
+
+        List<Location> getResults() {
+            for (int end = heapSize - 1; end > 0; end--) {
+                swap(0, end);
+                siftDown(end);
+            }
+            List<Location> results = new ArrayList<>(heapSize);
+            for (int i = 0; i < heapSize; i++) {
+                results.add(locations[nodes[i]]);
+            }
+            return results;
+        }
+    }
+}
@@ -0,0 +1,440 @@
+package seedu.address.model.location.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.location.Location;
+
+/**
+ * Estimates travel times in minutes over the train network.
+ * Each station has a hub, where passengers enter and leave, and a platform for every line through it.
+ * Riding between neighbouring platforms, changing between the hub and a platform, and walking all take time.
+ * The shortest travel times between every pair of stations are found once with Dijkstra's algorithm
+ * from each station, and can be cached in a file so that later launches skip the search.
+ * Any other location is reached by walking to one of its closest stations.
+ */
+public class TransitGraph {
+
+    /**
+     * Average train speed in kilometres per minute, including acceleration and braking.
+     */
+    private static final double TRAIN_SPEED = 0.6;
+    private static final double WALKING_SPEED = 0.08;
+    private static final double STOP_MINUTES = 0.5;
+
+    /**
+     * Time to go between the hub and a platform, so that boarding and alighting cost one transfer in total,
+     * and so does changing lines.
+     */
+    private static final double TRANSFER_MINUTES = 4;
+
+    /**
+     * The number of closest stations a location may walk to.
+     */
+    private static final int ACCESS_STATIONS = 3;
+
+    /**
+     * The number of closest stations a station on no line is linked to, as if by an unlisted line.
+     */
+    private static final int FALLBACK_NEIGHBOURS = 2;
+
+    private static final int CACHE_FORMAT = 0x54524e31;
+
+    private static final Logger logger = LogsCenter.getLogger(TransitGraph.class);
+
+    /**
+     * The stations sorted by name, so that their ids do not depend on the order they were given in.
+     */
+    private final Location[] stations;
+    private final Map<Location, Integer> stationIds = new IdentityHashMap<>();
+    private final LocationIndex stationIndex;
+
+    /**
+     * The closest stations of each venue, found once so that every query to a venue can reuse them.
+     */
+    private final Map<Location, Access> venueAccesses = new IdentityHashMap<>();
+
+    /**
+     * The shortest travel times between the hubs as a lower triangle,
+     * where row {@code i} holds the travel times to stations {@code 0} to {@code i - 1}.
+     */
+    private final double[][] travelTimes;
+
+    /**
+     * Builds the graph and searches it for the travel times between every pair of stations.
+     * @param stations The stations of the network.
+     * @param lines Each line as the stations it stops at in order, with a loop ending where it started.
+     * @param venues The destinations that will often be travelled to.
+     */
+    public TransitGraph(Collection<Location> stations, List<List<Location>> lines, Collection<Location> venues) {
+        this(stations, lines, venues, null);
+    }
+
+    private TransitGraph(Collection<Location> stations, List<List<Location>> lines, Collection<Location> venues,
+            Path cacheFile) {
+        requireNonNull(stations);
+        requireNonNull(lines);
+        requireNonNull(venues);
+        this.stations = stations.stream()
+                .distinct()
+                .sorted(Comparator.comparing(Location::getName)
+                        .thenComparingDouble(Location::getLatitude)
+                        .thenComparingDouble(Location::getLongitude))
+                .toArray(Location[]::new);
+        for (int i = 0; i < this.stations.length; i++) {
+            stationIds.put(this.stations[i], i);
+        }
+        this.stationIndex = new LocationIndex(Arrays.asList(this.stations));
+
+        Network network = new Network(lines);
+        this.travelTimes = cacheFile == null ? network.getTravelTimes() : readOrSearch(network, cacheFile);
+
+        for (Location venue : venues) {
+            venueAccesses.put(venue, findAccess(venue));
+        }
+    }
+
+    /**
+     * Builds the graph, reading the travel times from the cache file if it was written for the same network.
+     * Otherwise, the travel times are searched for and written to the cache file for the next launch.
+     */
+    public static TransitGraph load(Collection<Location> stations, List<List<Location>> lines,
+            Collection<Location> venues, Path cacheFile) {
+        requireNonNull(cacheFile);
+        return new TransitGraph(stations, lines, venues, cacheFile);
+    }
+
+    /**
+     * Returns the number of stations in the graph.
+     */
+    public int size() {
+        return stations.length;
+    }
+
+    /**
+     * Returns whether the location is one of the stations of the graph.
+     */
+    public boolean isStation(Location location) {
+        return stationIds.containsKey(location);
+    }
+
+    /**
+     * Returns the travel time in minutes from one location to another,
+     * which is either walking there directly or taking the train between stations close to both.
+     */
+    public double getTravelTime(Location source, Location destination) {
+        requireNonNull(source);
+        requireNonNull(destination);
+        return getTravelTime(source, getAccess(source), destination, getAccess(destination));
+    }
+
+    /**
+     * Returns the travel times in minutes from a location to each of the destinations, in the same order.
+     * The stations close to the source are only looked for once.
+     */
+    public double[] getTravelTimes(Location source, List<Location> destinations) {
+        requireNonNull(source);
+        requireNonNull(destinations);
+        Access sourceAccess = getAccess(source);
+        double[] results = new double[destinations.size()];
+        for (int i = 0; i < results.length; i++) {
+            Location destination = destinations.get(i);
+            results[i] = getTravelTime(source, sourceAccess, destination, getAccess(destination));
+        }
+        return results;
+    }
+
+    /**
+     * Returns the time in minutes to walk directly between the locations.
+     */
+    public static double getWalkingTime(Location firstLocation, Location secondLocation) {
+        return DistanceUtil.getDistance(firstLocation, secondLocation) / WALKING_SPEED;
+    }
+
+    private double getTravelTime(Location source, Access sourceAccess, Location destination,
+            Access destinationAccess) {
+        double best = getWalkingTime(source, destination);
+        for (int i = 0; i < sourceAccess.stationIds.length; i++) {
+            for (int j = 0; j < destinationAccess.stationIds.length; j++) {
+                double travelTime = sourceAccess.walkingTimes[i]
+                        + getStationTravelTime(sourceAccess.stationIds[i], destinationAccess.stationIds[j])
+                        + destinationAccess.walkingTimes[j];
+                best = Math.min(best, travelTime);
+            }
+        }
+        return best;
+    }
+
+    private double getStationTravelTime(int firstId, int secondId) {
+        if (firstId == secondId) {
+            return 0;
+        }
+        return firstId > secondId ? travelTimes[firstId][secondId] : travelTimes[secondId][firstId];
+    }
+
+    private Access getAccess(Location location) {
+        Integer stationId = stationIds.get(location);
+        if (stationId != null) {
+            return new Access(new int[] {stationId}, new double[] {0});
+        }
+        Access access = venueAccesses.get(location);
+        return access != null ? access : findAccess(location);
+    }
+
+    private Access findAccess(Location location) {
+        List<Location> closestStations = stationIndex.getClosestPoints(location, ACCESS_STATIONS);
+        int[] ids = new int[closestStations.size()];
+        double[] walkingTimes = new double[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = stationIds.get(closestStations.get(i));
+            walkingTimes[i] = getWalkingTime(location, closestStations.get(i));
+        }
+        return new Access(ids, walkingTimes);
+    }
+
+    private double[][] readOrSearch(Network network, Path cacheFile) {
+        long fingerprint = network.getFingerprint();
+        if (FileUtil.isFileExists(cacheFile)) {
+            try (DataInputStream input = new DataInputStream(
+                    new BufferedInputStream(Files.newInputStream(cacheFile)))) {
+                if (input.readInt() == CACHE_FORMAT && input.readLong() == fingerprint
+                        && input.readInt() == stations.length) {
+                    double[][] cachedTravelTimes = new double[stations.length][];
+                    for (int i = 0; i < stations.length; i++) {
+                        cachedTravelTimes[i] = new double[i];
+                        for (int j = 0; j < i; j++) {
+                            cachedTravelTimes[i][j] = input.readDouble();
+                        }
+                    }
+                    logger.info("Travel times read from " + cacheFile);
+                    return cachedTravelTimes;
+                }
+                logger.info("Travel times in " + cacheFile + " are out of date");
+            } catch (IOException e) {
+                logger.warning("Problem while reading travel times from " + cacheFile + ": " + e.getMessage());
+            }
+        }
+
+        double[][] searchedTravelTimes = network.getTravelTimes();
+        try {
+            FileUtil.createParentDirsOfFile(cacheFile);
+            try (DataOutputStream output = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(cacheFile)))) {
+                output.writeInt(CACHE_FORMAT);
+                output.writeLong(fingerprint);
+                output.writeInt(stations.length);
+                for (double[] row : searchedTravelTimes) {
+                    for (double travelTime : row) {
+                        output.writeDouble(travelTime);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Problem while writing travel times to " + cacheFile + ": " + e.getMessage());
+        }
+        return searchedTravelTimes;
+    }
+
+    private static double getRidingTime(Location firstStation, Location secondStation) {
+        return STOP_MINUTES + DistanceUtil.computeDistance(firstStation, secondStation) / TRAIN_SPEED;
+    }
+
+    /**
+     * The closest stations of a location and the time to walk to each of them.
+     */
+    private static class Access {
+        private final int[] stationIds;
+        private final double[] walkingTimes;
+
+        Access(int[] stationIds, double[] walkingTimes) {
+            this.stationIds = stationIds;
+            this.walkingTimes = walkingTimes;
+        }
+    }
+
+    /**
+     * The hubs and platforms of the stations, with the edges between them in compressed adjacency arrays.
+     * Hub {@code i} is node {@code i}, and the platforms are numbered after all the hubs.
+     */
+    private class Network {
+        private int nodeCount = stations.length;
+        private int edgeCount = 0;
+        private int[] edgeSources = new int[16];
+        private int[] edgeTargets = new int[16];
+        private double[] edgeWeights = new double[16];
+
+        private final int[] firstEdges;
+        private final int[] targets;
+        private final double[] weights;
+
+        Network(List<List<Location>> lines) {
+            Map<Integer, Integer> platforms = new HashMap<>();
+            boolean[] isOnLine = new boolean[stations.length];
+            for (int line = 0; line < lines.size(); line++) {
+                int previousStation = -1;
+                int previousPlatform = -1;
+                for (Location location : lines.get(line)) {
+                    Integer station = stationIds.get(location);
+                    if (station == null) {
+                        continue;
+                    }
+                    int platform = platforms.computeIfAbsent(station * lines.size() + line, key -> {
+                        addEdge(station, nodeCount, TRANSFER_MINUTES / 2);
+                        return nodeCount++;
+                    });
+                    if (previousPlatform != -1 && previousPlatform != platform) {
+                        addEdge(previousPlatform, platform,
+                                getRidingTime(stations[previousStation], stations[station]));
+                    }
+                    isOnLine[station] = true;
+                    previousStation = station;
+                    previousPlatform = platform;
+                }
+            }
+
+            for (int station = 0; station < stations.length; station++) {
+                if (isOnLine[station]) {
+                    continue;
+                }
+                for (Location neighbour : stationIndex.getClosestPoints(stations[station], FALLBACK_NEIGHBOURS + 1)) {
+                    int neighbourStation = stationIds.get(neighbour);
+                    if (neighbourStation != station) {
+                        addEdge(station, neighbourStation,
+                                TRANSFER_MINUTES + getRidingTime(stations[station], neighbour));
+                    }
+                }
+            }
+
+            // both directions of every edge are laid out by their source node
+            firstEdges = new int[nodeCount + 1];
+            for (int i = 0; i < edgeCount; i++) {
+                firstEdges[edgeSources[i] + 1]++;
+                firstEdges[edgeTargets[i] + 1]++;
+            }
+            for (int node = 0; node < nodeCount; node++) {
+                firstEdges[node + 1] += firstEdges[node];
+            }
+            targets = new int[2 * edgeCount];
+            weights = new double[2 * edgeCount];
+            int[] nextEdges = Arrays.copyOf(firstEdges, nodeCount);
+            for (int i = 0; i < edgeCount; i++) {
+                int forward = nextEdges[edgeSources[i]]++;
+                targets[forward] = edgeTargets[i];
+                weights[forward] = edgeWeights[i];
+                int backward = nextEdges[edgeTargets[i]]++;
+                targets[backward] = edgeSources[i];
+                weights[backward] = edgeWeights[i];
+            }
+        }
+
+        private void addEdge(int source, int target, double weight) {
+            if (edgeCount == edgeSources.length) {
+                edgeSources = Arrays.copyOf(edgeSources, 2 * edgeCount);
+                edgeTargets = Arrays.copyOf(edgeTargets, 2 * edgeCount);
+                edgeWeights = Arrays.copyOf(edgeWeights, 2 * edgeCount);
+            }
+            edgeSources[edgeCount] = source;
+            edgeTargets[edgeCount] = target;
+            edgeWeights[edgeCount] = weight;
+            edgeCount++;
+        }
+
+        /**
+         * Identifies the network, so that cached travel times are only reused for the same stations and edges.
+         */
+        long getFingerprint() {
+            long fingerprint = nodeCount;
+            for (int i = 0; i < targets.length; i++) {
+                fingerprint = 31 * fingerprint + targets[i];
+                fingerprint = 31 * fingerprint + Double.doubleToLongBits(weights[i]);
+            }
+            return fingerprint;
+        }
+
+        /**
+         * Searches from every hub for the travel times to the hubs before it.
+         * Stations that cannot be reached from each other are infinitely far apart.
+         */
+        double[][] getTravelTimes() {
+            double[][] results = new double[stations.length][];
+            double[] distances = new double[nodeCount];
+            // a binary min-heap that may hold stale entries, which are skipped when popped
+            double[] heapKeys = new double[targets.length + 1];
+            int[] heapNodes = new int[targets.length + 1];
+            for (int source = 0; source < stations.length; source++) {
+                Arrays.fill(distances, Double.POSITIVE_INFINITY);
+                distances[source] = 0;
+                heapKeys[0] = 0;
+                heapNodes[0] = source;
+                int heapSize = 1;
+                while (heapSize > 0) {
+                    double distance = heapKeys[0];
+                    int node = heapNodes[0];
+                    heapSize--;
+                    siftDown(heapKeys, heapNodes, heapKeys[heapSize], heapNodes[heapSize], heapSize);
+                    if (distance > distances[node]) {
+                        continue;
+                    }
+                    for (int edge = firstEdges[node]; edge < firstEdges[node + 1]; edge++) {
+                        double newDistance = distance + weights[edge];
+                        if (newDistance < distances[targets[edge]]) {
+                            distances[targets[edge]] = newDistance;
+                            siftUp(heapKeys, heapNodes, newDistance, targets[edge], heapSize++);
+                        }
+                    }
+                }
+                results[source] = Arrays.copyOf(distances, source);
+            }
+            return results;
+        }
+
+        private void siftUp(double[] keys, int[] nodes, double key, int node, int position) {
+            while (position > 0) {
+                int parent = (position - 1) / 2;
+                if (keys[parent] <= key) {
+                    break;
+                }
+                keys[position] = keys[parent];
+                nodes[position] = nodes[parent];
+                position = parent;
+            }
+            keys[position] = key;
+            nodes[position] = node;
+        }
+
+        private void siftDown(double[] keys, int[] nodes, double key, int node, int size) {
+            int position = 0;
+            while (2 * position + 1 < size) {
+                int child = 2 * position + 1;
+                if (child + 1 < size && keys[child + 1] < keys[child]) {
+                    child++;
+                }
+                if (keys[child] >= key) {
+                    break;
+                }
+                keys[position] = keys[child];
+                nodes[position] = nodes[child];
+                position = child;
+            }
+            keys[position] = key;
+            nodes[position] = node;
+        }
+    }
+}
@@ -0,0 +1,625 @@
+package seedu.address.model.location.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.location.Location;
+
+/**
+ * A catalogue of destinations read from a venue file supplied by the user, each of them with a category.
+ * The venues are bucketed by their geohash, so that the venues within a radius or closest to a location
+ * are found by only looking through the buckets around it.
+ * The venues are kept in primitive arrays sorted by geohash, and each bucket is a range of them.
+ */
+public class VenueCatalogue {
+
+    /**
+     * An empty catalogue, for when the user has not supplied any venues.
+     */
+    public static final VenueCatalogue EMPTY = new VenueCatalogue(new Builder());
+
+    private static final int INDEX_FORMAT = 0x56454e31;
+    private static final int INDEX_BITS = 64 - Geohash.BITS - 1;
+
+    private static final Logger logger = LogsCenter.getLogger(VenueCatalogue.class);
+
+    private final String[] names;
+    private final double[] latitudes;
+    private final double[] longitudes;
+    private final int[] categoryIds;
+    private final String[] categories;
+
+    /**
+     * The geohash of every non-empty bucket in ascending order,
+     * with the venues of bucket {@code i} at positions {@code bucketStarts[i]} to {@code bucketStarts[i + 1]}.
+     */
+    private final long[] bucketHashes;
+    private final int[] bucketStarts;
+
+    private final int minLatitudeCell;
+    private final int maxLatitudeCell;
+    private final int minLongitudeCell;
+    private final int maxLongitudeCell;
+
+    /**
+     * Builds a catalogue from venues that are already sorted by geohash.
+     */
+    private VenueCatalogue(String[] names, double[] latitudes, double[] longitudes, int[] categoryIds,
+            String[] categories) {
+        this.names = names;
+        this.latitudes = latitudes;
+        this.longitudes = longitudes;
+        this.categoryIds = categoryIds;
+        this.categories = categories;
+
+        int size = names.length;
+        long[] hashes = new long[size];
+        int numberOfBuckets = 0;
+        int minLatitude = Integer.MAX_VALUE;
+        int maxLatitude = Integer.MIN_VALUE;
+        int minLongitude = Integer.MAX_VALUE;
+        int maxLongitude = Integer.MIN_VALUE;
+        int[] starts = new int[size + 1];
+        for (int i = 0; i < size; i++) {
+            int latitudeCell = Geohash.getLatitudeCell(latitudes[i]);
+            int longitudeCell = Geohash.getLongitudeCell(longitudes[i]);
+            long hash = Geohash.encode(latitudeCell, longitudeCell);
+            assert i == 0 || hash >= hashes[numberOfBuckets - 1];
+            if (i == 0 || hash != hashes[numberOfBuckets - 1]) {
+                hashes[numberOfBuckets] = hash;
+                starts[numberOfBuckets++] = i;
+            }
+            minLatitude = Math.min(minLatitude, latitudeCell);
+            maxLatitude = Math.max(maxLatitude, latitudeCell);
+            minLongitude = Math.min(minLongitude, longitudeCell);
+            maxLongitude = Math.max(maxLongitude, longitudeCell);
+        }
+        starts[numberOfBuckets] = size;
+        this.bucketHashes = Arrays.copyOf(hashes, numberOfBuckets);
+        this.bucketStarts = Arrays.copyOf(starts, numberOfBuckets + 1);
+        this.minLatitudeCell = minLatitude;
+        this.maxLatitudeCell = maxLatitude;
+        this.minLongitudeCell = minLongitude;
+        this.maxLongitudeCell = maxLongitude;
+    }
+
+    /**
+     * Builds a catalogue from the venues collected by the builder, sorting them by geohash.
+     * Venues in the same bucket keep the order they were read in.
+     */
+    private VenueCatalogue(Builder builder) {
+        this(builder.sorted());
+    }
+
+    private VenueCatalogue(Builder.Sorted sorted) {
+        this(sorted.names, sorted.latitudes, sorted.longitudes, sorted.categoryIds, sorted.categories);
+    }
+
+    /**
+     * Reads the venues from a venue file one line at a time, without holding the whole file in memory.
+     * Each line is in the format {@code name|lat|lon|category}, and lines that cannot be parsed are skipped.
+     */
+    public static VenueCatalogue read(Path venueFile) throws IOException {
+        requireNonNull(venueFile);
+        Builder builder = new Builder();
+        int invalidLines = 0;
+        try (BufferedReader reader = Files.newBufferedReader(venueFile, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank() && !builder.add(line)) {
+                    invalidLines++;
+                }
+            }
+        }
+        if (invalidLines > 0) {
+            logger.warning(String.format("Skipped %d invalid lines in %s", invalidLines, venueFile));
+        }
+        return new VenueCatalogue(builder);
+    }
+
+    /**
+     * Loads the venues in a venue file, reusing the catalogue saved in the index file
+     * if it was built from the same venue file.
+     * Otherwise, the venue file is read and the catalogue is saved for the next launch.
+     * @return the catalogue of venues, which is empty if there is no venue file or it cannot be read.
+     */
+    public static VenueCatalogue load(Path venueFile, Path indexFile) {
+        requireNonNull(venueFile);
+        requireNonNull(indexFile);
+        if (!FileUtil.isFileExists(venueFile)) {
+            logger.fine("No venues found at " + venueFile);
+            return EMPTY;
+        }
+
+        long fingerprint;
+        try {
+            fingerprint = Objects.hash(Files.size(venueFile), Files.getLastModifiedTime(venueFile).toMillis());
+        } catch (IOException e) {
+            logger.warning("Problem while reading venues from " + venueFile + ": " + e.getMessage());
+            return EMPTY;
+        }
+
+        if (FileUtil.isFileExists(indexFile)) {
+            try {
+                VenueCatalogue catalogue = readIndex(indexFile, fingerprint);
+                if (catalogue != null) {
+                    logger.info("Venues read from " + indexFile);
+                    return catalogue;
+                }
+                logger.info("Venues in " + indexFile + " are out of date");
+            } catch (IOException e) {
+                logger.warning("Problem while reading venues from " + indexFile + ": " + e.getMessage());
+            }
+        }
+
+        VenueCatalogue catalogue;
+        try {
+            catalogue = read(venueFile);
+        } catch (IOException e) {
+            logger.warning("Problem while reading venues from " + venueFile + ": " + e.getMessage());
+            return EMPTY;
+        }
+        try {
+            catalogue.writeIndex(indexFile, fingerprint);
+        } catch (IOException e) {
+            logger.warning("Problem while writing venues to " + indexFile + ": " + e.getMessage());
+        }
+        return catalogue;
+    }
+
+    /**
+     * Returns the number of venues in the catalogue.
+     */
+    public int size() {
+        return names.length;
+    }
+
+    /**
+     * Returns the categories of the venues, in lower case and in alphabetical order.
+     */
+    public List<String> getCategories() {
+        return Arrays.stream(categories).sorted().collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the venues in any of the categories, which can be used as the destinations of a recommendation.
+     * @param categories the categories to include, ignoring case, or every category if there are none.
+     */
+    public Selection select(Collection<String> categories) {
+        return new Selection(categories);
+    }
+
+    /**
+     * Returns the venues in any of the categories within a radius of a location, from the closest.
+     * @param radius the radius in kilometres.
+     * @param categories the categories to include, ignoring case, or every category if there are none.
+     */
+    public List<Location> getWithinRadius(Location location, double radius, Collection<String> categories) {
+        requireNonNull(location);
+        boolean[] isSelected = getSelectedCategories(categories);
+        double latitude = location.getLatitude();
+        double longitude = location.getLongitude();
+        double radiusDegrees = radius / DistanceUtil.DISTANCE_CONSTANT;
+        double radiusSquared = radiusDegrees * radiusDegrees;
+
+        int fromLatitudeCell = Math.max(Geohash.getLatitudeCell(latitude - radiusDegrees), minLatitudeCell);
+        int toLatitudeCell = Math.min(Geohash.getLatitudeCell(latitude + radiusDegrees), maxLatitudeCell);
+        int fromLongitudeCell = Math.max(Geohash.getLongitudeCell(longitude - radiusDegrees), minLongitudeCell);
+        int toLongitudeCell = Math.min(Geohash.getLongitudeCell(longitude + radiusDegrees), maxLongitudeCell);
+
+        List<FoundVenue> found = new ArrayList<>();
+        for (int latitudeCell = fromLatitudeCell; latitudeCell <= toLatitudeCell; latitudeCell++) {
+            for (int longitudeCell = fromLongitudeCell; longitudeCell <= toLongitudeCell; longitudeCell++) {
+                int bucket = Arrays.binarySearch(bucketHashes, Geohash.encode(latitudeCell, longitudeCell));
+                if (bucket < 0) {
+                    continue;
+                }
+                for (int venue = bucketStarts[bucket]; venue < bucketStarts[bucket + 1]; venue++) {
+                    double distance = getDistanceSquared(venue, latitude, longitude);
+                    if (isSelected[categoryIds[venue]] && distance <= radiusSquared) {
+                        found.add(new FoundVenue(venue, distance));
+                    }
+                }
+            }
+        }
+
+        Collections.sort(found);
+        return found.stream().map(foundVenue -> getLocation(foundVenue.venue)).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns up to {@code limit} venues in any of the categories closest to a location, from the closest.
+     * The buckets are searched in growing rings around the bucket of the location, until the venues found
+     * are closer than anything in the rings left.
+     * @param categories the categories to include, ignoring case, or every category if there are none.
+     */
+    public List<Location> getClosestPoints(Location location, int limit, Collection<String> categories) {
+        requireNonNull(location);
+        return getClosestPoints(location, limit, getSelectedCategories(categories));
+    }
+
+    private List<Location> getClosestPoints(Location location, int limit, boolean[] isSelected) {
+        double latitude = location.getLatitude();
+        double longitude = location.getLongitude();
+        int capacity = Math.min(Math.max(limit, 0), size());
+        double[] bestDistances = new double[capacity];
+        int[] bestVenues = new int[capacity];
+        int bestCount = 0;
+
+        int centreLatitudeCell = Geohash.getLatitudeCell(latitude);
+        int centreLongitudeCell = Geohash.getLongitudeCell(longitude);
+        int lastRing = capacity == 0 ? -1 : Math.max(
+                Math.max(centreLatitudeCell - minLatitudeCell, maxLatitudeCell - centreLatitudeCell),
+                Math.max(centreLongitudeCell - minLongitudeCell, maxLongitudeCell - centreLongitudeCell));
+        double cellDegrees = Math.min(Geohash.LATITUDE_CELL_DEGREES, Geohash.LONGITUDE_CELL_DEGREES);
+        for (int ring = 0; ring <= lastRing; ring++) {
+            for (int latitudeOffset = -ring; latitudeOffset <= ring; latitudeOffset++) {
+                boolean isEdgeRow = Math.abs(latitudeOffset) == ring;
+                int longitudeStep = isEdgeRow ? 1 : Math.max(2 * ring, 1);
+                for (int longitudeOffset = -ring; longitudeOffset <= ring; longitudeOffset += longitudeStep) {
+                    int bucket = getBucket(centreLatitudeCell + latitudeOffset, centreLongitudeCell + longitudeOffset);
+                    if (bucket < 0) {
+                        continue;
+                    }
+                    for (int venue = bucketStarts[bucket]; venue < bucketStarts[bucket + 1]; venue++) {
+                        if (!isSelected[categoryIds[venue]]) {
+                            continue;
+                        }
+                        double distance = getDistanceSquared(venue, latitude, longitude);
+                        if (bestCount == capacity && !isCloser(distance, venue,
+                                bestDistances[capacity - 1], bestVenues[capacity - 1])) {
+                            continue;
+                        }
+                        int position = bestCount < capacity ? bestCount++ : capacity - 1;
+                        for (; position > 0 && isCloser(distance, venue,
+                                bestDistances[position - 1], bestVenues[position - 1]); position--) {
+                            bestDistances[position] = bestDistances[position - 1];
+                            bestVenues[position] = bestVenues[position - 1];
+                        }
+                        bestDistances[position] = distance;
+                        bestVenues[position] = venue;
+                    }
+                }
+            }
+
+            // every venue in the rings left is at least this many cells away from the location
+            double reached = ring * cellDegrees;
+            if (bestCount == capacity && bestDistances[capacity - 1] < reached * reached) {
+                break;
+            }
+        }
+
+        List<Location> results = new ArrayList<>(bestCount);
+        for (int i = 0; i < bestCount; i++) {
+            results.add(getLocation(bestVenues[i]));
+        }
+        return results;
+    }
+
+    private int getBucket(int latitudeCell, int longitudeCell) {
+        if (latitudeCell < minLatitudeCell || latitudeCell > maxLatitudeCell
+                || longitudeCell < minLongitudeCell || longitudeCell > maxLongitudeCell) {
+            return -1;
+        }
+        return Arrays.binarySearch(bucketHashes, Geohash.encode(latitudeCell, longitudeCell));
+    }
+
+    private static boolean isCloser(double firstDistance, int firstVenue, double secondDistance, int secondVenue) {
+        return firstDistance < secondDistance || (firstDistance == secondDistance && firstVenue < secondVenue);
+    }
+
+    private double getDistanceSquared(int venue, double latitude, double longitude) {
+        double latitudeDifference = latitudes[venue] - latitude;
+        double longitudeDifference = longitudes[venue] - longitude;
+        return latitudeDifference * latitudeDifference + longitudeDifference * longitudeDifference;
+    }
+
+    private Location getLocation(int venue) {
+        return new Location(names[venue], latitudes[venue], longitudes[venue]);
+    }
+
+    private boolean[] getSelectedCategories(Collection<String> selectedCategories) {
+        boolean[] isSelected = new boolean[categories.length];
+        if (selectedCategories == null || selectedCategories.isEmpty()) {
+            Arrays.fill(isSelected, true);
+            return isSelected;
+        }
+        Set<String> normalisedCategories = selectedCategories.stream()
+                .map(VenueCatalogue::normaliseCategory)
+                .collect(Collectors.toSet());
+        for (int i = 0; i < categories.length; i++) {
+            isSelected[i] = normalisedCategories.contains(categories[i]);
+        }
+        return isSelected;
+    }
+
+    private static String normaliseCategory(String category) {
+        return category.trim().toLowerCase();
+    }
+
+    private static VenueCatalogue readIndex(Path indexFile, long fingerprint) throws IOException {
+        try (DataInputStream input = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(indexFile)))) {
+            if (input.readInt() != INDEX_FORMAT || input.readLong() != fingerprint) {
+                return null;
+            }
+            String[] categories = new String[input.readInt()];
+            for (int i = 0; i < categories.length; i++) {
+                categories[i] = input.readUTF();
+            }
+            int size = input.readInt();
+            String[] names = new String[size];
+            double[] latitudes = new double[size];
+            double[] longitudes = new double[size];
+            int[] categoryIds = new int[size];
+            for (int i = 0; i < size; i++) {
+                latitudes[i] = input.readDouble();
+                longitudes[i] = input.readDouble();
+                categoryIds[i] = input.readInt();
+                names[i] = input.readUTF();
+                if (categoryIds[i] < 0 || categoryIds[i] >= categories.length
+                        || !Location.isValidLocation(latitudes[i], longitudes[i])) {
+                    throw new IOException("Venue index is corrupted");
+                }
+            }
+            return new VenueCatalogue(names, latitudes, longitudes, categoryIds, categories);
+        }
+    }
+
+    private void writeIndex(Path indexFile, long fingerprint) throws IOException {
+        FileUtil.createParentDirsOfFile(indexFile);
+        try (DataOutputStream output = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(indexFile)))) {
+            output.writeInt(INDEX_FORMAT);
+            output.writeLong(fingerprint);
+            output.writeInt(categories.length);
+            for (String category : categories) {
+                output.writeUTF(category);
+            }
+            output.writeInt(size());
+            for (int i = 0; i < size(); i++) {
+                output.writeDouble(latitudes[i]);
+                output.writeDouble(longitudes[i]);
+                output.writeInt(categoryIds[i]);
+                output.writeUTF(names[i]);
+            }
+        }
+    }
+
+    /**
+     * A venue found within a radius, with its squared distance from the centre,
+     * so that only the venues found are kept while they are sorted.
+     */
+    private static class FoundVenue implements Comparable<FoundVenue> {
+        private final int venue;
+        private final double distance;
+
+        private FoundVenue(int venue, double distance) {
+            this.venue = venue;
+            this.distance = distance;
+        }
+
+        @Override
+        public int compareTo(FoundVenue other) {
+            return isCloser(distance, venue, other.distance, other.venue) ? -1
+                    : isCloser(other.distance, other.venue, distance, venue) ? 1 : 0;
+        }
+    }
+
+    /**
+     * The venues of a catalogue in some of its categories.
+     * It can be passed around as a collection of destinations, and answers closest destination queries
+     * through the buckets of the catalogue instead of being indexed again.
+     */
+    public class Selection extends AbstractCollection<Location> implements DestinationIndex {
+        private final Set<String> selectedCategories;
+        private final boolean[] isSelected;
+        private final int size;
+
+        private Selection(Collection<String> selectedCategories) {
+            this.selectedCategories = selectedCategories == null
+                    ? new TreeSet<>()
+                    : selectedCategories.stream()
+                            .map(VenueCatalogue::normaliseCategory)
+                            .collect(Collectors.toCollection(TreeSet::new));
+            this.isSelected = getSelectedCategories(this.selectedCategories);
+            int count = 0;
+            for (int categoryId : categoryIds) {
+                if (isSelected[categoryId]) {
+                    count++;
+                }
+            }
+            this.size = count;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public List<Location> getClosestPoints(Location location, int limit) {
+            requireNonNull(location);
+            return VenueCatalogue.this.getClosestPoints(location, limit, isSelected);
+        }
+
+        @Override
+        public Iterator<Location> iterator() {
+            return new Iterator<>() {
+                private int next = findNext(0);
+
+                @Override
+                public boolean hasNext() {
+                    return next < names.length;
+                }
+
+                @Override
+                public Location next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    Location location = getLocation(next);
+                    next = findNext(next + 1);
+                    return location;
+                }
+            };
+        }
+
+        private int findNext(int from) {
+            int venue = from;
+            while (venue < names.length && !isSelected[categoryIds[venue]]) {
+                venue++;
+            }
+            return venue;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof Selection
+                    && getCatalogue() == ((Selection) other).getCatalogue()
+                    && selectedCategories.equals(((Selection) other).selectedCategories));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(System.identityHashCode(getCatalogue()), selectedCategories);
+        }
+
+        private VenueCatalogue getCatalogue() {
+            return VenueCatalogue.this;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d venues in %s", size, selectedCategories.isEmpty()
+                    ? "every category" : selectedCategories);
+        }
+    }
+
+    /**
+     * Collects venues as they are read into growable primitive arrays.
+     */
+    private static class Builder {
+        private final Map<String, Integer> categoryIdsByName = new HashMap<>();
+        private final List<String> categoryNames = new ArrayList<>();
+        private String[] names = new String[16];
+        private double[] latitudes = new double[16];
+        private double[] longitudes = new double[16];
+        private int[] categoryIds = new int[16];
+        private int size = 0;
+
+        /**
+         * Parses a line in the format {@code name|lat|lon|category} and adds the venue in it.
+         * @return whether the line could be parsed.
+         */
+        boolean add(String line) {
+            int nameEnd = line.indexOf('|');
+            int latitudeEnd = nameEnd < 0 ? -1 : line.indexOf('|', nameEnd + 1);
+            int longitudeEnd = latitudeEnd < 0 ? -1 : line.indexOf('|', latitudeEnd + 1);
+            if (longitudeEnd < 0) {
+                return false;
+            }
+            int categoryEnd = line.indexOf('|', longitudeEnd + 1);
+            String name = line.substring(0, nameEnd).trim();
+            String category = normaliseCategory(
+                    line.substring(longitudeEnd + 1, categoryEnd < 0 ? line.length() : categoryEnd));
+            double latitude;
+            double longitude;
+            try {
+                latitude = Double.parseDouble(line.substring(nameEnd + 1, latitudeEnd));
+                longitude = Double.parseDouble(line.substring(latitudeEnd + 1, longitudeEnd));
+            } catch (NumberFormatException e) {
+                return false;
+            }
+            if (name.isEmpty() || category.isEmpty() || !Location.isValidLocation(latitude, longitude)) {
+                return false;
+            }
+
+            if (size == names.length) {
+                int capacity = size * 2;
+                names = Arrays.copyOf(names, capacity);
+                latitudes = Arrays.copyOf(latitudes, capacity);
+                longitudes = Arrays.copyOf(longitudes, capacity);
+                categoryIds = Arrays.copyOf(categoryIds, capacity);
+            }
+            names[size] = name;
+            latitudes[size] = latitude;
+            longitudes[size] = longitude;
+            categoryIds[size] = categoryIdsByName.computeIfAbsent(category, key -> {
+                categoryNames.add(key);
+                return categoryNames.size() - 1;
+            });
+            size++;
+            return true;
+        }
+
+        /**
+         * Returns the venues sorted by geohash, keeping the order they were added in within a bucket.
+         */
+        Sorted sorted() {
+            assert size < (1L << INDEX_BITS);
+            long[] keys = new long[size];
+            for (int i = 0; i < size; i++) {
+                keys[i] = (Geohash.encode(latitudes[i], longitudes[i]) << INDEX_BITS) | i;
+            }
+            Arrays.sort(keys);
+
+            Sorted sorted = new Sorted(size, categoryNames.toArray(new String[0]));
+            long indexMask = (1L << INDEX_BITS) - 1;
+            for (int i = 0; i < size; i++) {
+                int venue = (int) (keys[i] & indexMask);
+                sorted.names[i] = names[venue];
+                sorted.latitudes[i] = latitudes[venue];
+                sorted.longitudes[i] = longitudes[venue];
+                sorted.categoryIds[i] = categoryIds[venue];
+            }
+            return sorted;
+        }
+
+        /**
+         * Venues sorted by geohash, ready to be bucketed.
+         */
+        private static class Sorted {
+            private final String[] names;
+            private final double[] latitudes;
+            private final double[] longitudes;
+            private final int[] categoryIds;
+            private final String[] categories;
+
+            Sorted(int size, String[] categories) {
+                this.names = new String[size];
+                this.latitudes = new double[size];
+                this.longitudes = new double[size];
+                this.categoryIds = new int[size];
+                this.categories = categories;
+            }
+        }
+    }
+}
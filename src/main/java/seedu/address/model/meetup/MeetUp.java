@@ -1,5 +1,6 @@
 package seedu.address.model.meetup;
 
+
 import seedu.address.model.location.Location;
 import seedu.address.model.recommendation.Recommendation;
 import seedu.address.model.time.TimePeriod;
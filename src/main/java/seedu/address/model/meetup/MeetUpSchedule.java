@@ -0,0 +1,130 @@
+package seedu.address.model.meetup;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.ContactIndex;
+import seedu.address.model.time.Day;
+import seedu.address.model.time.TimePeriod;
+import seedu.address.model.timetable.IntervalSchedule;
+
+/**
+ * Indexes scheduled meet ups by day and start time.
+ * Scheduled meet ups never overlap, since the user attends all of them,
+ * so a clash only needs to be checked against the meet ups right before and after.
+ */
+public class MeetUpSchedule {
+
+    private final Map<Day, TreeMap<Integer, List<MeetUp>>> meetUpsByDay = new EnumMap<>(Day.class);
+
+    /**
+     * Constructs an empty {@code MeetUpSchedule}.
+     */
+    public MeetUpSchedule() {
+        for (Day day : Day.values()) {
+            meetUpsByDay.put(day, new TreeMap<>());
+        }
+    }
+
+    /**
+     * Constructs a {@code MeetUpSchedule} with the given meet ups.
+     */
+    public MeetUpSchedule(Collection<MeetUp> meetUps) {
+        this();
+        setMeetUps(meetUps);
+    }
+
+    /**
+     * Replaces the indexed meet ups with {@code meetUps}.
+     */
+    public void setMeetUps(Collection<MeetUp> meetUps) {
+        requireNonNull(meetUps);
+        meetUpsByDay.values().forEach(Map::clear);
+        meetUps.forEach(this::add);
+    }
+
+    /**
+     * Adds a meet up to the index.
+     */
+    public void add(MeetUp meetUp) {
+        requireNonNull(meetUp);
+        TimePeriod timePeriod = meetUp.getTimePeriod();
+        meetUpsByDay.get(timePeriod.getSchoolDay())
+                .computeIfAbsent(getStart(timePeriod), start -> new ArrayList<>())
+                .add(meetUp);
+    }
+
+    /**
+     * Removes a meet up from the index, if it is indexed.
+     */
+    public void remove(MeetUp meetUp) {
+        requireNonNull(meetUp);
+        TimePeriod timePeriod = meetUp.getTimePeriod();
+        TreeMap<Integer, List<MeetUp>> dayMeetUps = meetUpsByDay.get(timePeriod.getSchoolDay());
+        int start = getStart(timePeriod);
+        List<MeetUp> meetUpsAtStart = dayMeetUps.get(start);
+        if (meetUpsAtStart == null) {
+            return;
+        }
+        meetUpsAtStart.removeIf(indexedMeetUp -> indexedMeetUp == meetUp);
+        if (meetUpsAtStart.isEmpty()) {
+            dayMeetUps.remove(start);
+        }
+    }
+
+    /**
+     * Checks if the time period clashes with any scheduled meet up.
+     * Only the meet up starting at or before the time period and those starting within it are looked at.
+     */
+    public boolean hasClash(TimePeriod timePeriod) {
+        requireNonNull(timePeriod);
+        TreeMap<Integer, List<MeetUp>> dayMeetUps = meetUpsByDay.get(timePeriod.getSchoolDay());
+        int start = getStart(timePeriod);
+        int end = IntervalSchedule.toMinuteOfDay(timePeriod.getEndTime());
+
+        Integer from = dayMeetUps.floorKey(start);
+        Map<Integer, List<MeetUp>> candidates = from == null
+                ? dayMeetUps.headMap(end, false)
+                : dayMeetUps.subMap(from, true, end, false);
+
+        return candidates.values().stream()
+                .flatMap(List::stream)
+                .anyMatch(meetUp -> meetUp.getTimePeriod().hasClash(timePeriod));
+    }
+
+    /**
+     * Returns the meet ups on that day, ordered by start time.
+     */
+    public List<MeetUp> getMeetUps(Day day) {
+        return meetUpsByDay.get(day).values().stream()
+                .flatMap(List::stream)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the meet ups on that day that the person attends, ordered by start time.
+     * The user attends every meet up.
+     */
+    public List<MeetUp> getMeetUps(ContactIndex contactIndex, Day day) {
+        requireNonNull(contactIndex);
+        if (contactIndex.equals(ContactIndex.USER_CONTACT_INDEX)) {
+            return getMeetUps(day);
+        }
+        return meetUpsByDay.get(day).values().stream()
+                .flatMap(List::stream)
+                .filter(meetUp -> meetUp.getParticipants().getParticipants().stream()
+                        .anyMatch(person -> person.getContactIndex().equals(contactIndex)))
+                .collect(Collectors.toList());
+    }
+
+    private static int getStart(TimePeriod timePeriod) {
+        return IntervalSchedule.toMinuteOfDay(timePeriod.getStartTime());
+    }
+}
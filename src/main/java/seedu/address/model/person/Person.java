@@ -7,20 +7,25 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
+import javafx.util.Pair;
 import seedu.address.commons.core.LogsCenter;
-import seedu.address.commons.util.CollectionUtil;
 import seedu.address.model.commitment.Commitment;
 import seedu.address.model.commitment.Lesson;
 import seedu.address.model.tag.GroupTag;
 import seedu.address.model.tag.ModuleTag;
 import seedu.address.model.time.TimePeriod;
 import seedu.address.model.time.util.TimeUtil;
+import seedu.address.model.timetable.AvailabilityMask;
+import seedu.address.model.timetable.ReadOnlyIntervalSchedule;
 import seedu.address.model.timetable.Timetable;
 
 /**
@@ -44,6 +49,9 @@ public class Person {
     private final ModuleTagSet moduleTags = new ModuleTagSet();
     private final Timetable timetable = new Timetable();
 
+    // Derived fields, built when first needed and dropped whenever the timetable changes
+    private AvailabilityMask availabilityMask;
+
     // logger
     private final Logger logger = LogsCenter.getLogger(Person.class);
 
@@ -215,6 +223,7 @@ public class Person {
 
         this.moduleTags.addAll(moduleTags);
         lessons.forEach(timetable::addCommitment);
+        availabilityMask = null;
 
         return new HashSet<>(moduleTags);
     }
@@ -235,19 +244,37 @@ public class Person {
 
     /**
      * Checks which commitments in the timetable clash with the ones given.
+     * Every given commitment that clashes is listed with the commitments it clashes with.
      */
     public String getClashingCommitmentsAsStr(Collection<? extends Commitment> commitments) {
-        List<Commitment> commitmentsList = new ArrayList<>(commitments);
-        List<String> clashingCommitments = commitments.stream()
-                .map(timetable::getClashingCommitments)
-                .filter(s -> !s.isEmpty())
-                .map(socc -> socc.stream()
-                        .map(Commitment::toString)
-                        .collect(Collectors.joining(", ")))
-                .collect(Collectors.toList());
+        List<Commitment> allCommitments = new ArrayList<>(timetable.getCommitments());
+        int numberOfExistingCommitments = allCommitments.size();
+        allCommitments.addAll(commitments);
+
+        List<Integer> indices = IntStream.range(0, allCommitments.size()).boxed().collect(Collectors.toList());
+        List<Pair<Integer, Integer>> clashingPairs =
+                TimeUtil.getClashingPairs(indices, i -> allCommitments.get(i).getTimePeriod());
+
+        Map<Integer, List<Commitment>> clashingCommitments = new TreeMap<>();
+        for (Pair<Integer, Integer> pair : clashingPairs) {
+            int first = pair.getKey();
+            int second = pair.getValue();
+            boolean isFirstNew = first >= numberOfExistingCommitments;
+            boolean isSecondNew = second >= numberOfExistingCommitments;
+            if (isFirstNew == isSecondNew) {
+                continue;
+            }
+            int newIndex = isFirstNew ? first : second;
+            int existingIndex = isFirstNew ? second : first;
+            clashingCommitments.computeIfAbsent(newIndex, i -> new ArrayList<>())
+                    .add(allCommitments.get(existingIndex));
+        }
 
-        return CollectionUtil.zip(commitmentsList.stream(), clashingCommitments.stream(), (c, cc)
-                        -> String.format("%s clashes with %s", c, cc))
+        return clashingCommitments.entrySet().stream()
+                .map(entry -> String.format("%s clashes with %s", allCommitments.get(entry.getKey()),
+                        entry.getValue().stream()
+                                .map(Commitment::toString)
+                                .collect(Collectors.joining(", "))))
                 .collect(Collectors.joining("\n"));
     }
 
@@ -286,6 +313,7 @@ public class Person {
                 .map(ModuleTag::getImmutableLessons)
                 .flatMap(Set::stream)
                 .forEach(timetable::removeCommitment);
+        availabilityMask = null;
 
         completelyRemovableModuleTags.stream()
                 .map(ModuleTag::getModuleCode)
@@ -300,6 +328,25 @@ public class Person {
         return timetable;
     }
 
+    /**
+     * Returns the free slots of the person's week.
+     * The mask is built from the timetable the first time it is needed, then reused
+     * until the person's module tags change.
+     */
+    public AvailabilityMask getAvailabilityMask() {
+        if (availabilityMask == null) {
+            availabilityMask = AvailabilityMask.of(timetable);
+        }
+        return availabilityMask;
+    }
+
+    /**
+     * Returns the schedule of the person's commitments down to the minute, as kept by the timetable.
+     */
+    public ReadOnlyIntervalSchedule getIntervalSchedule() {
+        return timetable.getIntervalSchedule();
+    }
+
     public Set<? extends Commitment> getCommitments() {
         return getLessons();
     }
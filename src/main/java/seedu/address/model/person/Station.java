@@ -26,7 +26,7 @@ public class Station implements Comparable<Station> {
     public Station(String station) {
         requireNonNull(station);
         checkArgument(isValidStation(station), MESSAGE_CONSTRAINTS);
-        value = LocationDataUtil.STATIONS_HASH_MAP.get(station.toLowerCase());
+        value = LocationDataUtil.getStationsHashMap().get(station.toLowerCase());
     }
 
     /**
@@ -34,7 +34,7 @@ public class Station implements Comparable<Station> {
      */
     public static boolean isValidStation(String test) {
         return test != null
-                && LocationDataUtil.STATIONS_HASH_MAP.containsKey(test.trim().toLowerCase());
+                && LocationDataUtil.getStationsHashMap().containsKey(test.trim().toLowerCase());
     }
 
     /**
@@ -2,6 +2,11 @@ package seedu.address.model.recommendation;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Set;
+import java.util.TreeSet;
+
 import seedu.address.model.location.Location;
 import seedu.address.model.person.ContactIndex;
 import seedu.address.model.time.TimePeriod;
@@ -16,16 +21,32 @@ public class Recommendation implements Comparable<Recommendation> {
     private final boolean isSaved;
 
     /**
-     * Constructor for a {@code Recommendation} object.
+     * The contact indices of the group the recommendation was made for, which is empty
+     * unless the recommendation was made for one of many groups at once.
+     */
+    private final Set<ContactIndex> group;
+
+    /**
+     * Constructor for a {@code Recommendation} object made for one of many groups.
      */
     public Recommendation(
             Location location, TimePeriod timePeriod,
-            ContactIndex contactIndex, boolean isSaved) {
-        requireAllNonNull(location, timePeriod, contactIndex, isSaved);
+            ContactIndex contactIndex, boolean isSaved, Collection<ContactIndex> group) {
+        requireAllNonNull(location, timePeriod, contactIndex, isSaved, group);
         this.location = location;
         this.timePeriod = timePeriod;
         this.contactIndex = contactIndex;
         this.isSaved = isSaved;
+        this.group = Collections.unmodifiableSet(new TreeSet<>(group));
+    }
+
+    /**
+     * Constructor for a {@code Recommendation} object.
+     */
+    public Recommendation(
+            Location location, TimePeriod timePeriod,
+            ContactIndex contactIndex, boolean isSaved) {
+        this(location, timePeriod, contactIndex, isSaved, Set.of());
     }
 
     /**
@@ -71,6 +92,14 @@ public class Recommendation implements Comparable<Recommendation> {
         return isSaved;
     }
 
+    /**
+     * Gets the contact indices of the group the recommendation was made for, in ascending order.
+     * The group is empty unless the recommendation was made for one of many groups at once.
+     */
+    public Set<ContactIndex> getGroup() {
+        return group;
+    }
+
     /**
      * Gets how close the timing is to the middle of the day.
      * Generally speaking, meeting nearer to noon is better.
@@ -80,11 +109,19 @@ public class Recommendation implements Comparable<Recommendation> {
     }
 
     /**
-     * Compares two recommendations to check whether the time and location are the same.
+     * Compares two recommendations to check whether the time and location are the same for the same group.
      * This is a parallel to the code in {@code Person}.
      */
     public boolean isSameRecommendation(Recommendation other) {
-        return timePeriod.equals(other.timePeriod) && location.equals(other.location);
+        return timePeriod.equals(other.timePeriod) && location.equals(other.location) && group.equals(other.group);
+    }
+
+    /**
+     * Gets what {@link #isSameRecommendation(Recommendation)} compares,
+     * so that recommendations with the same identity can be found in a hash set.
+     */
+    RecommendationIdentity getIdentity() {
+        return new RecommendationIdentity(location, timePeriod, group);
     }
 
     /**
@@ -98,21 +135,28 @@ public class Recommendation implements Comparable<Recommendation> {
      * Returns a new Recommendation with an updated flag.
      */
     public Recommendation saveRecommendation() {
-        return new Recommendation(location, timePeriod, contactIndex, true);
+        return new Recommendation(location, timePeriod, contactIndex, true, group);
     }
 
     /**
      * Returns a new Recommendation with an updated flag.
      */
     public Recommendation unsaveRecommendation() {
-        return new Recommendation(location, timePeriod, contactIndex, false);
+        return new Recommendation(location, timePeriod, contactIndex, false, group);
     }
 
     /**
      * Creates a new recommendation and sets the contact index.
      */
     public Recommendation setContactIndex(ContactIndex contactIndex) {
-        return new Recommendation(location, timePeriod, contactIndex, isSaved);
+        return new Recommendation(location, timePeriod, contactIndex, isSaved, group);
+    }
+
+    /**
+     * Creates a new recommendation and sets the group it was made for.
+     */
+    public Recommendation setGroup(Collection<ContactIndex> group) {
+        return new Recommendation(location, timePeriod, contactIndex, isSaved, group);
     }
 
     @Override
@@ -133,7 +177,8 @@ public class Recommendation implements Comparable<Recommendation> {
         Recommendation otherRecommendation = (Recommendation) other;
         return otherRecommendation.location.equals(location)
                 && otherRecommendation.timePeriod.equals(timePeriod)
-                && otherRecommendation.isSaved == isSaved;
+                && otherRecommendation.isSaved == isSaved
+                && otherRecommendation.group.equals(group);
     }
 
     @Override
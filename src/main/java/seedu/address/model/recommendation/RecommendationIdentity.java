@@ -0,0 +1,45 @@
+package seedu.address.model.recommendation;
+
+import java.util.Objects;
+import java.util.Set;
+
+import seedu.address.model.location.Location;
+import seedu.address.model.person.ContactIndex;
+import seedu.address.model.time.TimePeriod;
+
+/**
+ * What {@code Recommendation#isSameRecommendation(Recommendation)} compares, which is the location,
+ * time period and group of a recommendation, so that recommendations can be kept unique with a hash set.
+ */
+final class RecommendationIdentity {
+    private final Location location;
+    private final TimePeriod timePeriod;
+    private final Set<ContactIndex> group;
+
+    RecommendationIdentity(Location location, TimePeriod timePeriod, Set<ContactIndex> group) {
+        this.location = location;
+        this.timePeriod = timePeriod;
+        this.group = group;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+
+        if (!(other instanceof RecommendationIdentity)) {
+            return false;
+        }
+
+        RecommendationIdentity otherIdentity = (RecommendationIdentity) other;
+        return location.equals(otherIdentity.location)
+                && timePeriod.equals(otherIdentity.timePeriod)
+                && group.equals(otherIdentity.group);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(location, timePeriod, group);
+    }
+}
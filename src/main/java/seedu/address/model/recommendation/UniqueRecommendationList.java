@@ -3,8 +3,11 @@ package seedu.address.model.recommendation;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -30,13 +33,14 @@ public class UniqueRecommendationList implements Iterable<Recommendation> {
     private final ObservableList<Recommendation> internalList = FXCollections.observableArrayList();
     private final ObservableList<Recommendation> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Set<RecommendationIdentity> identities = new HashSet<>();
 
     /**
      * Returns true if the list contains an equivalent recommendation as the given argument.
      */
     public boolean contains(Recommendation toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameRecommendation);
+        return identities.contains(toCheck.getIdentity());
     }
 
     /**
@@ -45,12 +49,44 @@ public class UniqueRecommendationList implements Iterable<Recommendation> {
      */
     public void add(Recommendation toAdd) {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
+        if (!identities.add(toAdd.getIdentity())) {
             return;
         }
         internalList.add(toAdd);
     }
 
+    /**
+     * Adds the recommendations to the end of the list at once, so that the list only reports a single change.
+     * Those that already exist in the list are skipped.
+     */
+    public void addAll(List<Recommendation> toAdd) {
+        requireAllNonNull(toAdd);
+        List<Recommendation> newRecommendations = new ArrayList<>();
+        for (Recommendation recommendation : toAdd) {
+            if (identities.add(recommendation.getIdentity())) {
+                newRecommendations.add(recommendation);
+            }
+        }
+        internalList.addAll(newRecommendations);
+    }
+
+    /**
+     * Returns the recommendations that {@link #addAll(List)} would add, in order,
+     * which are those neither in the list nor the same as an earlier one in {@code toAdd}.
+     */
+    public List<Recommendation> getNewRecommendations(List<Recommendation> toAdd) {
+        requireAllNonNull(toAdd);
+        Set<RecommendationIdentity> addedIdentities = new HashSet<>();
+        List<Recommendation> newRecommendations = new ArrayList<>();
+        for (Recommendation recommendation : toAdd) {
+            RecommendationIdentity identity = recommendation.getIdentity();
+            if (!identities.contains(identity) && addedIdentities.add(identity)) {
+                newRecommendations.add(recommendation);
+            }
+        }
+        return newRecommendations;
+    }
+
     /**
      * Replaces the recommendation {@code target} in the list with {@code editedRecommendation}.
      * {@code target} must exist in the list.
@@ -70,6 +106,8 @@ public class UniqueRecommendationList implements Iterable<Recommendation> {
         }
 
         internalList.set(index, editedRecommendation);
+        identities.remove(target.getIdentity());
+        identities.add(editedRecommendation.getIdentity());
     }
 
     /**
@@ -81,6 +119,7 @@ public class UniqueRecommendationList implements Iterable<Recommendation> {
         if (!internalList.remove(toRemove)) {
             throw new RecommendationNotFoundException();
         }
+        identities.remove(toRemove.getIdentity());
     }
 
     /**
@@ -89,6 +128,8 @@ public class UniqueRecommendationList implements Iterable<Recommendation> {
     public void setRecommendations(UniqueRecommendationList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        identities.clear();
+        identities.addAll(replacement.identities);
     }
 
     /**
@@ -97,11 +138,16 @@ public class UniqueRecommendationList implements Iterable<Recommendation> {
      */
     public void setRecommendations(List<Recommendation> recommendations) {
         requireAllNonNull(recommendations);
-        if (!recommendationsAreUnique(recommendations)) {
-            throw new DuplicateRecommendationException();
+        Set<RecommendationIdentity> replacementIdentities = new HashSet<>();
+        for (Recommendation recommendation : recommendations) {
+            if (!replacementIdentities.add(recommendation.getIdentity())) {
+                throw new DuplicateRecommendationException();
+            }
         }
 
         internalList.setAll(recommendations);
+        identities.clear();
+        identities.addAll(replacementIdentities);
     }
 
     /**
@@ -127,18 +173,4 @@ public class UniqueRecommendationList implements Iterable<Recommendation> {
     public int hashCode() {
         return internalList.hashCode();
     }
-
-    /**
-     * Returns true if {@code recommendations} contains only unique recommendations.
-     */
-    private boolean recommendationsAreUnique(List<Recommendation> recommendations) {
-        for (int i = 0; i < recommendations.size() - 1; i++) {
-            for (int j = i + 1; j < recommendations.size(); j++) {
-                if (recommendations.get(i).isSameRecommendation(recommendations.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
-    }
 }
@@ -1,8 +1,25 @@
 package seedu.address.model.time;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
- * Represents a weekday with school.
+ * Represents a day of the week.
  */
 public enum Day {
-    MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY
+    MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY, SATURDAY, SUNDAY;
+
+    /**
+     * Returns whether the day falls on a weekend.
+     */
+    public boolean isWeekend() {
+        return this == SATURDAY || this == SUNDAY;
+    }
+
+    /**
+     * Returns the days from Monday to Friday.
+     */
+    public static Set<Day> weekdays() {
+        return EnumSet.range(MONDAY, FRIDAY);
+    }
 }
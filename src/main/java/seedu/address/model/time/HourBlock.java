@@ -20,10 +20,26 @@ public class HourBlock extends TimePeriod {
     public static final String WRONG_TIME_MESSAGE = "Timing does not match!";
     public static final String ALREADY_FILLED_MESSAGE = "Slot is already filled by a class!";
 
+    public static final String SHARED_BLOCK_MESSAGE = "Shared free slots cannot hold a class!";
+
     private Optional<Commitment> commitment = Optional.empty();
+    private final boolean isShared;
 
     public HourBlock(LocalTime startTime, Day schoolDay) {
-        super(startTime, startTime.plusHours(1), schoolDay);
+        this(startTime, startTime.plusHours(1), schoolDay, false);
+    }
+
+    private HourBlock(LocalTime startTime, LocalTime endTime, Day schoolDay, boolean isShared) {
+        super(startTime, endTime, schoolDay);
+        this.isShared = isShared;
+    }
+
+    /**
+     * Creates a free hour block that is shared through {@code TimeSlots}, so it must never hold a commitment.
+     * The end time is given so that the block can reuse the time already cached for the next hour.
+     */
+    static HourBlock sharedFree(LocalTime startTime, LocalTime endTime, Day schoolDay) {
+        return new HourBlock(startTime, endTime, schoolDay, true);
     }
 
     /**
@@ -32,6 +48,7 @@ public class HourBlock extends TimePeriod {
     public HourBlock(HourBlock hourBlock) {
         super(hourBlock.getStartTime(), hourBlock.getEndTime(), hourBlock.getSchoolDay());
         this.commitment = hourBlock.getCommitment();
+        this.isShared = false;
     }
 
     public LocalTime getStartTime() {
@@ -75,7 +92,9 @@ public class HourBlock extends TimePeriod {
      */
     public void setCommitment(Commitment commitment) {
         requireNonNull(commitment);
-        if (!isFree()) {
+        if (isShared) {
+            throw new UnsupportedOperationException(SHARED_BLOCK_MESSAGE);
+        } else if (!isFree()) {
             throw new CommitmentClashException(ALREADY_FILLED_MESSAGE);
         } else if (canFitCommitment(commitment)) {
             this.commitment = Optional.ofNullable(commitment);
@@ -92,22 +111,14 @@ public class HourBlock extends TimePeriod {
     }
 
     /**
-     * Verifies if the timeslot is suitable to input that lesson.
+     * Verifies if the timeslot is suitable to input that lesson,
+     * which is when the lesson takes up any part of the timeslot, such as a lesson starting at half past.
      */
     public boolean canFitCommitment(Commitment commitment) {
-        // timeslot must either start match with start or end match with end
-        // or that timeslot start is after lesson start AND timeslot end is before lesson end.
-        LocalTime lessonStartTime = commitment.getStartTime();
-        LocalTime lessonEndTime = commitment.getEndTime();
         if (!commitment.getDay().equals(getSchoolDay())) {
             return false;
         }
-        if (getStartTime().isEqual(lessonStartTime) || getEndTime().isEqual(lessonEndTime)) {
-            return true;
-        } else if (getStartTime().isAfter(lessonStartTime) && getEndTime().isBefore(lessonEndTime)) {
-            return true;
-        }
-        return false;
+        return commitment.getStartTime().isBefore(getEndTime()) && getStartTime().isBefore(commitment.getEndTime());
     }
 
     @Override
@@ -0,0 +1,70 @@
+package seedu.address.model.time;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Represents the days of the week that meet ups are scheduled on.
+ * Commitments and meet ups recur every week, so one week is all there is to schedule over.
+ */
+public class SchedulingHorizon {
+
+    public static final String MESSAGE_NO_DAYS = "A scheduling horizon needs at least one day.";
+
+    public static final SchedulingHorizon SCHOOL_WEEK = new SchedulingHorizon(Day.weekdays());
+
+    private final Set<Day> days;
+
+    /**
+     * Constructs a {@code SchedulingHorizon}.
+     * @param days The days of the week to schedule on.
+     */
+    public SchedulingHorizon(Collection<Day> days) {
+        requireNonNull(days);
+        checkArgument(!days.isEmpty(), MESSAGE_NO_DAYS);
+        this.days = Collections.unmodifiableSet(EnumSet.copyOf(days));
+    }
+
+    /**
+     * Returns the days of the horizon, from Monday to Sunday.
+     */
+    public Set<Day> getDays() {
+        return days;
+    }
+
+    /**
+     * Checks if the day is in the horizon.
+     */
+    public boolean contains(Day day) {
+        return days.contains(day);
+    }
+
+    /**
+     * Checks if the time period falls on a day in the horizon.
+     */
+    public boolean contains(TimePeriod timePeriod) {
+        return contains(timePeriod.getSchoolDay());
+    }
+
+    @Override
+    public String toString() {
+        return days.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this
+                || (other instanceof SchedulingHorizon
+                && days.equals(((SchedulingHorizon) other).days));
+    }
+
+    @Override
+    public int hashCode() {
+        return days.hashCode();
+    }
+}
@@ -6,6 +6,7 @@ import java.util.Objects;
 
 import org.joda.time.Hours;
 import org.joda.time.LocalTime;
+import org.joda.time.Minutes;
 
 import seedu.address.model.time.exceptions.WrongTimeException;
 import seedu.address.model.time.util.TimeUtil;
@@ -94,6 +95,17 @@ public abstract class TimePeriod {
 
     public abstract Hours getHoursBetween();
 
+    public Minutes getMinutesBetween() {
+        return Minutes.minutesBetween(startTime, endTime);
+    }
+
+    /**
+     * Returns the length of the time period in minutes, without creating a {@code Minutes}.
+     */
+    public int getDurationInMinutes() {
+        return TimeUtil.toMinuteOfWeek(schoolDay, endTime) - TimeUtil.toMinuteOfWeek(schoolDay, startTime);
+    }
+
     public Day getSchoolDay() {
         return schoolDay;
     }
@@ -106,12 +118,12 @@ public abstract class TimePeriod {
     }
 
     /**
-     * Splits the time period into a bunch of smaller hour blocks.
+     * Splits the time period into a bunch of smaller, shared free hour blocks.
      */
     public List<HourBlock> fragmentIntoHourBlocks() {
         List<HourBlock> hourBlocks = new ArrayList<>();
         for (int hour = getStartTime().getHourOfDay(); hour < getEndTime().getHourOfDay(); hour++) {
-            hourBlocks.add(new HourBlock(new LocalTime(hour, 0), schoolDay));
+            hourBlocks.add(TimeSlots.getFreeHourBlock(schoolDay, hour));
         }
         return hourBlocks;
     }
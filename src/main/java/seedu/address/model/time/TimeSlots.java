@@ -0,0 +1,49 @@
+package seedu.address.model.time;
+
+import org.joda.time.LocalTime;
+
+/**
+ * Holds the canonical times on the hour and the free hour blocks of every day.
+ * All of them are immutable, so timetables, recommenders and location trackers share
+ * the same instances instead of creating their own for every person.
+ */
+public class TimeSlots {
+
+    public static final int HOURS_PER_DAY = 24;
+
+    private static final LocalTime[] HOURS = new LocalTime[HOURS_PER_DAY];
+    private static final HourBlock[][] FREE_HOUR_BLOCKS = new HourBlock[Day.values().length][HOURS_PER_DAY - 1];
+
+    static {
+        for (int hour = 0; hour < HOURS_PER_DAY; hour++) {
+            HOURS[hour] = new LocalTime(hour, 0);
+        }
+        for (Day day : Day.values()) {
+            for (int hour = 0; hour < HOURS_PER_DAY - 1; hour++) {
+                FREE_HOUR_BLOCKS[day.ordinal()][hour] = HourBlock.sharedFree(HOURS[hour], HOURS[hour + 1], day);
+            }
+        }
+    }
+
+    private TimeSlots() {}
+
+    /**
+     * Returns the time at the start of the hour.
+     * Hours outside the day are passed on to {@code LocalTime}, which rejects them.
+     */
+    public static LocalTime getHour(int hour) {
+        if (hour < 0 || hour >= HOURS_PER_DAY) {
+            return new LocalTime(hour, 0);
+        }
+        return HOURS[hour];
+    }
+
+    /**
+     * Returns the shared free hour block starting at that hour of the day.
+     * The hour block cannot hold a commitment.
+     */
+    public static HourBlock getFreeHourBlock(Day day, int hour) {
+        assert hour >= 0 && hour < HOURS_PER_DAY - 1;
+        return FREE_HOUR_BLOCKS[day.ordinal()][hour];
+    }
+}
@@ -1,18 +1,19 @@
 package seedu.address.model.time.util;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.function.Function;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import org.joda.time.LocalTime;
 
 import javafx.util.Pair;
-import seedu.address.commons.util.MathUtil;
 import seedu.address.model.time.Day;
 import seedu.address.model.time.HourBlock;
 import seedu.address.model.time.TimeBlock;
 import seedu.address.model.time.TimePeriod;
+import seedu.address.model.time.TimeSlots;
 import seedu.address.model.timetable.Timetable;
 
 /**
@@ -27,6 +28,11 @@ public class TimeUtil {
     public static final Integer FIRST_HOUR = 0;
     public static final Integer LAST_HOUR = 23;
 
+    public static final int MINUTES_PER_WEEK = 7 * 24 * 60;
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private static final int MILLIS_PER_MINUTE = 60 * 1000;
+
     /**
      * Checks if the time is a valid time.
      */
@@ -50,25 +56,54 @@ public class TimeUtil {
         return hour >= FIRST_END_HOUR && hour <= LAST_END_HOUR;
     }
 
+    /**
+     * Checks if the number is a valid minute of an hour.
+     */
+    public static boolean isValidMinute(int minute) {
+        return minute >= 0 && minute < 60;
+    }
+
+    /**
+     * Checks if the time, which can be part way through an hour, is a valid start time.
+     */
+    public static boolean isValidStartTime(int hour, int minute) {
+        return isValidMinute(minute) && isValidStartHour(hour);
+    }
+
+    /**
+     * Checks if the time, which can be part way through an hour, is a valid end time.
+     * An end time part way through an hour is valid as long as that hour can be started at.
+     */
+    public static boolean isValidEndTime(int hour, int minute) {
+        if (!isValidMinute(minute)) {
+            return false;
+        }
+        return minute == 0 ? isValidEndHour(hour) : isValidStartHour(hour);
+    }
+
+    /**
+     * Gets the time at that hour and minute, reusing the time of the hour from {@code TimeSlots}.
+     */
+    public static LocalTime getTime(int hour, int minute) {
+        return minute == 0 ? TimeSlots.getHour(hour) : new LocalTime(hour, minute);
+    }
+
     /**
      * Gets a list of free intervals for which a participant is free for the specific school day.
      */
     public static List<HourBlock> getFreeCommonIntervals(Day schoolDay, List<Timetable> schedules) {
-        List<ArrayList<HourBlock>> daySchedules = obtainAllSchedulesForDay(schoolDay, schedules);
-        if (daySchedules.isEmpty()) {
+        if (schedules.isEmpty()) {
             return new ArrayList<>();
         }
+        int commonFreeSlots = Timetable.FULL_DAY_MASK;
+        for (Timetable timetable : schedules) {
+            commonFreeSlots &= timetable.getAvailability(schoolDay);
+        }
         List<HourBlock> commonFreeHourBlocks = new ArrayList<>();
-        int numberOfTimeSlots = daySchedules.get(0).size();
-        for (int i = 0; i < numberOfTimeSlots; i++) {
-            boolean isFreeForAll = true;
-            for (ArrayList<HourBlock> daySchedule : daySchedules) {
-                isFreeForAll &= daySchedule.get(i).isFree();
-            }
-            if (isFreeForAll) {
-                HourBlock sampleSlot = daySchedules.get(daySchedules.size() - 1).get(i);
-                commonFreeHourBlocks.add(new HourBlock(sampleSlot));
-            }
+        while (commonFreeSlots != 0) {
+            int slot = Integer.numberOfTrailingZeros(commonFreeSlots);
+            commonFreeHourBlocks.add(TimeSlots.getFreeHourBlock(schoolDay, Timetable.getHourOfSlot(slot)));
+            commonFreeSlots &= commonFreeSlots - 1;
         }
         return commonFreeHourBlocks;
     }
@@ -78,7 +113,7 @@ public class TimeUtil {
      */
     public static List<ArrayList<HourBlock>> obtainAllSchedulesForDay(Day schoolDay, List<Timetable> schedules) {
         return schedules.stream()
-                .map(timetable -> timetable.getSchedule().get(schoolDay))
+                .map(timetable -> timetable.getDaySchedule(schoolDay))
                 .collect(Collectors.toList());
     }
 
@@ -115,50 +150,108 @@ public class TimeUtil {
      */
     public static String formatLocalTime(LocalTime time) {
         int hourOfDay = time.getHourOfDay();
-        if (hourOfDay < 12) {
-            return String.format("%d AM", hourOfDay);
-        } else if (hourOfDay == 12) {
-            return "12 PM";
-        } else {
-            return String.format("%d PM", hourOfDay % 12);
+        int minuteOfHour = time.getMinuteOfHour();
+        int hourOnClock = hourOfDay <= 12 ? hourOfDay : hourOfDay - 12;
+        String period = hourOfDay < 12 ? "AM" : "PM";
+        if (minuteOfHour == 0) {
+            return String.format("%d %s", hourOnClock, period);
         }
+        return String.format("%d:%02d %s", hourOnClock, minuteOfHour, period);
     }
 
     /**
      * Checks that amongst these timeperiods, if there are any clashes based on timing
      * and not activity.
+     * The time periods are swept in order of their start, so a clash is found
+     * as soon as one starts before the latest end seen so far.
      */
-    public static boolean hasAnyClash(List<TimePeriod> timePeriods) {
-        List<Pair<Integer, TimePeriod>> indexedTimePeriods = MathUtil.<TimePeriod>indexObjects(timePeriods);
-        List<Pair<Integer, TimePeriod>> second = List.copyOf(indexedTimePeriods);
+    public static boolean hasAnyClash(List<? extends TimePeriod> timePeriods) {
+        int[] ends = getEndsInWeek(timePeriods, timePeriod -> timePeriod);
+        long[] startIndices = getSortedStartIndices(timePeriods, timePeriod -> timePeriod);
 
-        List<List<Pair<Integer, TimePeriod>>> cartesianProductPairs =
-            MathUtil.<Pair<Integer, TimePeriod>>getCartesianProduct(indexedTimePeriods, second);
+        int latestEnd = Integer.MIN_VALUE;
+        for (long startIndex : startIndices) {
+            int start = (int) (startIndex >>> Integer.SIZE);
+            if (start < latestEnd) {
+                return true;
+            }
+            latestEnd = Math.max(latestEnd, ends[(int) startIndex]);
+        }
+        return false;
+    }
+
+    /**
+     * Finds every pair of items whose time periods clash.
+     * Each pair holds the item that starts earlier first.
+     * The sweep keeps only the items still running, so it takes O(n log n) time
+     * plus the number of clashing pairs.
+     */
+    public static <T> List<Pair<T, T>> getClashingPairs(List<T> items,
+            Function<? super T, TimePeriod> toTimePeriod) {
+        int[] ends = getEndsInWeek(items, toTimePeriod);
+        long[] startIndices = getSortedStartIndices(items, toTimePeriod);
 
-        Stream<List<Pair<Integer, TimePeriod>>> cartesianProductTimePeriodStream = cartesianProductPairs.stream()
-            .filter(listPair -> !listPair.get(0).getKey().equals(listPair.get(1).getKey())) // remove {A, A} sets
-            .filter(listPair -> listPair.get(0).getValue().hasClash(listPair.get(1).getValue()));
+        List<Pair<T, T>> clashingPairs = new ArrayList<>();
+        int[] running = new int[items.size()];
+        int numberOfRunning = 0;
+        for (long startIndex : startIndices) {
+            int start = (int) (startIndex >>> Integer.SIZE);
+            int index = (int) startIndex;
 
-        return cartesianProductTimePeriodStream.findAny().isPresent();
+            int stillRunning = 0;
+            for (int i = 0; i < numberOfRunning; i++) {
+                if (ends[running[i]] > start) {
+                    running[stillRunning++] = running[i];
+                    clashingPairs.add(new Pair<>(items.get(running[i]), items.get(index)));
+                }
+            }
+            running[stillRunning] = index;
+            numberOfRunning = stillRunning + 1;
+        }
+        return clashingPairs;
+    }
+
+    /**
+     * Packs the start of every item in minutes of the week with its index, sorted by start.
+     * The start takes the upper half of each long and the index the lower half.
+     */
+    private static <T> long[] getSortedStartIndices(List<T> items, Function<? super T, TimePeriod> toTimePeriod) {
+        long[] startIndices = new long[items.size()];
+        for (int i = 0; i < startIndices.length; i++) {
+            TimePeriod timePeriod = toTimePeriod.apply(items.get(i));
+            int start = toMinuteOfWeek(timePeriod.getSchoolDay(), timePeriod.getStartTime());
+            startIndices[i] = ((long) start << Integer.SIZE) | i;
+        }
+        Arrays.sort(startIndices);
+        return startIndices;
+    }
+
+    private static <T> int[] getEndsInWeek(List<T> items, Function<? super T, TimePeriod> toTimePeriod) {
+        int[] ends = new int[items.size()];
+        for (int i = 0; i < ends.length; i++) {
+            TimePeriod timePeriod = toTimePeriod.apply(items.get(i));
+            ends[i] = toMinuteOfWeek(timePeriod.getSchoolDay(), timePeriod.getEndTime());
+        }
+        return ends;
+    }
+
+    /**
+     * Converts a time on a day into minutes since the start of the week,
+     * so that time periods on different days never overlap.
+     */
+    public static int toMinuteOfWeek(Day day, LocalTime time) {
+        return day.ordinal() * MINUTES_PER_DAY + time.getMillisOfDay() / MILLIS_PER_MINUTE;
     }
 
     /**
      * Checks if there are any conflicts in these 2 timetables
      */
     public static boolean hasConflict(Timetable timetable, Timetable other) {
-        boolean hasClashSoFar = false;
         for (Day day : Day.values()) {
-            List<HourBlock> tp = timetable.getSchedule().get(day);
-            List<HourBlock> tp2 = other.getSchedule().get(day);
-            for (int i = 0; i < tp.size(); i++) {
-                hasClashSoFar |= !tp.get(i).isFree() && !tp2.get(i).isFree();
-            }
-            if (hasClashSoFar) {
+            if ((timetable.getOccupancy(day) & other.getOccupancy(day)) != 0) {
                 return true;
             }
         }
         return false;
     }
-
-
 }
@@ -0,0 +1,168 @@
+package seedu.address.model.timetable;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+import seedu.address.model.time.Day;
+import seedu.address.model.time.SchedulingHorizon;
+import seedu.address.model.time.TimeBlock;
+import seedu.address.model.time.TimePeriod;
+import seedu.address.model.time.TimeSlots;
+
+/**
+ * Counts how many participants are free in each slot of the week, and keeps which of them are free,
+ * so that a period is only said to be attended by the participants who are free for the whole of it.
+ * Building the counts takes one pass over the set bits of every participant's availability,
+ * so it stays linear in the number of participants and slots.
+ */
+public class AvailabilityCount {
+
+    private final int[][] counts;
+    private final BitSet[][] freeParticipants;
+    private final int numberOfParticipants;
+
+    /**
+     * Constructs the counts from the availability of every participant.
+     */
+    public AvailabilityCount(Collection<AvailabilityMask> masks) {
+        requireNonNull(masks);
+        this.counts = new int[Day.values().length][Timetable.NUMBER_OF_SLOTS];
+        this.freeParticipants = new BitSet[Day.values().length][Timetable.NUMBER_OF_SLOTS];
+        this.numberOfParticipants = masks.size();
+        for (BitSet[] dayParticipants : freeParticipants) {
+            for (int slot = 0; slot < Timetable.NUMBER_OF_SLOTS; slot++) {
+                dayParticipants[slot] = new BitSet(numberOfParticipants);
+            }
+        }
+
+        int participant = 0;
+        for (AvailabilityMask mask : masks) {
+            for (Day day : Day.values()) {
+                int[] dayCounts = counts[day.ordinal()];
+                BitSet[] dayParticipants = freeParticipants[day.ordinal()];
+                int freeSlots = mask.getDayMask(day);
+                while (freeSlots != 0) {
+                    int slot = Integer.numberOfTrailingZeros(freeSlots);
+                    dayCounts[slot]++;
+                    dayParticipants[slot].set(participant);
+                    freeSlots &= freeSlots - 1;
+                }
+            }
+            participant++;
+        }
+    }
+
+    public int getNumberOfParticipants() {
+        return numberOfParticipants;
+    }
+
+    /**
+     * Gets the number of participants free in that slot.
+     */
+    public int getCount(Day day, int slot) {
+        return counts[day.ordinal()][slot];
+    }
+
+    /**
+     * Gets the number of participants free for the whole time period,
+     * which are those free in every one of its slots.
+     */
+    public int getAttendance(TimePeriod timePeriod) {
+        BitSet[] dayParticipants = freeParticipants[timePeriod.getSchoolDay().ordinal()];
+        BitSet attendees = new BitSet(numberOfParticipants);
+        attendees.set(0, numberOfParticipants);
+        int slots = Timetable.getSlotMask(timePeriod);
+        while (slots != 0 && !attendees.isEmpty()) {
+            attendees.and(dayParticipants[Integer.numberOfTrailingZeros(slots)]);
+            slots &= slots - 1;
+        }
+        return attendees.cardinality();
+    }
+
+    /**
+     * Returns the slots where at least {@code minimumAttendance} participants are free.
+     */
+    public AvailabilityMask getQuorumMask(int minimumAttendance) {
+        int[] dayMasks = new int[Day.values().length];
+        for (Day day : Day.values()) {
+            int[] dayCounts = counts[day.ordinal()];
+            for (int slot = 0; slot < Timetable.NUMBER_OF_SLOTS; slot++) {
+                if (dayCounts[slot] >= minimumAttendance) {
+                    dayMasks[day.ordinal()] |= 1 << slot;
+                }
+            }
+        }
+        return AvailabilityMask.fromDayMasks(dayMasks);
+    }
+
+    /**
+     * Returns the periods from Monday to Friday where at least {@code minimumAttendance} participants are free.
+     */
+    public List<TimePeriod> getQuorumPeriods(int minimumAttendance) {
+        return getQuorumPeriods(minimumAttendance, SchedulingHorizon.SCHOOL_WEEK);
+    }
+
+    /**
+     * Returns the periods on the days of the horizon where at least {@code minimumAttendance} participants are free.
+     * Each period is the longest that some group of at least that many participants can all attend,
+     * so a group that stays free for longer than the others is offered the whole of its time, as well as
+     * any shorter period that more of the participants can attend. The periods are ranked by how many
+     * participants are free first, then by how long the period is.
+     */
+    public List<TimePeriod> getQuorumPeriods(int minimumAttendance, SchedulingHorizon horizon) {
+        assert minimumAttendance > 0;
+        List<TimePeriod> timePeriods = new ArrayList<>();
+        for (Day day : horizon.getDays()) {
+            BitSet[] dayParticipants = freeParticipants[day.ordinal()];
+            for (int start = 0; start < Timetable.NUMBER_OF_SLOTS; start++) {
+                addMaximalPeriods(timePeriods, day, dayParticipants, start, minimumAttendance);
+            }
+        }
+
+        timePeriods.sort(Comparator.comparingInt(this::getAttendance).reversed()
+                .thenComparing(Comparator.comparing(TimePeriod::getHoursBetween).reversed()));
+        return timePeriods;
+    }
+
+    /**
+     * Adds the periods starting at the slot that cannot be made longer at either end without losing an attendee,
+     * while at least {@code minimumAttendance} participants are free for the whole of them.
+     */
+    private static void addMaximalPeriods(List<TimePeriod> timePeriods, Day day, BitSet[] dayParticipants,
+            int start, int minimumAttendance) {
+        BitSet attendees = (BitSet) dayParticipants[start].clone();
+        int end = start + 1;
+        while (attendees.cardinality() >= minimumAttendance) {
+            BitSet nextAttendees = (BitSet) attendees.clone();
+            if (end < Timetable.NUMBER_OF_SLOTS) {
+                nextAttendees.and(dayParticipants[end]);
+            } else {
+                nextAttendees.clear();
+            }
+            if (nextAttendees.equals(attendees)) {
+                end++;
+                continue;
+            }
+            // the attendees all being free in the slot before means the period belongs to an earlier start
+            if (start == 0 || !isSubset(attendees, dayParticipants[start - 1])) {
+                timePeriods.add(new TimeBlock(
+                        TimeSlots.getHour(Timetable.getHourOfSlot(start)),
+                        TimeSlots.getHour(Timetable.getHourOfSlot(end)),
+                        day));
+            }
+            attendees = nextAttendees;
+            end++;
+        }
+    }
+
+    private static boolean isSubset(BitSet subset, BitSet superset) {
+        BitSet outside = (BitSet) subset.clone();
+        outside.andNot(superset);
+        return outside.isEmpty();
+    }
+}
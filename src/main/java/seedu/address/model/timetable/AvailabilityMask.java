@@ -0,0 +1,221 @@
+package seedu.address.model.timetable;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import seedu.address.model.time.Day;
+import seedu.address.model.time.SchedulingHorizon;
+import seedu.address.model.time.TimeBlock;
+import seedu.address.model.time.TimePeriod;
+import seedu.address.model.time.TimeSlots;
+
+/**
+ * Represents the free slots of a whole week, packed into longs.
+ * Every day takes up its own 16-bit lane, so four days fit into one long and intersecting
+ * the availability of many people only takes a handful of long operations.
+ * The top bit of each lane is never set, which stops runs of free slots from crossing days.
+ */
+public class AvailabilityMask {
+
+    private static final int LANE_WIDTH = 16;
+    private static final int DAYS_PER_WORD = Long.SIZE / LANE_WIDTH;
+    private static final int NUMBER_OF_WORDS = (Day.values().length + DAYS_PER_WORD - 1) / DAYS_PER_WORD;
+    private static final long LANE_MASK = (1L << LANE_WIDTH) - 1;
+
+    private final long[] words;
+
+    private AvailabilityMask(long[] words) {
+        assert Timetable.NUMBER_OF_SLOTS < LANE_WIDTH;
+        this.words = words;
+    }
+
+    /**
+     * Creates the availability mask of a timetable, where the free slots are set.
+     */
+    public static AvailabilityMask of(Timetable timetable) {
+        requireNonNull(timetable);
+        long[] words = new long[NUMBER_OF_WORDS];
+        for (Day day : Day.values()) {
+            words[getWordIndex(day)] |= ((long) timetable.getAvailability(day)) << getLaneOffset(day);
+        }
+        return new AvailabilityMask(words);
+    }
+
+    /**
+     * Creates an availability mask from the free slots of each day, indexed by {@code Day#ordinal()}.
+     */
+    public static AvailabilityMask fromDayMasks(int[] dayMasks) {
+        requireNonNull(dayMasks);
+        assert dayMasks.length == Day.values().length;
+        long[] words = new long[NUMBER_OF_WORDS];
+        for (Day day : Day.values()) {
+            words[getWordIndex(day)] |= ((long) (dayMasks[day.ordinal()] & Timetable.FULL_DAY_MASK))
+                    << getLaneOffset(day);
+        }
+        return new AvailabilityMask(words);
+    }
+
+    /**
+     * Creates an availability mask that has every slot of every day free.
+     */
+    public static AvailabilityMask full() {
+        long[] words = new long[NUMBER_OF_WORDS];
+        for (Day day : Day.values()) {
+            words[getWordIndex(day)] |= ((long) Timetable.FULL_DAY_MASK) << getLaneOffset(day);
+        }
+        return new AvailabilityMask(words);
+    }
+
+    /**
+     * Creates an availability mask with no free slots.
+     */
+    public static AvailabilityMask empty() {
+        return new AvailabilityMask(new long[NUMBER_OF_WORDS]);
+    }
+
+    /**
+     * Intersects the availability masks, keeping only slots where everyone is free.
+     * There are no common slots when there is nobody to intersect.
+     */
+    public static AvailabilityMask intersect(Collection<AvailabilityMask> masks) {
+        requireNonNull(masks);
+        if (masks.isEmpty()) {
+            return empty();
+        }
+        long[] words = new long[NUMBER_OF_WORDS];
+        Arrays.fill(words, -1L);
+        for (AvailabilityMask mask : masks) {
+            for (int i = 0; i < NUMBER_OF_WORDS; i++) {
+                words[i] &= mask.words[i];
+            }
+        }
+        return new AvailabilityMask(words);
+    }
+
+    /**
+     * Returns the slots that are free in both masks.
+     */
+    public AvailabilityMask and(AvailabilityMask other) {
+        long[] result = new long[NUMBER_OF_WORDS];
+        for (int i = 0; i < NUMBER_OF_WORDS; i++) {
+            result[i] = words[i] & other.words[i];
+        }
+        return new AvailabilityMask(result);
+    }
+
+    /**
+     * Returns the mask of free slots on that day, in the same layout as {@code Timetable#getAvailability}.
+     */
+    public int getDayMask(Day day) {
+        return (int) ((words[getWordIndex(day)] >>> getLaneOffset(day)) & LANE_MASK);
+    }
+
+    /**
+     * Checks whether the slot on that day is free.
+     */
+    public boolean isFree(Day day, int slot) {
+        return (getDayMask(day) & (1 << slot)) != 0;
+    }
+
+    /**
+     * Checks whether there are no free slots at all.
+     */
+    public boolean isEmpty() {
+        for (long word : words) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets the number of free slots in the week.
+     */
+    public int getNumberOfFreeSlots() {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * Converts the free slots from Monday to Friday into the longest possible time blocks,
+     * ordered by day then start time.
+     */
+    public List<TimePeriod> toTimePeriods() {
+        return toTimePeriods(SchedulingHorizon.SCHOOL_WEEK);
+    }
+
+    /**
+     * Converts the free slots on the days of the horizon into the longest possible time blocks,
+     * ordered by day then start time.
+     */
+    public List<TimePeriod> toTimePeriods(SchedulingHorizon horizon) {
+        List<TimePeriod> timePeriods = new ArrayList<>();
+        for (Day day : horizon.getDays()) {
+            addTimePeriods(day, timePeriods);
+        }
+        return timePeriods;
+    }
+
+    /**
+     * Converts the free slots of that day into the longest possible time blocks.
+     */
+    public List<TimePeriod> toTimePeriods(Day day) {
+        List<TimePeriod> timePeriods = new ArrayList<>();
+        addTimePeriods(day, timePeriods);
+        return timePeriods;
+    }
+
+    /**
+     * Adds the free slots of that day as time blocks.
+     * Consecutive free slots are merged by scanning the runs of set bits directly.
+     */
+    private void addTimePeriods(Day day, List<TimePeriod> timePeriods) {
+        long lane = (words[getWordIndex(day)] >>> getLaneOffset(day)) & LANE_MASK;
+        while (lane != 0) {
+            int startSlot = Long.numberOfTrailingZeros(lane);
+            int length = Long.numberOfTrailingZeros(~(lane >>> startSlot));
+            timePeriods.add(new TimeBlock(
+                    TimeSlots.getHour(Timetable.getHourOfSlot(startSlot)),
+                    TimeSlots.getHour(Timetable.getHourOfSlot(startSlot + length)),
+                    day));
+            lane &= ~(((1L << length) - 1) << startSlot);
+        }
+    }
+
+    private static int getWordIndex(Day day) {
+        return day.ordinal() / DAYS_PER_WORD;
+    }
+
+    private static int getLaneOffset(Day day) {
+        return (day.ordinal() % DAYS_PER_WORD) * LANE_WIDTH;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof AvailabilityMask // instanceof handles nulls
+                && Arrays.equals(words, ((AvailabilityMask) other).words)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(words);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (Day day : Day.values()) {
+            sb.append(day).append(": ").append(Integer.toBinaryString(getDayMask(day))).append("\n");
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,321 @@
+package seedu.address.model.timetable;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.joda.time.LocalTime;
+
+import seedu.address.logic.recommender.timing.exceptions.CommitmentClashException;
+import seedu.address.model.commitment.Commitment;
+import seedu.address.model.time.Day;
+import seedu.address.model.time.TimeBlock;
+import seedu.address.model.time.TimePeriod;
+import seedu.address.model.time.TimeSlots;
+
+/**
+ * Represents the commitments of a person down to the minute.
+ * Each day keeps its commitments as sorted, non-overlapping intervals in minutes of the day,
+ * so clashes are found with a binary search and free gaps with a single pass.
+ */
+public class IntervalSchedule implements ReadOnlyIntervalSchedule {
+
+    public static final int MINUTES_PER_HOUR = 60;
+    public static final int DAY_START = Timetable.getHourOfSlot(0) * MINUTES_PER_HOUR;
+    public static final int DAY_END = Timetable.getHourOfSlot(Timetable.NUMBER_OF_SLOTS) * MINUTES_PER_HOUR;
+
+    private static final int[] NO_MINUTES = new int[0];
+    private static final Commitment[] NO_COMMITMENTS = new Commitment[0];
+
+    /**
+     * The start minutes of the commitments of each day, indexed by {@code Day#ordinal()}.
+     */
+    private final int[][] starts;
+
+    /**
+     * The end minutes of the commitments of each day, in the same order as {@code starts}.
+     */
+    private final int[][] ends;
+
+    private final Commitment[][] commitments;
+
+    /**
+     * Constructs an IntervalSchedule with no commitments.
+     */
+    public IntervalSchedule() {
+        int numberOfDays = Day.values().length;
+        this.starts = new int[numberOfDays][];
+        this.ends = new int[numberOfDays][];
+        this.commitments = new Commitment[numberOfDays][];
+        for (int i = 0; i < numberOfDays; i++) {
+            starts[i] = NO_MINUTES;
+            ends[i] = NO_MINUTES;
+            commitments[i] = NO_COMMITMENTS;
+        }
+    }
+
+    /**
+     * Constructs an IntervalSchedule with some commitments.
+     * @param commitments The commitments to add in the schedule, which must not clash.
+     */
+    public IntervalSchedule(Collection<? extends Commitment> commitments) {
+        this();
+        commitments.forEach(this::addCommitment);
+    }
+
+    /**
+     * Converts a time into the number of minutes since midnight.
+     */
+    public static int toMinuteOfDay(LocalTime time) {
+        return time.getHourOfDay() * MINUTES_PER_HOUR + time.getMinuteOfHour();
+    }
+
+    /**
+     * Converts the number of minutes since midnight into a time.
+     */
+    public static LocalTime toLocalTime(int minuteOfDay) {
+        if (minuteOfDay % MINUTES_PER_HOUR == 0) {
+            return TimeSlots.getHour(minuteOfDay / MINUTES_PER_HOUR);
+        }
+        return new LocalTime(minuteOfDay / MINUTES_PER_HOUR, minuteOfDay % MINUTES_PER_HOUR);
+    }
+
+    /**
+     * Adds a commitment to the schedule.
+     */
+    public void addCommitment(Commitment commitment) {
+        requireNonNull(commitment);
+        int dayIndex = commitment.getDay().ordinal();
+        int start = toMinuteOfDay(commitment.getStartTime());
+        int end = toMinuteOfDay(commitment.getEndTime());
+        int index = findFirstEndingAfter(dayIndex, start);
+        if (index < starts[dayIndex].length && starts[dayIndex][index] < end) {
+            throw new CommitmentClashException("There is lesson clash!");
+        }
+
+        starts[dayIndex] = insert(starts[dayIndex], index, start);
+        ends[dayIndex] = insert(ends[dayIndex], index, end);
+        Commitment[] newCommitments = Arrays.copyOf(commitments[dayIndex], commitments[dayIndex].length + 1);
+        System.arraycopy(newCommitments, index, newCommitments, index + 1, newCommitments.length - index - 1);
+        newCommitments[index] = commitment;
+        commitments[dayIndex] = newCommitments;
+    }
+
+    /**
+     * Removes a commitment from the schedule, if it is in the schedule.
+     */
+    public void removeCommitment(Commitment commitment) {
+        requireNonNull(commitment);
+        int dayIndex = commitment.getDay().ordinal();
+        int start = toMinuteOfDay(commitment.getStartTime());
+        int index = findFirstEndingAfter(dayIndex, start);
+        if (index >= starts[dayIndex].length || starts[dayIndex][index] != start
+                || !commitments[dayIndex][index].equals(commitment)) {
+            return;
+        }
+
+        starts[dayIndex] = remove(starts[dayIndex], index);
+        ends[dayIndex] = remove(ends[dayIndex], index);
+        Commitment[] oldCommitments = commitments[dayIndex];
+        Commitment[] newCommitments = new Commitment[oldCommitments.length - 1];
+        System.arraycopy(oldCommitments, 0, newCommitments, 0, index);
+        System.arraycopy(oldCommitments, index + 1, newCommitments, index, newCommitments.length - index);
+        commitments[dayIndex] = newCommitments;
+    }
+
+    /**
+     * Returns whether the schedule can fit the commitment.
+     */
+    @Override
+    public boolean canFitCommitment(Commitment commitment) {
+        return !hasClash(commitment.getTimePeriod());
+    }
+
+    /**
+     * Returns whether any commitment overlaps with the time period.
+     */
+    @Override
+    public boolean hasClash(TimePeriod timePeriod) {
+        int dayIndex = timePeriod.getSchoolDay().ordinal();
+        int index = findFirstEndingAfter(dayIndex, toMinuteOfDay(timePeriod.getStartTime()));
+        return index < starts[dayIndex].length
+                && starts[dayIndex][index] < toMinuteOfDay(timePeriod.getEndTime());
+    }
+
+    /**
+     * Returns the commitments that overlap with the time period, in the order they start.
+     */
+    @Override
+    public List<Commitment> getClashingCommitments(TimePeriod timePeriod) {
+        int dayIndex = timePeriod.getSchoolDay().ordinal();
+        int end = toMinuteOfDay(timePeriod.getEndTime());
+        List<Commitment> clashingCommitments = new ArrayList<>();
+        for (int i = findFirstEndingAfter(dayIndex, toMinuteOfDay(timePeriod.getStartTime()));
+                i < starts[dayIndex].length && starts[dayIndex][i] < end; i++) {
+            clashingCommitments.add(commitments[dayIndex][i]);
+        }
+        return clashingCommitments;
+    }
+
+    /**
+     * Returns the commitment that is happening at that minute of the day, if any.
+     */
+    @Override
+    public Optional<Commitment> getCommitment(Day day, int minuteOfDay) {
+        int dayIndex = day.ordinal();
+        int index = findFirstEndingAfter(dayIndex, minuteOfDay);
+        if (index < starts[dayIndex].length && starts[dayIndex][index] <= minuteOfDay) {
+            return Optional.of(commitments[dayIndex][index]);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the last commitment that ends by that minute of the day, if any.
+     */
+    @Override
+    public Optional<Commitment> getCommitmentBefore(Day day, int minuteOfDay) {
+        int dayIndex = day.ordinal();
+        int index = findFirstEndingAfter(dayIndex, minuteOfDay) - 1;
+        return index >= 0 ? Optional.of(commitments[dayIndex][index]) : Optional.empty();
+    }
+
+    /**
+     * Returns the first commitment that starts from that minute of the day, if any.
+     */
+    @Override
+    public Optional<Commitment> getCommitmentAfter(Day day, int minuteOfDay) {
+        int dayIndex = day.ordinal();
+        int index = findFirstEndingAfter(dayIndex, minuteOfDay);
+        if (index < starts[dayIndex].length && starts[dayIndex][index] < minuteOfDay) {
+            index++;
+        }
+        return index < starts[dayIndex].length ? Optional.of(commitments[dayIndex][index]) : Optional.empty();
+    }
+
+    /**
+     * Returns the commitments of the day, in the order they start.
+     */
+    @Override
+    public List<Commitment> getCommitments(Day day) {
+        return List.of(commitments[day.ordinal()]);
+    }
+
+    /**
+     * Returns the gaps between commitments on that day, within the hours of the timetable.
+     */
+    @Override
+    public List<TimePeriod> getFreePeriods(Day day) {
+        int dayIndex = day.ordinal();
+        return toFreePeriods(day, starts[dayIndex], ends[dayIndex], starts[dayIndex].length);
+    }
+
+    /**
+     * Returns the periods on that day where nobody in the schedules has a commitment.
+     * The commitments of all schedules are merged by start time before the gaps are read off.
+     */
+    public static List<TimePeriod> getCommonFreePeriods(Day day,
+            Collection<? extends ReadOnlyIntervalSchedule> schedules) {
+        requireNonNull(schedules);
+        List<List<Commitment>> dayCommitments = new ArrayList<>(schedules.size());
+        schedules.forEach(schedule -> dayCommitments.add(schedule.getCommitments(day)));
+        int size = dayCommitments.stream().mapToInt(List::size).sum();
+
+        // each interval is packed as (start << 32 | end) so that a primitive sort orders them by start
+        long[] intervals = new long[size];
+        int count = 0;
+        for (List<Commitment> commitmentsOfSchedule : dayCommitments) {
+            for (Commitment commitment : commitmentsOfSchedule) {
+                intervals[count++] = ((long) toMinuteOfDay(commitment.getStartTime()) << Integer.SIZE)
+                        | toMinuteOfDay(commitment.getEndTime());
+            }
+        }
+        Arrays.sort(intervals);
+
+        int[] mergedStarts = new int[size];
+        int[] mergedEnds = new int[size];
+        int mergedCount = 0;
+        for (long interval : intervals) {
+            int start = (int) (interval >>> Integer.SIZE);
+            int end = (int) interval;
+            if (mergedCount > 0 && start <= mergedEnds[mergedCount - 1]) {
+                mergedEnds[mergedCount - 1] = Math.max(mergedEnds[mergedCount - 1], end);
+            } else {
+                mergedStarts[mergedCount] = start;
+                mergedEnds[mergedCount] = end;
+                mergedCount++;
+            }
+        }
+        return toFreePeriods(day, mergedStarts, mergedEnds, mergedCount);
+    }
+
+    /**
+     * Reads off the gaps between sorted, non-overlapping intervals within the hours of the timetable.
+     */
+    private static List<TimePeriod> toFreePeriods(Day day, int[] starts, int[] ends, int size) {
+        List<TimePeriod> freePeriods = new ArrayList<>();
+        int freeFrom = DAY_START;
+        for (int i = 0; i < size && freeFrom < DAY_END; i++) {
+            int freeUntil = Math.min(starts[i], DAY_END);
+            if (freeFrom < freeUntil) {
+                freePeriods.add(new TimeBlock(toLocalTime(freeFrom), toLocalTime(freeUntil), day));
+            }
+            freeFrom = Math.max(freeFrom, ends[i]);
+        }
+        if (freeFrom < DAY_END) {
+            freePeriods.add(new TimeBlock(toLocalTime(freeFrom), toLocalTime(DAY_END), day));
+        }
+        return freePeriods;
+    }
+
+    /**
+     * Finds the index of the first commitment on that day that ends after the minute.
+     * As the intervals do not overlap, the ends are sorted just like the starts.
+     */
+    private int findFirstEndingAfter(int dayIndex, int minuteOfDay) {
+        int[] dayEnds = ends[dayIndex];
+        int low = 0;
+        int high = dayEnds.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (dayEnds[mid] <= minuteOfDay) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int[] insert(int[] array, int index, int value) {
+        int[] result = new int[array.length + 1];
+        System.arraycopy(array, 0, result, 0, index);
+        result[index] = value;
+        System.arraycopy(array, index, result, index + 1, array.length - index);
+        return result;
+    }
+
+    private static int[] remove(int[] array, int index) {
+        int[] result = new int[array.length - 1];
+        System.arraycopy(array, 0, result, 0, index);
+        System.arraycopy(array, index + 1, result, index, result.length - index);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Commitments: \n");
+        for (Day day : Day.values()) {
+            sb.append(day).append("\n");
+            for (Commitment commitment : commitments[day.ordinal()]) {
+                sb.append(commitment).append("\n");
+            }
+        }
+        return sb.toString();
+    }
+}
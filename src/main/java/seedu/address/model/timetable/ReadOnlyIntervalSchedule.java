@@ -0,0 +1,54 @@
+package seedu.address.model.timetable;
+
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.model.commitment.Commitment;
+import seedu.address.model.time.Day;
+import seedu.address.model.time.TimePeriod;
+
+/**
+ * Unmodifiable view of the commitments of a person down to the minute.
+ */
+public interface ReadOnlyIntervalSchedule {
+
+    /**
+     * Returns whether the schedule can fit the commitment.
+     */
+    boolean canFitCommitment(Commitment commitment);
+
+    /**
+     * Returns whether any commitment overlaps with the time period.
+     */
+    boolean hasClash(TimePeriod timePeriod);
+
+    /**
+     * Returns the commitments that overlap with the time period, in the order they start.
+     */
+    List<Commitment> getClashingCommitments(TimePeriod timePeriod);
+
+    /**
+     * Returns the commitment that is happening at that minute of the day, if any.
+     */
+    Optional<Commitment> getCommitment(Day day, int minuteOfDay);
+
+    /**
+     * Returns the last commitment that ends by that minute of the day, if any.
+     */
+    Optional<Commitment> getCommitmentBefore(Day day, int minuteOfDay);
+
+    /**
+     * Returns the first commitment that starts from that minute of the day, if any.
+     */
+    Optional<Commitment> getCommitmentAfter(Day day, int minuteOfDay);
+
+    /**
+     * Returns the commitments of the day, in the order they start.
+     */
+    List<Commitment> getCommitments(Day day);
+
+    /**
+     * Returns the gaps between commitments on that day, within the hours of the timetable.
+     */
+    List<TimePeriod> getFreePeriods(Day day);
+}
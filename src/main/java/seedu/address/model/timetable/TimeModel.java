@@ -0,0 +1,16 @@
+package seedu.address.model.timetable;
+
+/**
+ * Represents how the schedules of participants are read when recommending meet ups.
+ */
+public enum TimeModel {
+    /**
+     * Uses the hourly slots of the {@code Timetable}.
+     */
+    HOURLY,
+
+    /**
+     * Uses the exact start and end minutes of every commitment in an {@code IntervalSchedule}.
+     */
+    EXACT
+}
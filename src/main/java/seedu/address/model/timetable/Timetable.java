@@ -3,7 +3,10 @@ package seedu.address.model.timetable;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -16,31 +19,48 @@ import seedu.address.model.commitment.Commitment;
 import seedu.address.model.time.Day;
 import seedu.address.model.time.HourBlock;
 import seedu.address.model.time.TimePeriod;
+import seedu.address.model.time.TimeSlots;
 import seedu.address.model.time.util.TimeUtil;
 
 /**
  * Represents a timetable for a person.
+ * The commitments are kept down to the minute in an {@code IntervalSchedule}, and each day is also stored
+ * as a bitmask with one bit per slot in {@code START_TIMINGS}, where a slot is occupied if any commitment
+ * takes up part of it. The commitments are only kept for the occupied slots.
  */
 public class Timetable {
 
     public static final Integer[] START_TIMINGS = new Integer[] {
         8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20, 21, 22
     };
+    public static final int NUMBER_OF_SLOTS = START_TIMINGS.length;
+    public static final int FULL_DAY_MASK = (1 << NUMBER_OF_SLOTS) - 1;
+
+    private static final int EARLIEST_HOUR = START_TIMINGS[0];
+    private static final Commitment[] NO_COMMITMENTS = new Commitment[0];
     private static final Logger logger = LogsCenter.getLogger(Timetable.class);
-    private final HashMap<Day, ArrayList<HourBlock>> schedule;
+
+    /**
+     * The occupied slots of each day, indexed by {@code Day#ordinal()}.
+     */
+    private final int[] occupancy;
+
+    /**
+     * The commitments of each day, one for every occupied slot in ascending slot order.
+     */
+    private final Commitment[][] commitments;
+
+    private final IntervalSchedule schedule = new IntervalSchedule();
 
     /**
      * Constructs a Timetable with no classes.
      */
     public Timetable() {
-        logger.info("=============================[ Creating Timetable ]===========================");
-        this.schedule = new HashMap<>();
-        for (Day day : Day.values()) {
-            ArrayList<HourBlock> grid = new ArrayList<>();
-            for (Integer hour : START_TIMINGS) {
-                grid.add(new HourBlock(new LocalTime(hour, 0), day));
-            }
-            schedule.put(day, grid);
+        int numberOfDays = Day.values().length;
+        this.occupancy = new int[numberOfDays];
+        this.commitments = new Commitment[numberOfDays][];
+        for (int i = 0; i < numberOfDays; i++) {
+            commitments[i] = NO_COMMITMENTS;
         }
     }
 
@@ -60,47 +80,83 @@ public class Timetable {
         commitments.forEach(this::addCommitment);
     }
 
+    /**
+     * Converts an hour of the day into the index of its slot.
+     */
+    public static int getSlotIndex(int hour) {
+        return hour - EARLIEST_HOUR;
+    }
+
+    /**
+     * Converts the index of a slot into the hour of the day it starts at.
+     */
+    public static int getHourOfSlot(int slot) {
+        return slot + EARLIEST_HOUR;
+    }
+
+    /**
+     * Returns a mask with a bit set for every slot that the time period covers,
+     * including the slots that it only covers part of.
+     */
+    public static int getSlotMask(TimePeriod timePeriod) {
+        int startSlot = getSlotIndex(timePeriod.getStartTime().getHourOfDay());
+        LocalTime endTime = timePeriod.getEndTime();
+        int endSlot = getSlotIndex(endTime.getHourOfDay()) + (endTime.getMinuteOfHour() > 0 ? 1 : 0);
+        assert startSlot >= 0 && startSlot <= endSlot && endSlot <= NUMBER_OF_SLOTS;
+        return ((1 << (endSlot - startSlot)) - 1) << startSlot;
+    }
+
     /**
      * Adds a commitment to the schedule.
+     * @throws CommitmentClashException if the commitment overlaps with one in the schedule.
      */
     public <T extends Commitment> void addCommitment(T commitment) {
-        Day day = commitment.getDay();
-        ArrayList<HourBlock> availableSlots = schedule.get(day);
-        if (!commitment.<T>canFitIntoDaySchedule(availableSlots)) {
-            throw new CommitmentClashException("There is lesson clash!");
-        } else {
-            for (int i = commitment.getStartTime().getHourOfDay() - 8;
-                 i < commitment.getEndTime().getHourOfDay() - 8; i++) {
-                availableSlots.get(i).setCommitment(commitment);
-            }
-        }
+        schedule.addCommitment(commitment);
+        updateSlots(commitment.getDay());
     }
 
     /**
      * Removes a commitment from the schedule.
      */
     public <T extends Commitment> void removeCommitment(T commitment) {
-        Day day = commitment.getDay();
-        ArrayList<HourBlock> availableSlots = schedule.get(day);
+        schedule.removeCommitment(commitment);
+        updateSlots(commitment.getDay());
+    }
 
-        for (int i = commitment.getStartTime().getHourOfDay() - 8;
-             i < commitment.getEndTime().getHourOfDay() - 8; i++) {
-            availableSlots.get(i).removeCommitment();
+    /**
+     * Rebuilds the slots of a day from its commitments, in the order they start.
+     * A slot shared by commitments that each take part of the hour keeps the one that starts first.
+     */
+    private void updateSlots(Day day) {
+        List<Commitment> dayCommitments = schedule.getCommitments(day);
+        int newOccupancy = 0;
+        List<Commitment> slotCommitments = new ArrayList<>();
+        for (Commitment commitment : dayCommitments) {
+            int newSlots = getSlotMask(commitment.getTimePeriod()) & ~newOccupancy;
+            for (int i = Integer.bitCount(newSlots); i > 0; i--) {
+                slotCommitments.add(commitment);
+            }
+            newOccupancy |= newSlots;
         }
+
+        occupancy[day.ordinal()] = newOccupancy;
+        commitments[day.ordinal()] = slotCommitments.isEmpty()
+                ? NO_COMMITMENTS
+                : slotCommitments.toArray(Commitment[]::new);
     }
 
     /**
      * Returns whether the timetable can fit the commitment.
      */
     public boolean canFitCommitment(Commitment commitment) {
-        return commitment.canFitIntoDaySchedule(schedule.get(commitment.getDay()));
+        return schedule.canFitCommitment(commitment);
     }
 
     /**
      * Returns the set of commitments that clash with the one given.
      */
     public Set<Commitment> getClashingCommitments(Commitment commitment) {
-        return commitment.getClashingCommitments(schedule.get(commitment.getDay()));
+        return new HashSet<>(schedule.getClashingCommitments(commitment.getTimePeriod()));
     }
 
     /**
@@ -108,21 +164,73 @@ public class Timetable {
      */
     public void mergeTimetable(Timetable other) {
         logger.info("=============================[ Timetable: Check conflict ]===========================");
-        assert(!TimeUtil.hasConflict(this, other));
+        assert other.getCommitments().stream().allMatch(this::canFitCommitment);
         logger.info("=============================[ Timetable: No Conflict ]===========================");
-        HashMap<Day, ArrayList<HourBlock>> otherSchedule = other.getSchedule();
+        for (Commitment lesson : other.getCommitments()) {
+            logger.info(String.format("=============================[ Lesson Added: %s]===="
+                    + "=======================", lesson));
+            addCommitment(lesson);
+        }
+    }
+
+    /**
+     * Returns the mask of occupied slots on that day.
+     */
+    public int getOccupancy(Day day) {
+        return occupancy[day.ordinal()];
+    }
+
+    /**
+     * Returns the mask of free slots on that day.
+     */
+    public int getAvailability(Day day) {
+        return ~getOccupancy(day) & FULL_DAY_MASK;
+    }
+
+    /**
+     * Checks whether the slot on that day has no commitment.
+     */
+    public boolean isFree(Day day, int slot) {
+        return (getOccupancy(day) & (1 << slot)) == 0;
+    }
+
+    /**
+     * Returns the commitment occupying the slot on that day, if any.
+     */
+    public Optional<Commitment> getCommitment(Day day, int slot) {
+        int dayOccupancy = getOccupancy(day);
+        int bit = 1 << slot;
+        if ((dayOccupancy & bit) == 0) {
+            return Optional.empty();
+        }
+        int rank = Integer.bitCount(dayOccupancy & (bit - 1));
+        return Optional.of(commitments[day.ordinal()][rank]);
+    }
+
+    /**
+     * Returns the commitments of the timetable down to the minute.
+     * The schedule is the one the timetable keeps, so it reflects any later changes to the timetable.
+     */
+    public ReadOnlyIntervalSchedule getIntervalSchedule() {
+        return schedule;
+    }
+
+    /**
+     * Returns every commitment in the timetable, ordered by day then start time.
+     */
+    public Set<Commitment> getCommitments() {
+        Set<Commitment> allCommitments = new LinkedHashSet<>();
         for (Day day : Day.values()) {
-            ArrayList<HourBlock> dayEvents = otherSchedule.get(day);
-            for (int i = 0; i < dayEvents.size(); i++) {
-                if (!dayEvents.get(i).isFree()) {
-                    Commitment lesson = dayEvents.get(i).getCommitment().orElseGet(() -> null);
-                    logger.info(String.format("=============================[ Lesson Added: %s]===="
-                            + "=======================", lesson));
-                    this.schedule.get(day).get(i).setCommitment(lesson);
-                }
-            }
+            allCommitments.addAll(schedule.getCommitments(day));
         }
-        //TODO: Find a cleaner implementation.
+        return allCommitments;
+    }
+
+    /**
+     * Returns the commitments on that day, in the order they start.
+     */
+    public Set<Commitment> getCommitments(Day day) {
+        return new LinkedHashSet<>(schedule.getCommitments(day));
     }
 
     @Override
@@ -131,8 +239,7 @@ public class Timetable {
         sb.append("Classes: \n");
         for (Day day : Day.values()) {
             sb.append(day).append("\n");
-            ArrayList<HourBlock> dayTime = schedule.get(day);
-            for (HourBlock hourBlock : dayTime) {
+            for (HourBlock hourBlock : getDaySchedule(day)) {
                 if (!hourBlock.isFree()) {
                     sb.append(hourBlock).append("\n");
                 }
@@ -142,29 +249,64 @@ public class Timetable {
         return sb.toString();
     }
 
+    /**
+     * Returns the hour blocks of every day.
+     * The hour blocks are built on demand, so changes made to them are not reflected in the timetable.
+     */
     public HashMap<Day, ArrayList<HourBlock>> getSchedule() {
+        HashMap<Day, ArrayList<HourBlock>> schedule = new HashMap<>();
+        for (Day day : Day.values()) {
+            schedule.put(day, getDaySchedule(day));
+        }
         return schedule;
     }
 
+    /**
+     * Returns the hour blocks of a day.
+     * The hour blocks are built on demand, so changes made to them are not reflected in the timetable.
+     * Free slots are the shared hour blocks from {@code TimeSlots}.
+     */
+    public ArrayList<HourBlock> getDaySchedule(Day day) {
+        ArrayList<HourBlock> grid = new ArrayList<>();
+        for (int slot = 0; slot < NUMBER_OF_SLOTS; slot++) {
+            Optional<Commitment> commitment = getCommitment(day, slot);
+            if (commitment.isEmpty()) {
+                grid.add(TimeSlots.getFreeHourBlock(day, getHourOfSlot(slot)));
+                continue;
+            }
+            HourBlock hourBlock = new HourBlock(TimeSlots.getHour(getHourOfSlot(slot)), day);
+            hourBlock.setCommitment(commitment.get());
+            grid.add(hourBlock);
+        }
+        return grid;
+    }
+
     public ArrayList<HourBlock> getMondayClasses() {
-        return schedule.get(Day.MONDAY);
+        return getDaySchedule(Day.MONDAY);
     }
 
     public ArrayList<HourBlock> getTuesdayClasses() {
-        return schedule.get(Day.TUESDAY);
+        return getDaySchedule(Day.TUESDAY);
     }
 
     public ArrayList<HourBlock> getWednesdayClasses() {
-        return schedule.get(Day.WEDNESDAY);
+        return getDaySchedule(Day.WEDNESDAY);
     }
 
     public ArrayList<HourBlock> getThursdayClasses() {
-        return schedule.get(Day.THURSDAY);
+        return getDaySchedule(Day.THURSDAY);
     }
 
     public ArrayList<HourBlock> getFridayClasses() {
-        return schedule.get(Day.FRIDAY);
+        return getDaySchedule(Day.FRIDAY);
     }
 
-}
+    public ArrayList<HourBlock> getSaturdayClasses() {
+        return getDaySchedule(Day.SATURDAY);
+    }
+
+    public ArrayList<HourBlock> getSundayClasses() {
+        return getDaySchedule(Day.SUNDAY);
+    }
 
+}
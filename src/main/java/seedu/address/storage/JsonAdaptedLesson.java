@@ -3,6 +3,7 @@ package seedu.address.storage;
 import org.joda.time.LocalTime;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -17,20 +18,37 @@ import seedu.address.model.time.util.TimeUtil;
  */
 public class JsonAdaptedLesson {
     private final int startHour;
+    @JsonInclude(JsonInclude.Include.NON_DEFAULT)
+    private final int startMinute;
     private final int endHour;
+    @JsonInclude(JsonInclude.Include.NON_DEFAULT)
+    private final int endMinute;
     private final String day;
 
     /**
      * Constructs a {@code JsonAdaptedLesson} with the given
      * {@code startHour}, {@code endHour}, {@code day}.
      */
+    public JsonAdaptedLesson(int startHour, int endHour, String day) {
+        this(startHour, 0, endHour, 0, day);
+    }
+
+    /**
+     * Constructs a {@code JsonAdaptedLesson} with the given {@code startHour}, {@code endHour}, {@code day},
+     * and the minutes past the hours that it starts and ends at.
+     * The minutes are left out of the file when they are zero, so files written before minutes were kept still load.
+     */
     @JsonCreator
     public JsonAdaptedLesson(
             @JsonProperty("startHour") int startHour,
+            @JsonProperty("startMinute") int startMinute,
             @JsonProperty("endHour") int endHour,
+            @JsonProperty("endMinute") int endMinute,
             @JsonProperty("day") String day) {
         this.startHour = startHour;
+        this.startMinute = startMinute;
         this.endHour = endHour;
+        this.endMinute = endMinute;
         this.day = day;
     }
 
@@ -39,7 +57,9 @@ public class JsonAdaptedLesson {
      */
     public JsonAdaptedLesson(Lesson lesson) {
         startHour = lesson.getStartTime().getHourOfDay();
+        startMinute = lesson.getStartTime().getMinuteOfHour();
         endHour = lesson.getEndTime().getHourOfDay();
+        endMinute = lesson.getEndTime().getMinuteOfHour();
         day = lesson.getDay().toString();
     }
 
@@ -49,19 +69,19 @@ public class JsonAdaptedLesson {
      * @throws IllegalValueException if there were any data constraints violated in the adapted lesson.
      */
     public Lesson toModelType() throws IllegalValueException {
-        if (!TimeUtil.isValidStartHour(startHour)) {
+        if (!TimeUtil.isValidStartTime(startHour, startMinute)) {
             throw new IllegalValueException(
                     String.format(ParserUtil.MESSAGE_INVALID_START_HOUR, LocalTime.class.getSimpleName()));
         }
 
-        final LocalTime modelStartTime = new LocalTime(startHour, 0);
+        final LocalTime modelStartTime = TimeUtil.getTime(startHour, startMinute);
 
-        if (!TimeUtil.isValidEndHour(endHour)) {
+        if (!TimeUtil.isValidEndTime(endHour, endMinute)) {
             throw new IllegalValueException(
                     String.format(ParserUtil.MESSAGE_INVALID_END_HOUR, LocalTime.class.getSimpleName()));
         }
 
-        final LocalTime modelEndTime = new LocalTime(endHour, 0);
+        final LocalTime modelEndTime = TimeUtil.getTime(endHour, endMinute);
 
         Day parsedDay = ParserUtil.parseDay(day);
         TimeBlock timeBlock = new TimeBlock(modelStartTime, modelEndTime, parsedDay);
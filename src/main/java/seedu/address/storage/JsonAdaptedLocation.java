@@ -5,6 +5,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.location.Location;
+import seedu.address.model.location.LocationRegistry;
 
 /**
  * Json object for converting Locations.
@@ -40,6 +41,7 @@ public class JsonAdaptedLocation {
 
     /**
      * Converts the json object to a {@code Location} type.
+     * Named locations are interned, so that contacts sharing a station or venue share the same instance.
      */
     public Location toModelType() throws IllegalValueException {
         if (name == null) {
@@ -55,6 +57,6 @@ public class JsonAdaptedLocation {
             throw new IllegalValueException("Invalid longitude!");
         }
 
-        return new Location(name, latitude, longitude);
+        return LocationRegistry.intern(name, latitude, longitude);
     }
 }
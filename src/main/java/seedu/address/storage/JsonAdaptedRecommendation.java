@@ -1,5 +1,9 @@
 package seedu.address.storage;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
@@ -15,26 +19,39 @@ import seedu.address.model.time.TimePeriod;
  */
 public class JsonAdaptedRecommendation {
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Recommendation's %s field is missing!";
+    public static final String MESSAGE_INVALID_GROUP = "Recommendation's group should only hold contact indices!";
 
     protected final JsonAdaptedLocation location;
     protected final JsonAdaptedTimePeriod timePeriod;
     protected final boolean isSaved;
     protected final Integer index;
+    protected final List<Integer> group;
 
     /**
      * Constructs a {@code Recommendation} with the given
-     * {@code location}, {@code timePeriod}, {@code isSaved}.
+     * {@code location}, {@code timePeriod}, {@code isSaved} and {@code group}.
      */
     @JsonCreator
     public JsonAdaptedRecommendation(
             @JsonProperty("location") JsonAdaptedLocation location,
             @JsonProperty("timePeriod") JsonAdaptedTimePeriod timePeriod,
             @JsonProperty("isSaved") boolean isSaved,
-            @JsonProperty("index") Integer index) {
+            @JsonProperty("index") Integer index,
+            @JsonProperty("group") List<Integer> group) {
         this.location = location;
         this.timePeriod = timePeriod;
         this.isSaved = isSaved;
         this.index = index;
+        this.group = group;
+    }
+
+    /**
+     * Constructs a {@code Recommendation} with the given
+     * {@code location}, {@code timePeriod}, {@code isSaved}, that was not made for one of many groups.
+     */
+    public JsonAdaptedRecommendation(JsonAdaptedLocation location, JsonAdaptedTimePeriod timePeriod,
+            boolean isSaved, Integer index) {
+        this(location, timePeriod, isSaved, index, null);
     }
 
     /**
@@ -45,6 +62,9 @@ public class JsonAdaptedRecommendation {
         timePeriod = new JsonAdaptedTimePeriod(recommendation.getTimePeriod());
         isSaved = recommendation.getIsSaved();
         index = recommendation.getContactIndex().getContactIndex();
+        group = recommendation.getGroup().stream()
+                .map(ContactIndex::getContactIndex)
+                .collect(Collectors.toList());
     }
 
     /**
@@ -74,6 +94,15 @@ public class JsonAdaptedRecommendation {
 
         final ContactIndex modelContactIndex = new ContactIndex(index);
 
-        return new Recommendation(modelLocation, modelTimePeriod, modelContactIndex, isSaved);
+        // recommendations saved before groups were recorded have no group
+        final List<ContactIndex> modelGroup = new ArrayList<>();
+        for (Integer groupIndex : group == null ? List.<Integer>of() : group) {
+            if (groupIndex == null || groupIndex < 0) {
+                throw new IllegalValueException(MESSAGE_INVALID_GROUP);
+            }
+            modelGroup.add(new ContactIndex(groupIndex));
+        }
+
+        return new Recommendation(modelLocation, modelTimePeriod, modelContactIndex, isSaved, modelGroup);
     }
 }
@@ -3,6 +3,7 @@ package seedu.address.storage;
 import org.joda.time.LocalTime;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -18,19 +19,36 @@ import seedu.address.model.time.util.TimeUtil;
 public class JsonAdaptedTimePeriod {
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "TimePeriod's %s field is missing!";
     protected final int startHour;
+    @JsonInclude(JsonInclude.Include.NON_DEFAULT)
+    protected final int startMinute;
     protected final int endHour;
+    @JsonInclude(JsonInclude.Include.NON_DEFAULT)
+    protected final int endMinute;
     protected final String day;
 
     /**
      * Constructs a {@code JsonAdaptedTimePeriod} with the given location details.
      */
+    public JsonAdaptedTimePeriod(int startHour, int endHour, String day) {
+        this(startHour, 0, endHour, 0, day);
+    }
+
+    /**
+     * Constructs a {@code JsonAdaptedTimePeriod} with the given {@code startHour}, {@code endHour}, {@code day},
+     * and the minutes past the hours that it starts and ends at.
+     * The minutes are left out of the file when they are zero, so files written before minutes were kept still load.
+     */
     @JsonCreator
     public JsonAdaptedTimePeriod(
             @JsonProperty("startHour") int startHour,
+            @JsonProperty("startMinute") int startMinute,
             @JsonProperty("endHour") int endHour,
+            @JsonProperty("endMinute") int endMinute,
             @JsonProperty("day") String day) {
         this.startHour = startHour;
+        this.startMinute = startMinute;
         this.endHour = endHour;
+        this.endMinute = endMinute;
         this.day = day;
     }
 
@@ -39,7 +57,9 @@ public class JsonAdaptedTimePeriod {
      */
     public JsonAdaptedTimePeriod(TimePeriod timePeriod) {
         startHour = timePeriod.getStartTime().getHourOfDay();
+        startMinute = timePeriod.getStartTime().getMinuteOfHour();
         endHour = timePeriod.getEndTime().getHourOfDay();
+        endMinute = timePeriod.getEndTime().getMinuteOfHour();
         day = timePeriod.getSchoolDay().name();
     }
 
@@ -50,19 +70,19 @@ public class JsonAdaptedTimePeriod {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public TimePeriod toModelType() throws IllegalValueException {
-        if (!TimeUtil.isValidStartHour(startHour)) {
+        if (!TimeUtil.isValidStartTime(startHour, startMinute)) {
             throw new IllegalValueException(
                     String.format(ParserUtil.MESSAGE_INVALID_START_HOUR, LocalTime.class.getSimpleName()));
         }
 
-        final LocalTime modelStartTime = new LocalTime(startHour, 0);
+        final LocalTime modelStartTime = TimeUtil.getTime(startHour, startMinute);
 
-        if (!TimeUtil.isValidEndHour(endHour)) {
+        if (!TimeUtil.isValidEndTime(endHour, endMinute)) {
             throw new IllegalValueException(
                     String.format(ParserUtil.MESSAGE_INVALID_END_HOUR, LocalTime.class.getSimpleName()));
         }
 
-        final LocalTime modelEndTime = new LocalTime(endHour, 0);
+        final LocalTime modelEndTime = TimeUtil.getTime(endHour, endMinute);
 
         final Day modelSchoolDay = ParserUtil.parseDay(day);
 
@@ -1,10 +1,13 @@
 package seedu.address.ui;
 
+import java.util.stream.Collectors;
+
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
+import seedu.address.model.person.ContactIndex;
 import seedu.address.model.recommendation.Recommendation;
 
 /**
@@ -40,7 +43,21 @@ public class MeetCard extends UiPart<Region> {
         super(FXML);
         this.recommendation = recommendation;
         id.setText(recommendation.getContactIndex().toString() + ". ");
-        place.setText(recommendation.getLocation().getName() + " : " + recommendation.getTimePeriod().getUiDisplay());
+        place.setText(getGroupDisplay() + recommendation.getLocation().getName()
+                + " : " + recommendation.getTimePeriod().getUiDisplay());
+    }
+
+    /**
+     * Gets the contacts the recommendation was made for, if it was made for one of many groups.
+     */
+    private String getGroupDisplay() {
+        if (recommendation.getGroup().isEmpty()) {
+            return "";
+        }
+        return recommendation.getGroup().stream()
+                .filter(index -> !index.equals(ContactIndex.USER_CONTACT_INDEX))
+                .map(ContactIndex::toString)
+                .collect(Collectors.joining(" ", "[", "] "));
     }
 
     @Override
@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertNotEquals;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Map;
 import java.util.Objects;
 import java.util.logging.Level;
 
@@ -17,7 +18,10 @@ public class ConfigTest {
     @Test
     public void toString_defaultObject_stringReturned() {
         String defaultConfigAsString = "Current log level : INFO\n"
-                + "Preference file Location : preferences.json";
+                + "Preference file Location : preferences.json\n"
+                + "Recommendation threads : 0\n"
+                + "Recommendation weights : {}\n"
+                + "Recommendation time model : HOURLY";
 
         assertEquals(defaultConfigAsString, new Config().toString());
     }
@@ -53,7 +57,7 @@ public class ConfigTest {
         Path defaultPath = Paths.get("preferences.json");
         defaultConfig.setUserPrefsFilePath(defaultPath);
         defaultConfig.setLogLevel(Level.INFO);
-        assertEquals(defaultConfig.hashCode(), Objects.hash(Level.INFO, defaultPath));
+        assertEquals(defaultConfig.hashCode(), Objects.hash(Level.INFO, defaultPath, 0, Map.of(), "HOURLY"));
     }
 
     @Test
@@ -70,4 +74,28 @@ public class ConfigTest {
         assertEquals(defaultConfig, otherConfig);
     }
 
+    @Test
+    public void equals_differentRecommendationThreads_false() {
+        Config otherConfig = new Config();
+        otherConfig.setRecommendationThreads(4);
+        assertEquals(4, otherConfig.getRecommendationThreads());
+        assertNotEquals(DEFAULT_CONFIG, otherConfig);
+    }
+
+    @Test
+    public void equals_differentRecommendationWeights_false() {
+        Config otherConfig = new Config();
+        otherConfig.setRecommendationWeights(Map.of("SLOT_LENGTH", 1.0));
+        assertEquals(Map.of("SLOT_LENGTH", 1.0), otherConfig.getRecommendationWeights());
+        assertNotEquals(DEFAULT_CONFIG, otherConfig);
+    }
+
+    @Test
+    public void equals_differentRecommendationTimeModel_false() {
+        Config otherConfig = new Config();
+        otherConfig.setRecommendationTimeModel("EXACT");
+        assertEquals("EXACT", otherConfig.getRecommendationTimeModel());
+        assertNotEquals(DEFAULT_CONFIG, otherConfig);
+    }
+
 }
@@ -100,6 +100,24 @@ public class CollectionUtilTest {
         assertEquals(outputStream.collect(Collectors.toList()), expectedList);
     }
 
+    @Test
+    public void getTopK_unsortedItems_highestScoresInOrder() {
+        List<Integer> items = List.of(5, 1, 9, 3, 7, 9, 2, 8);
+        assertEquals(List.of(9, 9, 8), CollectionUtil.getTopK(items, Integer::longValue, 3));
+        assertEquals(List.of(1, 2, 3), CollectionUtil.getTopK(items, item -> -item, 3));
+
+        List<Integer> sorted = items.stream().sorted(Collections.reverseOrder()).collect(Collectors.toList());
+        assertEquals(sorted, CollectionUtil.getTopK(items, Integer::longValue, 20));
+        assertTrue(CollectionUtil.getTopK(items, Integer::longValue, 0).isEmpty());
+    }
+
+    @Test
+    public void getTopK_tiedScores_keepsOriginalOrder() {
+        List<String> items = List.of("bb", "a", "cc", "dd", "e", "ff");
+        assertEquals(List.of("bb", "cc", "dd"), CollectionUtil.getTopK(items, String::length, 3));
+        assertEquals(List.of("bb", "cc", "dd", "ff", "a"), CollectionUtil.getTopK(items, String::length, 5));
+    }
+
     /**
      * Asserts that {@code CollectionUtil#requireAllNonNull(Object...)} throw {@code NullPointerException}
      * if {@code objects} or any element of {@code objects} is null.
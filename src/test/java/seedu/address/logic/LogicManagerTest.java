@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_ALEX;
@@ -10,9 +12,14 @@ import static seedu.address.logic.commands.CommandTestUtil.STATION_DESC_ALEX;
 import static seedu.address.logic.commands.CommandTestUtil.TELEGRAM_DESC_ALEX;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALEX;
+import static seedu.address.testutil.TypicalPersons.getTypicalEduMate;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -21,9 +28,11 @@ import org.junit.jupiter.api.io.TempDir;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.MeetCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.commands.results.CommandResult;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.logic.recommender.RecommendationPublisher;
 import seedu.address.model.EduMateHistory;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -129,6 +138,39 @@ public class LogicManagerTest {
         assertEquals(user, otherUser);
     }
 
+    @Test
+    public void execute_meetPublishedInBackground_savedOncePublished() throws Exception {
+        Queue<Runnable> published = new ConcurrentLinkedQueue<>();
+        RecommendationPublisher.setPublishingExecutor(published::add);
+        try {
+            model.setEduMate(getTypicalEduMate());
+            CommandResult result = logic.execute(MeetCommand.MEET_COMMAND_WORD + " 1 2");
+            CompletableFuture<?> pendingChanges = result.getPendingChanges().orElseThrow();
+            assertTrue(readSavedEduMate().getRecommendationList().isEmpty());
+
+            long deadline = System.nanoTime() + TimeUnit.MINUTES.toNanos(1);
+            while (!pendingChanges.isDone() && System.nanoTime() < deadline) {
+                Runnable batch = published.poll();
+                if (batch == null) {
+                    Thread.sleep(10);
+                } else {
+                    batch.run();
+                }
+            }
+
+            assertTrue(pendingChanges.isDone());
+            assertFalse(model.getEduMate().getRecommendationList().isEmpty());
+            assertEquals(model.getEduMate().getRecommendationList(), readSavedEduMate().getRecommendationList());
+        } finally {
+            RecommendationPublisher.setPublishingExecutor(null);
+        }
+    }
+
+    private ReadOnlyEduMate readSavedEduMate() throws Exception {
+        return new EduMateStorageManager(temporaryFolder.resolve("eduMate.json"),
+                temporaryFolder.resolve(".edumate_history")).readEduMate().orElseThrow();
+    }
+
     /**
      * Executes the command and confirms that
      * - no exceptions are thrown <br>
@@ -25,6 +25,9 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.exceptions.CommandException;
 //import seedu.address.logic.commands.results.CommandResult;
 import seedu.address.logic.parser.IndexHandler;
+import seedu.address.logic.recommender.RecommendationCache;
+import seedu.address.logic.recommender.RecommenderSettings;
+import seedu.address.logic.recommender.location.LocationTracker;
 import seedu.address.model.EduMate;
 import seedu.address.model.EduMateHistory;
 import seedu.address.model.Model;
@@ -40,6 +43,8 @@ import seedu.address.model.person.ContactIndex;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.User;
 import seedu.address.model.recommendation.Recommendation;
+import seedu.address.model.time.Day;
+import seedu.address.model.timetable.TimeModel;
 import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.TypicalUser;
 
@@ -232,11 +237,21 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addRecommendations(List<Recommendation> recommendations) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void resetRecommendations() {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public int getRecommendationListVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public User getUser() {
             return TypicalUser.LINUS;
@@ -252,6 +267,26 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public LocationTracker getLocationTracker(Person person, TimeModel timeModel) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public RecommendationCache getRecommendationCache() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public RecommenderSettings getRecommenderSettings() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setRecommenderSettings(RecommenderSettings recommenderSettings) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Person> getObservablePersonList() {
             throw new AssertionError("This method should not be called.");
@@ -297,6 +332,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<MeetUp> getMeetUps(ContactIndex contactIndex, Day day) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Recommendation> getObservableRecommendationList() {
             throw new AssertionError("This method should not be called.");
@@ -0,0 +1,81 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALBERT;
+import static seedu.address.testutil.TypicalPersons.ANG;
+import static seedu.address.testutil.TypicalPersons.BART;
+import static seedu.address.testutil.TypicalPersons.getContactIndexOfPerson;
+import static seedu.address.testutil.TypicalPersons.getTypicalEduMate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.EduMateHistory;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.location.util.LocationDataUtil;
+import seedu.address.model.person.ContactIndex;
+import seedu.address.model.recommendation.Recommendation;
+
+public class BatchMeetCommandTest {
+
+    private static final ContactIndex USER = ContactIndex.USER_CONTACT_INDEX;
+
+    private final Model model = new ModelManager(getTypicalEduMate(), new UserPrefs(), new EduMateHistory());
+
+    @Test
+    public void execute_manyGroups_recommendationsTaggedByGroup() throws CommandException {
+        Set<ContactIndex> firstGroup = Set.of(USER, getContactIndexOfPerson(ALBERT), getContactIndexOfPerson(ANG));
+        Set<ContactIndex> secondGroup = Set.of(USER, getContactIndexOfPerson(BART));
+        new BatchMeetCommand(List.of(firstGroup, secondGroup), LocationDataUtil.getMeetLocations()).execute(model);
+
+        List<Recommendation> recommendations = model.getObservableRecommendationList();
+        Set<Set<ContactIndex>> groups = recommendations.stream()
+                .map(Recommendation::getGroup)
+                .collect(Collectors.toSet());
+        assertEquals(Set.of(firstGroup, secondGroup), groups);
+        assertTrue(recommendations.stream().filter(recommendation -> recommendation.getGroup().equals(firstGroup))
+                .count() <= BatchMeetCommand.DEFAULT_RECOMMENDATIONS_PER_GROUP);
+    }
+
+    @Test
+    public void execute_groupMetBefore_recommendationsReused() throws CommandException {
+        Set<ContactIndex> group = Set.of(USER, getContactIndexOfPerson(ALBERT), getContactIndexOfPerson(ANG));
+        new MeetCommand(group, LocationDataUtil.getMeetLocations()).execute(model);
+        List<Recommendation> meetRecommendations = List.copyOf(model.getObservableRecommendationList());
+
+        new BatchMeetCommand(List.of(group), LocationDataUtil.getMeetLocations()).execute(model);
+        assertEquals(1, model.getRecommendationCache().getHitCount());
+        assertFalse(model.getObservableRecommendationList().isEmpty());
+        assertEquals(meetRecommendations.get(0).getLocation(),
+                model.getObservableRecommendationList().get(0).getLocation());
+    }
+
+    @Test
+    public void execute_groupWithoutContacts_throwsCommandException() {
+        BatchMeetCommand batchMeetCommand = new BatchMeetCommand(
+                List.of(Set.of(USER, getContactIndexOfPerson(ALBERT)), Set.of(USER)),
+                LocationDataUtil.getMeetLocations());
+        assertThrows(CommandException.class, String.format(BatchMeetCommand.MESSAGE_EMPTY_GROUP, 2), () ->
+                batchMeetCommand.execute(model));
+        assertThrows(CommandException.class, BatchMeetCommand.MESSAGE_NO_GROUPS, () ->
+                new BatchMeetCommand(List.of(), LocationDataUtil.getMeetLocations()).execute(model));
+    }
+
+    @Test
+    public void execute_invalidContactIndices_throwsCommandException() {
+        BatchMeetCommand batchMeetCommand = new BatchMeetCommand(
+                List.of(Set.of(USER, getContactIndexOfPerson(ALBERT)), Set.of(USER, new ContactIndex(999))),
+                LocationDataUtil.getMeetLocations());
+        assertThrows(CommandException.class, "Invalid contact indices given: 999", () ->
+                batchMeetCommand.execute(model));
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static seedu.address.model.location.util.TypicalLocation.SERANGOON;
@@ -53,7 +54,7 @@ class MeetCommandTest {
 
         MeetCommand meetCommand = new MeetCommand(
                 Set.of(new ContactIndex(0), new ContactIndex(1)),
-                LocationDataUtil.MEET_LOCATIONS, 10);
+                LocationDataUtil.getMeetLocations(), 10);
 
         meetCommand.execute(model);
 
@@ -72,8 +73,41 @@ class MeetCommandTest {
 
         MeetCommand meetCommand = new MeetCommand(
                 Set.of(new ContactIndex(0), new ContactIndex(1)),
-                LocationDataUtil.MEET_LOCATIONS, 10);
+                LocationDataUtil.getMeetLocations(), 10);
 
         assertThrows(CommandException.class, () -> meetCommand.execute(model));
     }
+
+    @Test
+    public void execute_quorumLargerThanParticipants_throwsCommandException() {
+        Model model = new ModelManager(new EduMate(), new UserPrefs(), new EduMateHistory());
+        model.addPerson(new PersonBuilder().build());
+
+        MeetCommand meetCommand = new MeetCommand(
+                Set.of(new ContactIndex(0), new ContactIndex(1)),
+                LocationDataUtil.getMeetLocations(), 10, 3);
+
+        assertThrows(CommandException.class, () -> meetCommand.execute(model));
+    }
+
+    @Test
+    public void execute_sameMeetupAgain_recommendationsReused() throws CommandException {
+        Model model = new ModelManager(new EduMate(), new UserPrefs(), new EduMateHistory());
+        Person person = model.addPerson(new PersonBuilder().build());
+        MeetCommand meetCommand = new MeetCommand(
+                Set.of(new ContactIndex(0), new ContactIndex(1)),
+                LocationDataUtil.getMeetLocations(), 10);
+
+        meetCommand.execute(model);
+        List<Recommendation> recommendations = List.copyOf(model.getObservableRecommendationList());
+        meetCommand.execute(model);
+        assertEquals(recommendations, model.getObservableRecommendationList());
+        assertEquals(1, model.getRecommendationCache().getHitCount());
+        assertEquals(1, model.getRecommendationCache().getMissCount());
+
+        model.setPerson(person, new PersonBuilder(person).withStation(SERANGOON).build());
+        assertEquals(0, model.getRecommendationCache().size());
+        meetCommand.execute(model);
+        assertEquals(2, model.getRecommendationCache().getMissCount());
+    }
 }
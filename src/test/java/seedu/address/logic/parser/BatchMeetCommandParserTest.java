@@ -0,0 +1,49 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.logic.parser.MeetCommandParser.MESSAGE_INVALID_OBJECTIVE;
+import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.BatchMeetCommand;
+import seedu.address.logic.recommender.location.LocationObjective;
+import seedu.address.model.location.util.LocationDataUtil;
+import seedu.address.model.person.ContactIndex;
+import seedu.address.model.time.Day;
+import seedu.address.model.time.SchedulingHorizon;
+
+public class BatchMeetCommandParserTest {
+
+    private static final ContactIndex USER = ContactIndex.USER_CONTACT_INDEX;
+
+    private final BatchMeetCommandParser parser = new BatchMeetCommandParser();
+
+    @Test
+    public void parse_groups_success() {
+        assertParseSuccess(parser, " 1 2; 3 ;; 4 5 6 ",
+                new BatchMeetCommand(List.of(
+                        Set.of(USER, new ContactIndex(1), new ContactIndex(2)),
+                        Set.of(USER, new ContactIndex(3)),
+                        Set.of(USER, new ContactIndex(4), new ContactIndex(5), new ContactIndex(6))),
+                        LocationDataUtil.getMeetLocations()));
+    }
+
+    @Test
+    public void parse_groupsWithOptions_success() {
+        assertParseSuccess(parser, " 1; 2 d/SAT o/total_distance",
+                new BatchMeetCommand(List.of(Set.of(USER, new ContactIndex(1)), Set.of(USER, new ContactIndex(2))),
+                        LocationDataUtil.getMeetLocations(), BatchMeetCommand.DEFAULT_RECOMMENDATIONS_PER_GROUP,
+                        new SchedulingHorizon(List.of(Day.SATURDAY)), LocationObjective.TOTAL_DISTANCE));
+    }
+
+    @Test
+    public void parse_invalidArgs_failure() {
+        assertParseFailure(parser, " 1; a 2", MESSAGE_INVALID_INDEX);
+        assertParseFailure(parser, " 1; 2 o/closest", MESSAGE_INVALID_OBJECTIVE);
+    }
+}
@@ -2,18 +2,29 @@ package seedu.address.logic.parser;
 
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.logic.parser.MeetCommandParser.MESSAGE_INVALID_OBJECTIVE;
+import static seedu.address.logic.parser.MeetCommandParser.MESSAGE_INVALID_QUORUM;
+import static seedu.address.logic.parser.MeetCommandParser.MESSAGE_UNKNOWN_CATEGORY;
 import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
+import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INT;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.commands.MeetCommand;
+import seedu.address.logic.recommender.location.LocationObjective;
 import seedu.address.model.location.util.LocationDataUtil;
+import seedu.address.model.location.util.VenueCatalogue;
 import seedu.address.model.person.ContactIndex;
+import seedu.address.model.time.Day;
+import seedu.address.model.time.SchedulingHorizon;
 
 public class MeetCommandParserTest {
 
@@ -26,6 +37,9 @@ public class MeetCommandParserTest {
     private static final List<MeetCommandParser> COMMAND_PARSER_LIST =
             List.of(MEET_COMMAND_PARSER, EAT_COMMAND_PARSER, STUDY_COMMAND_PARSER);
 
+    @TempDir
+    public Path tempDir;
+
     @Test
     public void parse_invalidIndex_failure() {
         // negative
@@ -38,30 +52,111 @@ public class MeetCommandParserTest {
     public void parse_validIndex_success() {
         // standard
         assertParseSuccess(MEET_COMMAND_PARSER, "1",
-                new MeetCommand(createContactIndicesWithUser(1), LocationDataUtil.MEET_LOCATIONS));
+                new MeetCommand(createContactIndicesWithUser(1), LocationDataUtil.getMeetLocations()));
         assertParseSuccess(EAT_COMMAND_PARSER, "1",
-                new MeetCommand(createContactIndicesWithUser(1), LocationDataUtil.EAT_LOCATIONS));
+                new MeetCommand(createContactIndicesWithUser(1), LocationDataUtil.getEatLocations()));
         assertParseSuccess(STUDY_COMMAND_PARSER, "1",
-                new MeetCommand(createContactIndicesWithUser(1), LocationDataUtil.STUDY_LOCATIONS));
+                new MeetCommand(createContactIndicesWithUser(1), LocationDataUtil.getStudyLocations()));
 
         assertParseSuccess(MEET_COMMAND_PARSER, "2 7",
                 new MeetCommand(createContactIndicesWithUser(2, 7),
-                        LocationDataUtil.MEET_LOCATIONS));
+                        LocationDataUtil.getMeetLocations()));
         assertParseSuccess(EAT_COMMAND_PARSER, "2 7",
                 new MeetCommand(createContactIndicesWithUser(7, 2),
-                        LocationDataUtil.EAT_LOCATIONS));
+                        LocationDataUtil.getEatLocations()));
         assertParseSuccess(STUDY_COMMAND_PARSER, "2 7",
                 new MeetCommand(createContactIndicesWithUser(2, 7),
-                        LocationDataUtil.STUDY_LOCATIONS));
+                        LocationDataUtil.getStudyLocations()));
 
         // untrimmed
         assertParseSuccess(MEET_COMMAND_PARSER, "   1   ",
-                new MeetCommand(createContactIndicesWithUser(1), LocationDataUtil.MEET_LOCATIONS));
+                new MeetCommand(createContactIndicesWithUser(1), LocationDataUtil.getMeetLocations()));
         assertParseSuccess(EAT_COMMAND_PARSER, "2 7",
                 new MeetCommand(createContactIndicesWithUser(7, 2),
-                        LocationDataUtil.EAT_LOCATIONS));
+                        LocationDataUtil.getEatLocations()));
         assertParseSuccess(STUDY_COMMAND_PARSER, "   6     ",
-                new MeetCommand(createContactIndicesWithUser(6), LocationDataUtil.STUDY_LOCATIONS));
+                new MeetCommand(createContactIndicesWithUser(6), LocationDataUtil.getStudyLocations()));
+    }
+
+    @Test
+    public void parse_validQuorum_success() {
+        assertParseSuccess(MEET_COMMAND_PARSER, " 2 7 k/2",
+                new MeetCommand(createContactIndicesWithUser(2, 7), LocationDataUtil.getMeetLocations(),
+                        MeetCommand.DEFAULT_NUMBER_OF_RECOMMENDATIONS, 2));
+        assertParseSuccess(EAT_COMMAND_PARSER, " 1 3 4  k/ 3 ",
+                new MeetCommand(createContactIndicesWithUser(1, 3, 4), LocationDataUtil.getEatLocations(),
+                        MeetCommand.DEFAULT_NUMBER_OF_RECOMMENDATIONS, 3));
+    }
+
+    @Test
+    public void parse_invalidQuorum_failure() {
+        COMMAND_PARSER_LIST.forEach(p -> assertParseFailure(p, " 1 2 k/0", MESSAGE_INVALID_QUORUM));
+        COMMAND_PARSER_LIST.forEach(p -> assertParseFailure(p, " 1 2 k/-1", MESSAGE_INVALID_QUORUM));
+        COMMAND_PARSER_LIST.forEach(p -> assertParseFailure(p, " 1 2 k/two", MESSAGE_INVALID_INT));
+        COMMAND_PARSER_LIST.forEach(p -> assertParseFailure(p, " 1 2 k/", MESSAGE_INVALID_INT));
+    }
+
+    @Test
+    public void parse_validDays_success() {
+        assertParseSuccess(MEET_COMMAND_PARSER, " 2 7 d/SAT d/sun",
+                new MeetCommand(createContactIndicesWithUser(2, 7), LocationDataUtil.getMeetLocations(),
+                        MeetCommand.DEFAULT_NUMBER_OF_RECOMMENDATIONS, MeetCommand.ALL_PARTICIPANTS,
+                        new SchedulingHorizon(List.of(Day.SATURDAY, Day.SUNDAY))));
+        assertParseSuccess(EAT_COMMAND_PARSER, " 1 k/2 d/FRI",
+                new MeetCommand(createContactIndicesWithUser(1), LocationDataUtil.getEatLocations(),
+                        MeetCommand.DEFAULT_NUMBER_OF_RECOMMENDATIONS, 2,
+                        new SchedulingHorizon(List.of(Day.FRIDAY))));
+    }
+
+    @Test
+    public void parse_invalidDay_failure() {
+        COMMAND_PARSER_LIST.forEach(p -> assertParseFailure(p, " 1 2 d/S", "Did you mean Saturday or Sunday?"));
+        COMMAND_PARSER_LIST.forEach(p -> assertParseFailure(p, " 1 2 d/", "Day is missing!"));
+    }
+
+    @Test
+    public void parse_validObjective_success() {
+        assertParseSuccess(MEET_COMMAND_PARSER, " 2 7 o/max_distance",
+                new MeetCommand(createContactIndicesWithUser(2, 7), LocationDataUtil.getMeetLocations(),
+                        MeetCommand.DEFAULT_NUMBER_OF_RECOMMENDATIONS, MeetCommand.ALL_PARTICIPANTS,
+                        SchedulingHorizon.SCHOOL_WEEK, LocationObjective.MAX_DISTANCE));
+        assertParseSuccess(STUDY_COMMAND_PARSER, " 1 k/2 o/ TOTAL_TRAVEL_TIME ",
+                new MeetCommand(createContactIndicesWithUser(1), LocationDataUtil.getStudyLocations(),
+                        MeetCommand.DEFAULT_NUMBER_OF_RECOMMENDATIONS, 2,
+                        SchedulingHorizon.SCHOOL_WEEK, LocationObjective.TOTAL_TRAVEL_TIME));
+    }
+
+    @Test
+    public void parse_invalidObjective_failure() {
+        COMMAND_PARSER_LIST.forEach(p -> assertParseFailure(p, " 1 2 o/closest", MESSAGE_INVALID_OBJECTIVE));
+        COMMAND_PARSER_LIST.forEach(p -> assertParseFailure(p, " 1 2 o/", MESSAGE_INVALID_OBJECTIVE));
+    }
+
+    @Test
+    public void parse_validCategory_success() throws Exception {
+        Path venueFile = tempDir.resolve("destinations.txt");
+        Files.write(venueFile, List.of("Corner Cafe|1.3|103.8|Cafe", "Hall|1.31|103.81|library"));
+        VenueCatalogue previousCatalogue = LocationDataUtil.getVenueCatalogue();
+        LocationDataUtil.setVenueCatalogue(VenueCatalogue.load(venueFile, tempDir.resolve("index")));
+        try {
+            VenueCatalogue catalogue = LocationDataUtil.getVenueCatalogue();
+            assertParseSuccess(EAT_COMMAND_PARSER, " 1 c/cafe",
+                    new MeetCommand(createContactIndicesWithUser(1), catalogue.select(List.of("cafe"))));
+            assertParseSuccess(MEET_COMMAND_PARSER, " 1 c/LIBRARY c/cafe o/total_distance",
+                    new MeetCommand(createContactIndicesWithUser(1), catalogue.select(List.of("cafe", "library")),
+                            MeetCommand.DEFAULT_NUMBER_OF_RECOMMENDATIONS, MeetCommand.ALL_PARTICIPANTS,
+                            SchedulingHorizon.SCHOOL_WEEK, LocationObjective.TOTAL_DISTANCE));
+            assertParseFailure(MEET_COMMAND_PARSER, " 1 c/gym",
+                    String.format(MESSAGE_UNKNOWN_CATEGORY, "gym", LocationDataUtil.VENUE_FILE));
+        } finally {
+            LocationDataUtil.setVenueCatalogue(previousCatalogue);
+        }
+    }
+
+    @Test
+    public void parse_noVenueFile_failure() {
+        COMMAND_PARSER_LIST.forEach(p -> assertParseFailure(p, " 1 c/cafe",
+                String.format(MESSAGE_UNKNOWN_CATEGORY, "cafe", LocationDataUtil.VENUE_FILE)));
     }
 
     private Set<ContactIndex> createContactIndicesWithUser(int... indices) {
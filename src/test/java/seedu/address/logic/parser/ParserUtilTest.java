@@ -19,6 +19,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
+import org.joda.time.LocalTime;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -573,4 +574,21 @@ public class ParserUtilTest {
         assertThrows(ParseException.class, () -> ParserUtil.parseModuleTags(
                 List.of(invalidUserInput, invalidUserInput2)));
     }
+
+    @Test
+    public void parseModuleTag_minutesPastHour_returnsTag() throws Exception {
+        ModuleTag actual = ParserUtil.parseModuleTag(VALID_MODULE_1 + " THURSDAY 8:30 10");
+
+        Lesson expectedLesson = new Lesson(VALID_MODULE_1, new LocalTime(8, 30), TEN_AM, Day.THURSDAY,
+                Location.NUS);
+        assertEquals(new ModuleTag(VALID_MODULE_1, expectedLesson), actual);
+    }
+
+    @Test
+    public void parseLocalTime_invalidMinutes_throwsParseException() {
+        assertThrows(ParseException.class, () -> ParserUtil.parseLocalTime("8:75", true));
+        assertThrows(ParseException.class, () -> ParserUtil.parseLocalTime("8:5", true));
+        assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_END_HOUR, () ->
+                ParserUtil.parseLocalTime("23:30", false));
+    }
 }
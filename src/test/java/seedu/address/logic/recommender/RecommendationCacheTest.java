@@ -0,0 +1,117 @@
+package seedu.address.logic.recommender;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.model.recommendation.TypicalRecommendations.RECOMMENDATION_NEWTON_THU_4PM_3HR;
+import static seedu.address.model.recommendation.TypicalRecommendations.RECOMMENDATION_STEVENS_THU_10AM_2HR;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.recommender.location.LocationObjective;
+import seedu.address.logic.recommender.scoring.RecommendationScorer;
+import seedu.address.logic.recommender.scoring.ScoreComponent;
+import seedu.address.model.location.util.LocationDataUtil;
+import seedu.address.model.person.ContactIndex;
+import seedu.address.model.recommendation.Recommendation;
+import seedu.address.model.time.SchedulingHorizon;
+import seedu.address.model.timetable.TimeModel;
+
+public class RecommendationCacheTest {
+
+    private static final ContactIndex USER = ContactIndex.USER_CONTACT_INDEX;
+    private static final ContactIndex FIRST = new ContactIndex(1);
+    private static final ContactIndex SECOND = new ContactIndex(2);
+    private static final List<Recommendation> RECOMMENDATIONS = List.of(RECOMMENDATION_STEVENS_THU_10AM_2HR);
+    private static final List<Recommendation> OTHER_RECOMMENDATIONS = List.of(RECOMMENDATION_NEWTON_THU_4PM_3HR);
+
+    private final RecommendationCache cache = new RecommendationCache(2);
+
+    @Test
+    void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new RecommendationCache(0));
+    }
+
+    @Test
+    void get_sameParticipantsInAnyOrder_hit() {
+        cache.put(getKey(Set.of(USER, FIRST, SECOND)), RECOMMENDATIONS);
+
+        assertEquals(Optional.of(RECOMMENDATIONS), cache.get(getKey(List.of(SECOND, USER, FIRST))));
+        assertEquals(Optional.empty(), cache.get(getKey(Set.of(USER, FIRST))));
+        assertEquals(Optional.empty(), cache.get(cache.getKey(Set.of(USER, FIRST, SECOND),
+                LocationDataUtil.getEatLocations(), 0, SchedulingHorizon.SCHOOL_WEEK, LocationObjective.MIDPOINT,
+                new RecommenderSettings())));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    void get_differentScorerOrTimeModel_miss() {
+        cache.put(getKey(Set.of(USER, FIRST)), RECOMMENDATIONS);
+
+        RecommendationScorer scorer = new RecommendationScorer(Map.of(ScoreComponent.SLOT_LENGTH, 1.0));
+        assertEquals(Optional.empty(), cache.get(getKey(Set.of(USER, FIRST),
+                new RecommenderSettings(1, scorer, TimeModel.HOURLY))));
+        assertEquals(Optional.empty(), cache.get(getKey(Set.of(USER, FIRST),
+                new RecommenderSettings(1, null, TimeModel.EXACT))));
+        assertEquals(Optional.of(RECOMMENDATIONS), cache.get(getKey(Set.of(USER, FIRST),
+                new RecommenderSettings(4, null, TimeModel.HOURLY))));
+    }
+
+    @Test
+    void put_overCapacity_leastRecentlyUsedDropped() {
+        cache.put(getKey(Set.of(USER, FIRST)), RECOMMENDATIONS);
+        cache.put(getKey(Set.of(USER, SECOND)), RECOMMENDATIONS);
+        cache.get(getKey(Set.of(USER, FIRST)));
+        cache.put(getKey(Set.of(USER, FIRST, SECOND)), OTHER_RECOMMENDATIONS);
+
+        assertEquals(2, cache.size());
+        assertTrue(cache.get(getKey(Set.of(USER, FIRST))).isPresent());
+        assertTrue(cache.get(getKey(Set.of(USER, SECOND))).isEmpty());
+    }
+
+    @Test
+    void invalidate_participant_onlyMeetupsWithParticipantDropped() {
+        cache.put(getKey(Set.of(USER, FIRST)), RECOMMENDATIONS);
+        cache.put(getKey(Set.of(USER, SECOND)), OTHER_RECOMMENDATIONS);
+
+        cache.invalidate(FIRST);
+        assertEquals(1, cache.size());
+        assertTrue(cache.get(getKey(Set.of(USER, FIRST))).isEmpty());
+        assertEquals(Optional.of(OTHER_RECOMMENDATIONS), cache.get(getKey(Set.of(USER, SECOND))));
+
+        cache.invalidate(USER);
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void put_keyTakenBeforeInvalidation_notHeld() {
+        RecommendationCache.Key staleKey = getKey(Set.of(USER, FIRST));
+        cache.invalidate(FIRST);
+        cache.put(staleKey, RECOMMENDATIONS);
+        assertEquals(0, cache.size());
+
+        RecommendationCache.Key keyBeforeClear = getKey(Set.of(USER, SECOND));
+        cache.clear();
+        cache.put(keyBeforeClear, RECOMMENDATIONS);
+        assertEquals(0, cache.size());
+
+        cache.put(getKey(Set.of(USER, FIRST)), RECOMMENDATIONS);
+        assertEquals(Optional.of(RECOMMENDATIONS), cache.get(getKey(Set.of(USER, FIRST))));
+    }
+
+    private RecommendationCache.Key getKey(Collection<ContactIndex> participants) {
+        return getKey(participants, new RecommenderSettings());
+    }
+
+    private RecommendationCache.Key getKey(Collection<ContactIndex> participants, RecommenderSettings settings) {
+        return cache.getKey(participants, LocationDataUtil.getMeetLocations(), 0, SchedulingHorizon.SCHOOL_WEEK,
+                LocationObjective.MIDPOINT, settings);
+    }
+}
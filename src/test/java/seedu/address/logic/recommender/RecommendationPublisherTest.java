@@ -0,0 +1,124 @@
+package seedu.address.logic.recommender;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALBERT;
+import static seedu.address.testutil.TypicalPersons.ANG;
+import static seedu.address.testutil.TypicalPersons.BART;
+import static seedu.address.testutil.TypicalPersons.getContactIndexOfPerson;
+import static seedu.address.testutil.TypicalPersons.getTypicalEduMate;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.EduMateHistory;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.location.Location;
+import seedu.address.model.location.util.LocationDataUtil;
+import seedu.address.model.person.ContactIndex;
+import seedu.address.model.recommendation.Recommendation;
+
+public class RecommendationPublisherTest {
+
+    private static final Set<Location> DESTINATIONS = LocationDataUtil.getMeetLocations();
+
+    private final Model model = new ModelManager(getTypicalEduMate(), new UserPrefs(), new EduMateHistory());
+    private final Model expectedModel = new ModelManager(getTypicalEduMate(), new UserPrefs(), new EduMateHistory());
+    private final Set<ContactIndex> participants = Set.of(getContactIndexOfPerson(ALBERT),
+            getContactIndexOfPerson(ANG), getContactIndexOfPerson(BART));
+
+    @AfterEach
+    void tearDown() {
+        RecommendationPublisher.setPublishingExecutor(null);
+    }
+
+    @Test
+    void publish_noPublishingExecutor_publishedBeforeReturning() {
+        expectedModel.setRecommendations(new Recommender(expectedModel).recommend(participants, DESTINATIONS));
+
+        RecommendationPublisher.publish(model, new Recommender(model).stream(participants, DESTINATIONS),
+                recommendations -> {});
+
+        assertEquals(expectedModel.getObservableRecommendationList(), model.getObservableRecommendationList());
+    }
+
+    @Test
+    void publish_publishingExecutor_batchesAppendedOnExecutor() throws InterruptedException {
+        Queue<Runnable> published = new ConcurrentLinkedQueue<>();
+        RecommendationPublisher.setPublishingExecutor(published::add);
+        expectedModel.setRecommendations(new Recommender(expectedModel).recommend(participants, DESTINATIONS));
+
+        CountDownLatch completed = new CountDownLatch(1);
+        RecommendationPublisher.publish(model, new Recommender(model).stream(participants, DESTINATIONS),
+                recommendations -> completed.countDown());
+        assertTrue(completed.await(1, TimeUnit.MINUTES));
+
+        assertTrue(model.getObservableRecommendationList().isEmpty());
+        assertTrue(published.size() > 1);
+        published.forEach(Runnable::run);
+        assertEquals(expectedModel.getObservableRecommendationList(), model.getObservableRecommendationList());
+    }
+
+    @Test
+    void publish_listReplacedBeforeBatchesAppended_batchesDropped() throws InterruptedException {
+        Queue<Runnable> published = new ConcurrentLinkedQueue<>();
+        RecommendationPublisher.setPublishingExecutor(published::add);
+
+        CountDownLatch completed = new CountDownLatch(1);
+        RecommendationPublisher.publish(model, new Recommender(model).stream(participants, DESTINATIONS),
+                recommendations -> completed.countDown());
+        assertTrue(completed.await(1, TimeUnit.MINUTES));
+
+        model.setRecommendations(List.of());
+        published.forEach(Runnable::run);
+        assertTrue(model.getObservableRecommendationList().isEmpty());
+    }
+
+    @Test
+    void publish_newerStreamWhileRunning_olderStreamStopped() throws Exception {
+        Queue<Runnable> published = new ConcurrentLinkedQueue<>();
+        CountDownLatch firstBatchMade = new CountDownLatch(1);
+        CountDownLatch newerStreamPublished = new CountDownLatch(1);
+        RecommendationPublisher.setPublishingExecutor(runnable -> {
+            published.add(runnable);
+            firstBatchMade.countDown();
+            try {
+                newerStreamPublished.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        List<List<Recommendation>> completedStreams = new CopyOnWriteArrayList<>();
+        CompletableFuture<Void> older = RecommendationPublisher.publish(model,
+                new Recommender(model).stream(participants, DESTINATIONS), completedStreams::add);
+        assertTrue(firstBatchMade.await(1, TimeUnit.MINUTES));
+        CompletableFuture<Void> newer = RecommendationPublisher.publish(model,
+                new Recommender(model).stream(participants, DESTINATIONS), completedStreams::add);
+        newerStreamPublished.countDown();
+
+        while (!newer.isDone()) {
+            Runnable runnable = published.poll();
+            if (runnable == null) {
+                Thread.sleep(10);
+            } else {
+                runnable.run();
+            }
+        }
+        assertTrue(older.isCancelled());
+        assertEquals(1, completedStreams.size());
+        expectedModel.setRecommendations(new Recommender(expectedModel).recommend(participants, DESTINATIONS));
+        assertEquals(expectedModel.getObservableRecommendationList(), model.getObservableRecommendationList());
+    }
+}
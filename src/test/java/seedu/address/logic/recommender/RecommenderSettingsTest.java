@@ -0,0 +1,53 @@
+package seedu.address.logic.recommender;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.Config;
+import seedu.address.logic.recommender.scoring.RecommendationScorer;
+import seedu.address.logic.recommender.scoring.ScoreComponent;
+import seedu.address.model.timetable.TimeModel;
+
+public class RecommenderSettingsTest {
+
+    @Test
+    public void constructor_negativeThreads_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new RecommenderSettings(-1, null, TimeModel.HOURLY));
+    }
+
+    @Test
+    public void getExecutor_oneThread_recommendsOnCallingThread() {
+        assertNull(new RecommenderSettings().getExecutor());
+    }
+
+    @Test
+    public void of_validConfig_settingsFromConfig() {
+        Config config = new Config();
+        config.setRecommendationThreads(2);
+        config.setRecommendationTimeModel("exact");
+        config.setRecommendationWeights(Map.of("slot_length", 1.0));
+        RecommenderSettings settings = RecommenderSettings.of(config);
+
+        assertEquals(2, settings.getThreads());
+        assertEquals(TimeModel.EXACT, settings.getTimeModel());
+        assertEquals(new RecommendationScorer(Map.of(ScoreComponent.SLOT_LENGTH, 1.0)), settings.getScorer().get());
+    }
+
+    @Test
+    public void of_invalidWeightsAndTimeModel_defaultsUsed() {
+        Config config = new Config();
+        config.setRecommendationThreads(1);
+        config.setRecommendationTimeModel("daily");
+        config.setRecommendationWeights(Map.of("nearest", 1.0));
+        RecommenderSettings settings = RecommenderSettings.of(config);
+
+        assertEquals(TimeModel.HOURLY, settings.getTimeModel());
+        assertTrue(settings.getScorer().isEmpty());
+    }
+}
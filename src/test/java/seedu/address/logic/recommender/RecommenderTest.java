@@ -6,21 +6,34 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.TypicalPersons.ALBERT;
 import static seedu.address.testutil.TypicalPersons.ANG;
+import static seedu.address.testutil.TypicalPersons.BART;
+import static seedu.address.testutil.TypicalPersons.CLARK;
+import static seedu.address.testutil.TypicalPersons.DONG;
 import static seedu.address.testutil.TypicalPersons.getContactIndexOfPerson;
 import static seedu.address.testutil.TypicalPersons.getTypicalEduMate;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.recommender.location.LocationObjective;
+import seedu.address.logic.recommender.scoring.RecommendationScorer;
+import seedu.address.logic.recommender.scoring.ScoreComponent;
 import seedu.address.model.EduMateHistory;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.location.Location;
 import seedu.address.model.location.util.LocationDataUtil;
 import seedu.address.model.person.ContactIndex;
 import seedu.address.model.recommendation.Recommendation;
+import seedu.address.model.time.SchedulingHorizon;
+import seedu.address.model.timetable.TimeModel;
 
 public class RecommenderTest {
     private final Model model = new ModelManager(getTypicalEduMate(), new UserPrefs(), new EduMateHistory());
@@ -45,7 +58,7 @@ public class RecommenderTest {
         Set<ContactIndex> participants = Set.of(albertIndex, angIndex);
 
         List<Recommendation> recommendations =
-                recommender.recommend(participants, LocationDataUtil.MEET_LOCATIONS);
+                recommender.recommend(participants, LocationDataUtil.getMeetLocations());
 
         assertFalse(recommendations.isEmpty());
 
@@ -54,4 +67,92 @@ public class RecommenderTest {
         assertEquals(8, bestRecommendation.getTimePeriod().getStartTime().getHourOfDay());
         assertEquals(23, bestRecommendation.getTimePeriod().getEndTime().getHourOfDay());
     }
+
+    @Test
+    void recommend_parallel_sameAsSequential() {
+        Set<ContactIndex> participants = Set.of(getContactIndexOfPerson(ALBERT), getContactIndexOfPerson(ANG),
+                getContactIndexOfPerson(BART));
+        Set<Location> destinations = LocationDataUtil.getMeetLocations();
+
+        for (LocationObjective objective : LocationObjective.values()) {
+            model.setRecommenderSettings(new RecommenderSettings(1, null, TimeModel.HOURLY));
+            List<Recommendation> expected = new Recommender(model, TimeModel.HOURLY, SchedulingHorizon.SCHOOL_WEEK,
+                    objective).recommend(participants, destinations);
+            model.setRecommenderSettings(new RecommenderSettings(4, null, TimeModel.HOURLY));
+            List<Recommendation> actual = new Recommender(model, TimeModel.HOURLY, SchedulingHorizon.SCHOOL_WEEK,
+                    objective).recommend(participants, destinations);
+            assertEquals(expected, actual);
+        }
+    }
+
+    @Test
+    void recommendGroups_manyGroups_sameAsEachGroupAlone() {
+        ContactIndex user = ContactIndex.USER_CONTACT_INDEX;
+        List<Set<ContactIndex>> groups = List.of(
+                Set.of(user, getContactIndexOfPerson(ALBERT), getContactIndexOfPerson(ANG)),
+                Set.of(user, getContactIndexOfPerson(BART)),
+                Set.of(user, getContactIndexOfPerson(CLARK), getContactIndexOfPerson(DONG)));
+        Set<Location> destinations = LocationDataUtil.getMeetLocations();
+
+        for (int threads : new int[] {1, 4}) {
+            model.setRecommenderSettings(new RecommenderSettings(threads, null, TimeModel.HOURLY));
+            List<List<Recommendation>> recommendations = new Recommender(model).recommendGroups(groups, destinations);
+            assertEquals(groups.size(), recommendations.size());
+            for (int i = 0; i < groups.size(); i++) {
+                assertEquals(new Recommender(model).recommend(groups.get(i), destinations), recommendations.get(i));
+            }
+        }
+    }
+
+    @Test
+    void stream_batches_sameAsRecommend() {
+        Set<ContactIndex> participants = Set.of(getContactIndexOfPerson(ALBERT), getContactIndexOfPerson(ANG),
+                getContactIndexOfPerson(BART));
+        Set<Location> destinations = LocationDataUtil.getMeetLocations();
+
+        for (int threads : new int[] {1, 3}) {
+            model.setRecommenderSettings(new RecommenderSettings(threads, null, TimeModel.HOURLY));
+            List<List<Recommendation>> batches = new ArrayList<>();
+            List<Recommendation> recommendations = new Recommender(model).stream(participants, destinations)
+                    .forEachBatch(batches::add);
+
+            assertTrue(batches.size() > 1);
+            assertTrue(batches.get(0).size() <= threads);
+            assertEquals(recommendations, batches.stream().flatMap(List::stream).collect(Collectors.toList()));
+            assertEquals(new Recommender(model).recommend(participants, destinations), recommendations);
+        }
+    }
+
+    @Test
+    void stream_stoppedAfterFirstBatch_noMoreBatches() {
+        Set<ContactIndex> participants = Set.of(getContactIndexOfPerson(ALBERT), getContactIndexOfPerson(ANG),
+                getContactIndexOfPerson(BART));
+        List<List<Recommendation>> batches = new ArrayList<>();
+
+        Optional<List<Recommendation>> recommendations = new Recommender(model)
+                .stream(participants, LocationDataUtil.getMeetLocations())
+                .forEachBatch(batches::add, () -> !batches.isEmpty());
+
+        assertTrue(recommendations.isEmpty());
+        assertEquals(1, batches.size());
+    }
+
+    @Test
+    void recommend_withScorer_noRepeatedTimingsOrLocations() {
+        Set<ContactIndex> participants = Set.of(getContactIndexOfPerson(ALBERT), getContactIndexOfPerson(ANG),
+                getContactIndexOfPerson(BART));
+        model.setRecommenderSettings(new RecommenderSettings(1, new RecommendationScorer(Map.of(
+                ScoreComponent.SLOT_LENGTH, 1.0, ScoreComponent.TOTAL_DISTANCE, 1.0,
+                ScoreComponent.COMMITMENT_DISTANCE, 0.5)), TimeModel.HOURLY));
+
+        List<Recommendation> recommendations = new Recommender(model)
+                .recommend(participants, LocationDataUtil.getMeetLocations());
+
+        assertFalse(recommendations.isEmpty());
+        assertTrue(recommendations.size() <= 20);
+        assertEquals(recommendations.size(), recommendations.stream().map(Recommendation::getTimePeriod).distinct()
+                .count());
+        assertEquals(recommendations.size(), recommendations.stream().map(Recommendation::getLocation).distinct()
+                .count());
+    }
 }
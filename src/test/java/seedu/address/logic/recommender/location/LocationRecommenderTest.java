@@ -28,15 +28,21 @@ import static seedu.address.model.location.util.TypicalLocation.SIMEI;
 import static seedu.address.model.location.util.TypicalLocation.TANAH_MERAH;
 import static seedu.address.model.location.util.TypicalLocation.TELOK_AYER;
 import static seedu.address.model.location.util.TypicalLocation.TELOK_BLANGAH;
+import static seedu.address.model.location.util.TypicalLocation.TUAS_LINK;
 import static seedu.address.model.location.util.TypicalLocation.WOODLANDS;
 import static seedu.address.model.location.util.TypicalLocation.WOODLANDS_SOUTH;
 import static seedu.address.model.location.util.TypicalLocation.YISHUN;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.location.Location;
+import seedu.address.model.location.util.DistanceUtil;
 import seedu.address.model.location.util.LocationDataUtil;
 
 public class LocationRecommenderTest {
@@ -51,7 +57,7 @@ public class LocationRecommenderTest {
 
     @Test
     void initialise_validArgs_success() {
-        assertDoesNotThrow(() -> recommender.initialise(LocationDataUtil.EAT_LOCATIONS));
+        assertDoesNotThrow(() -> recommender.initialise(LocationDataUtil.getEatLocations()));
     }
 
     @Test
@@ -97,4 +103,66 @@ public class LocationRecommenderTest {
         Location topRecommendation = recommender.recommend(centralLocations).get(0);
         assertEquals(topRecommendation, BISHAN);
     }
+
+    @Test
+    void recommend_totalTravelTime_eastRecommended() {
+        Set<Location> eastLocations = Set.of(SIMEI, PASIR_RIS, BEDOK, PAYA_LEBAR);
+        recommender.initialise(destinations, LocationObjective.TOTAL_TRAVEL_TIME);
+        assertEquals(TANAH_MERAH, recommender.recommend(eastLocations).get(0));
+    }
+
+    @Test
+    void recommend_maxTravelTime_centralRecommended() {
+        Set<Location> spreadLocations = Set.of(PASIR_RIS, JURONG_EAST, WOODLANDS_SOUTH, ORCHARD);
+        recommender.initialise(destinations, LocationObjective.MAX_TRAVEL_TIME);
+        assertEquals(BISHAN, recommender.recommend(spreadLocations).get(0));
+    }
+
+    @Test
+    void recommend_totalDistance_outlierIgnored() {
+        Set<Location> eastLocations = Set.of(SIMEI, PASIR_RIS, BEDOK, TANAH_MERAH, TUAS_LINK);
+        recommender.initialise(destinations);
+        assertEquals(BISHAN, recommender.recommend(eastLocations).get(0));
+        recommender.initialise(destinations, LocationObjective.TOTAL_DISTANCE);
+        assertEquals(TANAH_MERAH, recommender.recommend(eastLocations).get(0));
+    }
+
+    @Test
+    void recommend_peopleAtSamePlace_eachCounted() {
+        List<Location> westLocations = List.of(TUAS_LINK, TUAS_LINK, TUAS_LINK, SIMEI);
+        recommender.initialise(destinations, LocationObjective.TOTAL_DISTANCE);
+        assertEquals(CLEMENTI, recommender.recommend(westLocations).get(0));
+        recommender.initialise(destinations, LocationObjective.TOTAL_TRAVEL_TIME);
+        assertEquals(CLEMENTI, recommender.recommend(westLocations).get(0));
+    }
+
+    @Test
+    void recommend_maxDistance_furthestServed() {
+        Set<Location> spreadLocations = Set.of(PASIR_RIS, JURONG_EAST, WOODLANDS_SOUTH, MARINA_SOUTH);
+        recommender.initialise(destinations, LocationObjective.MAX_DISTANCE);
+        assertEquals(BISHAN, recommender.recommend(spreadLocations).get(0));
+    }
+
+    @Test
+    void recommend_distanceObjectives_sameAsEvaluatingEveryDestination() {
+        List<Location> sources = List.of(SIMEI, HONG_KAH, YISHUN, TELOK_BLANGAH, NOVENA, DOVER);
+        List<Location> allDestinations = new ArrayList<>(LocationDataUtil.getMeetLocations());
+        for (LocationObjective objective : List.of(LocationObjective.TOTAL_DISTANCE, LocationObjective.MAX_DISTANCE)) {
+            ToDoubleFunction<Location> cost = destination -> sources.stream()
+                    .mapToDouble(source -> DistanceUtil.computeDistance(source, destination))
+                    .reduce(objective == LocationObjective.MAX_DISTANCE ? Math::max : Double::sum)
+                    .orElse(0);
+            List<Double> expectedCosts = allDestinations.stream()
+                    .map(cost::applyAsDouble)
+                    .sorted()
+                    .limit(10)
+                    .collect(Collectors.toList());
+
+            recommender.initialise(allDestinations, objective);
+            List<Double> actualCosts = recommender.recommend(sources).stream()
+                    .map(cost::applyAsDouble)
+                    .collect(Collectors.toList());
+            assertEquals(expectedCosts, actualCosts);
+        }
+    }
 }
@@ -6,7 +6,9 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.location.util.TypicalLocation.MAYFLOWER;
+import static seedu.address.model.timetable.util.TypicalTime.EIGHT_AM;
 import static seedu.address.model.timetable.util.TypicalTime.ELEVEN_AM;
+import static seedu.address.model.timetable.util.TypicalTime.ELEVEN_PM;
 import static seedu.address.model.timetable.util.TypicalTime.NINE_AM;
 import static seedu.address.model.timetable.util.TypicalTime.ONE_PM;
 import static seedu.address.model.timetable.util.TypicalTime.TEN_AM;
@@ -22,7 +24,9 @@ import seedu.address.model.location.Location;
 import seedu.address.model.location.util.DistanceUtil;
 import seedu.address.model.time.Day;
 import seedu.address.model.time.HourBlock;
+import seedu.address.model.time.TimeBlock;
 import seedu.address.model.time.TimePeriod;
+import seedu.address.model.timetable.TimeModel;
 
 public class LocationTrackerTest {
 
@@ -142,4 +146,36 @@ public class LocationTrackerTest {
 
         assertFalse(locationTracker.toString().contains("NUS"));
     }
+
+    @Test
+    void getLocation_exactTimeModel_success() {
+        LocationTracker exactTracker = new LocationTracker(ANG, TimeModel.EXACT);
+
+        assertEquals(Optional.of(MAYFLOWER), exactTracker.getLocation(new HourBlock(TWELVE_PM, Day.MONDAY)));
+        assertEquals(Optional.of(Location.NUS), exactTracker.getLocation(new HourBlock(TWELVE_PM, Day.TUESDAY)));
+    }
+
+    @Test
+    void getLocation_longerPeriod_averageOfHours() {
+        Location nine = tracker.getLocation(new HourBlock(NINE_AM, Day.THURSDAY)).get();
+        Location ten = tracker.getLocation(new HourBlock(TEN_AM, Day.THURSDAY)).get();
+        Location eleven = tracker.getLocation(new HourBlock(ELEVEN_AM, Day.THURSDAY)).get();
+        TimePeriod morning = new TimeBlock(NINE_AM, TWELVE_PM, Day.THURSDAY);
+
+        assertEquals(Optional.of(DistanceUtil.getMidpoint(nine, ten, eleven)), tracker.getLocation(morning));
+    }
+
+    @Test
+    void getLocationBefore_nextToLessons_lessonLocation() {
+        assertEquals(Location.NUS, tracker.getLocationBefore(new HourBlock(ONE_PM, Day.TUESDAY)));
+        assertEquals(Location.NUS, tracker.getLocationAfter(new HourBlock(TEN_AM, Day.TUESDAY)));
+    }
+
+    @Test
+    void getLocationBefore_wholeDay_homeStation() {
+        TimePeriod wholeDay = new TimeBlock(EIGHT_AM, ELEVEN_PM, Day.MONDAY);
+
+        assertEquals(MAYFLOWER, tracker.getLocationBefore(wholeDay));
+        assertEquals(MAYFLOWER, tracker.getLocationAfter(wholeDay));
+    }
 }
@@ -0,0 +1,50 @@
+package seedu.address.logic.recommender.scoring;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.model.location.util.TypicalLocation.KING_ALBERT_PARK;
+import static seedu.address.model.location.util.TypicalLocation.NUS;
+import static seedu.address.model.timetable.util.TypicalTime.EIGHT_AM;
+import static seedu.address.model.timetable.util.TypicalTime.SIX_PM;
+import static seedu.address.testutil.TypicalPersons.ALBERT;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.recommender.location.LocationTracker;
+import seedu.address.model.location.util.DistanceUtil;
+import seedu.address.model.recommendation.Recommendation;
+import seedu.address.model.time.Day;
+import seedu.address.model.time.TimeBlock;
+import seedu.address.model.time.TimePeriod;
+
+public class CandidateSetTest {
+
+    private static final double DELTA = 1e-9;
+    private static final TimePeriod MONDAY = new TimeBlock(EIGHT_AM, SIX_PM, Day.MONDAY);
+
+    private final CandidateSet candidates = new CandidateSet(List.of(MONDAY), List.of(List.of(KING_ALBERT_PARK, NUS)),
+            List.of(new LocationTracker(ALBERT)), timing -> 1);
+
+    @Test
+    void constructor_timingWithLocations_paired() {
+        assertEquals(2, candidates.size());
+        assertEquals(1, candidates.getNumberOfTimings());
+        assertEquals(0, candidates.getTimingIndex(1));
+        assertEquals(NUS, candidates.getLocation(1));
+        assertEquals(new Recommendation(NUS, MONDAY), candidates.getRecommendation(1));
+    }
+
+    @Test
+    void measure_participantAtHome_distancesFromHome() {
+        double distance = DistanceUtil.computeDistance(KING_ALBERT_PARK, NUS);
+        double[][] measurements = candidates.measure();
+
+        assertEquals(600, measurements[ScoreComponent.SLOT_LENGTH.ordinal()][1], DELTA);
+        assertEquals(0, measurements[ScoreComponent.TOTAL_DISTANCE.ordinal()][0], DELTA);
+        assertEquals(distance, measurements[ScoreComponent.TOTAL_DISTANCE.ordinal()][1], DELTA);
+        assertEquals(distance, measurements[ScoreComponent.MAX_DISTANCE.ordinal()][1], DELTA);
+        assertEquals(1, measurements[ScoreComponent.ATTENDANCE.ordinal()][1], DELTA);
+        assertEquals(2 * distance, measurements[ScoreComponent.COMMITMENT_DISTANCE.ordinal()][1], DELTA);
+    }
+}
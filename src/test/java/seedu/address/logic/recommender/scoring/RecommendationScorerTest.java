@@ -0,0 +1,113 @@
+package seedu.address.logic.recommender.scoring;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.model.location.util.TypicalLocation.DHOBY_GHAUT;
+import static seedu.address.model.location.util.TypicalLocation.KING_ALBERT_PARK;
+import static seedu.address.model.location.util.TypicalLocation.NUS;
+import static seedu.address.model.timetable.util.TypicalTime.EIGHT_AM;
+import static seedu.address.model.timetable.util.TypicalTime.FIVE_PM;
+import static seedu.address.model.timetable.util.TypicalTime.SIX_PM;
+import static seedu.address.model.timetable.util.TypicalTime.TWO_PM;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALBERT;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.recommender.location.LocationTracker;
+import seedu.address.model.location.Location;
+import seedu.address.model.recommendation.Recommendation;
+import seedu.address.model.time.Day;
+import seedu.address.model.time.HourBlock;
+import seedu.address.model.time.TimeBlock;
+import seedu.address.model.time.TimePeriod;
+
+public class RecommendationScorerTest {
+
+    private static final TimePeriod TEN_HOURS = new TimeBlock(EIGHT_AM, SIX_PM, Day.MONDAY);
+    private static final TimePeriod NINE_HOURS = new TimeBlock(EIGHT_AM, FIVE_PM, Day.TUESDAY);
+    private static final TimePeriod ONE_HOUR = new HourBlock(TWO_PM, Day.WEDNESDAY);
+
+    private final List<LocationTracker> trackers = List.of(new LocationTracker(ALBERT));
+
+    @Test
+    void constructor_negativeWeight_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new RecommendationScorer(Map.of(ScoreComponent.SLOT_LENGTH, 1.0, ScoreComponent.ATTENDANCE, -1.0)));
+    }
+
+    @Test
+    void constructor_noPositiveWeight_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, RecommendationScorer.MESSAGE_NO_POSITIVE_WEIGHT, () ->
+                new RecommendationScorer(Map.of(ScoreComponent.SLOT_LENGTH, 0.0)));
+    }
+
+    @Test
+    void of_namesInAnyCase_weightsRead() {
+        RecommendationScorer scorer = RecommendationScorer.of(Map.of("slot_length", 2.0, " Attendance ", 1.0));
+
+        assertEquals(2.0, scorer.getWeight(ScoreComponent.SLOT_LENGTH));
+        assertEquals(1.0, scorer.getWeight(ScoreComponent.ATTENDANCE));
+        assertEquals(0.0, scorer.getWeight(ScoreComponent.MAX_DISTANCE));
+    }
+
+    @Test
+    void of_unknownName_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, String.format(RecommendationScorer.MESSAGE_UNKNOWN_COMPONENT,
+                "nearest"), () -> RecommendationScorer.of(Map.of("nearest", 1.0)));
+    }
+
+    @Test
+    void score_slotLengthOnly_scaledByLength() {
+        RecommendationScorer scorer = new RecommendationScorer(Map.of(ScoreComponent.SLOT_LENGTH, 2.0));
+        double[] scores = scorer.score(getCandidates(List.of(ONE_HOUR, NINE_HOURS, TEN_HOURS),
+                List.of(List.of(NUS), List.of(NUS), List.of(NUS))));
+
+        assertEquals(0.0, scores[0], 1e-9);
+        assertEquals(2.0 * 8 / 9, scores[1], 1e-9);
+        assertEquals(2.0, scores[2], 1e-9);
+    }
+
+    @Test
+    void recommend_slotLengthOnly_longestFirstWithoutRepeats() {
+        RecommendationScorer scorer = new RecommendationScorer(Map.of(ScoreComponent.SLOT_LENGTH, 1.0));
+        List<Recommendation> recommendations = scorer.recommend(getCandidates(List.of(ONE_HOUR, TEN_HOURS),
+                List.of(List.of(NUS, DHOBY_GHAUT), List.of(NUS, DHOBY_GHAUT))), 5);
+
+        assertEquals(List.of(new Recommendation(NUS, TEN_HOURS), new Recommendation(DHOBY_GHAUT, ONE_HOUR)),
+                recommendations);
+    }
+
+    @Test
+    void recommend_totalDistanceOnly_closestFirst() {
+        RecommendationScorer scorer = new RecommendationScorer(Map.of(ScoreComponent.TOTAL_DISTANCE, 1.0));
+        List<Recommendation> recommendations = scorer.recommend(getCandidates(List.of(TEN_HOURS),
+                List.of(List.of(NUS, KING_ALBERT_PARK))), 1);
+
+        assertEquals(List.of(new Recommendation(KING_ALBERT_PARK, TEN_HOURS)), recommendations);
+    }
+
+    @Test
+    void recommend_higherScoreButDominated_nonDominatedPickedFirst() {
+        // the nine hours at Dhoby Ghaut scores more than the hour at home, but is shorter and further than
+        // the ten hours at NUS, while the hour at home is the closest
+        RecommendationScorer scorer = new RecommendationScorer(Map.of(ScoreComponent.SLOT_LENGTH, 2.0,
+                ScoreComponent.TOTAL_DISTANCE, 1.0));
+        CandidateSet candidates = getCandidates(List.of(TEN_HOURS, NINE_HOURS, ONE_HOUR),
+                List.of(List.of(NUS), List.of(DHOBY_GHAUT), List.of(KING_ALBERT_PARK)));
+        double[] scores = scorer.score(candidates);
+
+        assertTrue(scores[1] > scores[2]);
+        assertEquals(List.of(new Recommendation(NUS, TEN_HOURS), new Recommendation(KING_ALBERT_PARK, ONE_HOUR)),
+                scorer.recommend(candidates, 2));
+        assertEquals(List.of(new Recommendation(NUS, TEN_HOURS), new Recommendation(KING_ALBERT_PARK, ONE_HOUR),
+                new Recommendation(DHOBY_GHAUT, NINE_HOURS)), scorer.recommend(candidates, 3));
+    }
+
+    private CandidateSet getCandidates(List<TimePeriod> timings, List<List<Location>> locationsOfTimings) {
+        return new CandidateSet(timings, locationsOfTimings, trackers, timing -> trackers.size());
+    }
+}
@@ -4,11 +4,15 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.Model.COMPARATOR_CONTACT_INDEX_RECOMMENDATION;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_RECOMMENDATIONS;
+import static seedu.address.model.recommendation.TypicalRecommendations.RECOMMENDATION_NEWTON_THU_4PM_3HR;
 import static seedu.address.model.recommendation.TypicalRecommendations.RECOMMENDATION_STEVENS_THU_10AM_2HR;
+import static seedu.address.model.recommendation.TypicalRecommendations.RECOMMENDATION_STEVENS_THU_5PM_1HR;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALBERT;
 import static seedu.address.testutil.TypicalPersons.BART;
@@ -16,14 +20,29 @@ import static seedu.address.testutil.TypicalPersons.BART;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.List;
 
+import org.joda.time.LocalTime;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.parser.Prefix;
+import seedu.address.logic.recommender.location.LocationTracker;
+import seedu.address.model.location.Location;
+import seedu.address.model.meetup.MeetUp;
+import seedu.address.model.meetup.MeetUpIndex;
+import seedu.address.model.meetup.Participants;
+import seedu.address.model.meetup.exceptions.MeetUpClashException;
 import seedu.address.model.person.ContactIndex;
 import seedu.address.model.person.ContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.User;
+import seedu.address.model.recommendation.Recommendation;
+import seedu.address.model.time.Day;
+import seedu.address.model.time.TimeBlock;
+import seedu.address.model.timetable.TimeModel;
 import seedu.address.testutil.EduMateBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -121,6 +140,34 @@ public class ModelManagerTest {
         assertFalse(modelManager.hasPerson(ALBERT));
     }
 
+    @Test
+    public void getLocationTracker_unchangedPerson_sameTracker() {
+        modelManager.addPerson(ALBERT);
+        LocationTracker tracker = modelManager.getLocationTracker(ALBERT, TimeModel.HOURLY);
+        assertSame(tracker, modelManager.getLocationTracker(ALBERT, TimeModel.HOURLY));
+        assertNotSame(tracker, modelManager.getLocationTracker(ALBERT, TimeModel.EXACT));
+    }
+
+    @Test
+    public void getLocationTracker_editedPerson_newTracker() {
+        modelManager.addPerson(ALBERT);
+        LocationTracker tracker = modelManager.getLocationTracker(ALBERT, TimeModel.HOURLY);
+        modelManager.setPerson(ALBERT, ALBERT);
+        LocationTracker editedTracker = modelManager.getLocationTracker(ALBERT, TimeModel.HOURLY);
+        assertNotSame(tracker, editedTracker);
+
+        modelManager.deletePerson(ALBERT);
+        assertNotSame(editedTracker, modelManager.getLocationTracker(ALBERT, TimeModel.HOURLY));
+    }
+
+    @Test
+    public void getLocationTracker_editedUser_newTracker() {
+        User user = modelManager.getUser();
+        LocationTracker tracker = modelManager.getLocationTracker(user, TimeModel.HOURLY);
+        modelManager.setUser(user);
+        assertNotSame(tracker, modelManager.getLocationTracker(user, TimeModel.HOURLY));
+    }
+
     @Test
     public void deleteRecommendation_recommendationInEduMate_success() {
         if (!modelManager.hasRecommendation(RECOMMENDATION_STEVENS_THU_10AM_2HR)) {
@@ -131,6 +178,25 @@ public class ModelManagerTest {
         assertFalse(modelManager.hasRecommendation(RECOMMENDATION_STEVENS_THU_10AM_2HR));
     }
 
+    @Test
+    public void addRecommendations_afterExisting_indexedOnAndDuplicatesSkipped() {
+        modelManager.setRecommendations(List.of(RECOMMENDATION_STEVENS_THU_10AM_2HR));
+        int version = modelManager.getRecommendationListVersion();
+        modelManager.addRecommendations(List.of(RECOMMENDATION_STEVENS_THU_10AM_2HR,
+                RECOMMENDATION_NEWTON_THU_4PM_3HR, RECOMMENDATION_STEVENS_THU_5PM_1HR,
+                RECOMMENDATION_NEWTON_THU_4PM_3HR));
+
+        List<Recommendation> recommendations = modelManager.getObservableRecommendationList();
+        assertEquals(3, recommendations.size());
+        for (int i = 0; i < recommendations.size(); i++) {
+            assertEquals(new ContactIndex(i + 1), recommendations.get(i).getContactIndex());
+        }
+        assertEquals(version, modelManager.getRecommendationListVersion());
+
+        modelManager.setRecommendations(List.of());
+        assertNotEquals(version, modelManager.getRecommendationListVersion());
+    }
+
     @Test
     public void getObservablePersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getObservablePersonList().remove(0));
@@ -165,6 +231,48 @@ public class ModelManagerTest {
                 modelManager.getRecommendationByIndex(new ContactIndex(1)).get());
     }
 
+    @Test
+    public void addMeetUp_clashingMeetUp_throwsMeetUpClashException() {
+        Person person = modelManager.addPerson(new PersonBuilder().build());
+        MeetUp mondayMorning = createMeetUp(person, 10, 12, 1);
+        modelManager.addMeetUp(mondayMorning);
+
+        assertThrows(MeetUpClashException.class, () -> modelManager.addMeetUp(createMeetUp(person, 11, 13, 2)));
+        assertThrows(MeetUpClashException.class, () -> modelManager.addMeetUp(createMeetUp(person, 9, 11, 2)));
+
+        MeetUp mondayNoon = createMeetUp(person, 12, 13, 2);
+        modelManager.addMeetUp(mondayNoon);
+        assertEquals(List.of(mondayMorning, mondayNoon), modelManager.getMeetUps(person.getContactIndex(), Day.MONDAY));
+        assertEquals(List.of(), modelManager.getMeetUps(person.getContactIndex(), Day.TUESDAY));
+        assertEquals(List.of(), modelManager.getMeetUps(new ContactIndex(99), Day.MONDAY));
+    }
+
+    @Test
+    public void deleteMeetUp_scheduledMeetUp_freesTimePeriod() {
+        Person person = modelManager.addPerson(new PersonBuilder().build());
+        MeetUp mondayMorning = createMeetUp(person, 10, 12, 1);
+        modelManager.addMeetUp(mondayMorning);
+
+        modelManager.deleteMeetUp(mondayMorning.getMeetUpIndex());
+        assertFalse(modelManager.hasClashScheduled(mondayMorning));
+        assertEquals(List.of(), modelManager.getMeetUps(ContactIndex.USER_CONTACT_INDEX, Day.MONDAY));
+    }
+
+    @Test
+    public void deletePerson_onlyParticipant_meetUpRemovedFromSchedule() {
+        Person person = modelManager.addPerson(new PersonBuilder().build());
+        MeetUp mondayMorning = createMeetUp(person, 10, 12, 1);
+        modelManager.addMeetUp(mondayMorning);
+
+        modelManager.deletePerson(person);
+        assertFalse(modelManager.hasClashScheduled(mondayMorning));
+    }
+
+    private MeetUp createMeetUp(Person person, int startHour, int endHour, int meetUpIndex) {
+        return new MeetUp(new TimeBlock(new LocalTime(startHour, 0), new LocalTime(endHour, 0), Day.MONDAY),
+                Location.NUS, new Participants(List.of(person)), new MeetUpIndex(meetUpIndex));
+    }
+
     @Test
     public void setEduMate() {
         EduMate newEduMate = new EduMate(modelManager.getEduMate());
@@ -0,0 +1,49 @@
+package seedu.address.model.location;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.model.location.util.TypicalLocation.BEDOK;
+import static seedu.address.model.location.util.TypicalLocation.BISHAN;
+import static seedu.address.model.location.util.TypicalLocation.SIMEI;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.location.util.DistanceMatrix;
+import seedu.address.model.location.util.DistanceUtil;
+import seedu.address.model.location.util.LocationDataUtil;
+
+public class DistanceMatrixTest {
+
+    @Test
+    void getDistance_knownLocations_sameAsComputed() {
+        DistanceMatrix matrix = new DistanceMatrix(List.of(BEDOK, SIMEI, BISHAN, BEDOK));
+        assertEquals(3, matrix.size());
+        assertEquals(DistanceUtil.computeDistance(BEDOK, BISHAN), matrix.getDistance(BEDOK, BISHAN));
+        assertEquals(matrix.getDistance(BISHAN, SIMEI), matrix.getDistance(SIMEI, BISHAN));
+        assertEquals(0, matrix.getDistance(SIMEI, SIMEI));
+    }
+
+    @Test
+    void getDistance_unknownLocation_notANumber() {
+        DistanceMatrix matrix = new DistanceMatrix(List.of(BEDOK, SIMEI));
+        Location copyOfBedok = new Location(BEDOK.getName(), BEDOK.getLatitude(), BEDOK.getLongitude());
+        assertFalse(matrix.contains(copyOfBedok));
+        assertTrue(Double.isNaN(matrix.getDistance(copyOfBedok, SIMEI)));
+    }
+
+    @Test
+    void getDistance_bundledAndInterpolatedLocations_sameAsComputed() {
+        Location station = LocationDataUtil.getStations().iterator().next();
+        Location destination = LocationDataUtil.getEatLocations().iterator().next();
+        assertTrue(LocationDataUtil.getDistanceMatrix().contains(station));
+        assertEquals(DistanceUtil.computeDistance(station, destination),
+                DistanceUtil.getDistance(station, destination));
+
+        Location midpoint = DistanceUtil.getMidpoint(station, destination);
+        assertEquals(DistanceUtil.computeDistance(midpoint, destination),
+                DistanceUtil.getDistance(midpoint, destination));
+    }
+}
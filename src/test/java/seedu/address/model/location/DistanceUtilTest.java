@@ -22,6 +22,7 @@ import static seedu.address.model.location.util.TypicalLocation.JOO_KOON;
 import static seedu.address.model.location.util.TypicalLocation.KHATIB;
 import static seedu.address.model.location.util.TypicalLocation.KRANJI;
 import static seedu.address.model.location.util.TypicalLocation.LABRADOR_PARK;
+import static seedu.address.model.location.util.TypicalLocation.MARINA_SOUTH_PIER;
 import static seedu.address.model.location.util.TypicalLocation.NOVENA;
 import static seedu.address.model.location.util.TypicalLocation.ORCHARD;
 import static seedu.address.model.location.util.TypicalLocation.PASIR_RIS;
@@ -293,4 +294,35 @@ public class DistanceUtilTest {
         Location approximateMidpoint = DistanceUtil.getApproximateLocations(PASIR_RIS, SIMEI, 1).get(0);
         assertEquals(midpoint, approximateMidpoint);
     }
+
+    @Test
+    void getGeometricMedian_farOutlier_staysWithMajority() {
+        List<Location> locations = List.of(PASIR_RIS, TAMPINES, SIMEI, TUAS_CRESCENT);
+        Location median = DistanceUtil.getGeometricMedian(locations);
+        Location midpoint = DistanceUtil.getMidpoint(locations);
+        assertTrue(getTotalDistance(median, locations) <= getTotalDistance(midpoint, locations));
+        assertTrue(DistanceUtil.getDistance(median, TAMPINES) < DistanceUtil.getDistance(midpoint, TAMPINES));
+        assertEquals(Location.NUS, DistanceUtil.getGeometricMedian(List.of()));
+    }
+
+    @Test
+    void getMinimaxPoint_twoFurthest_midwayBetweenThem() {
+        Location minimaxPoint = DistanceUtil.getMinimaxPoint(List.of(TUAS_CRESCENT, BISHAN, CHANGI_AIRPORT));
+        assertEquals(DistanceUtil.getMidpoint(TUAS_CRESCENT, CHANGI_AIRPORT), minimaxPoint);
+        assertEquals(EUNOS, DistanceUtil.getMinimaxPoint(List.of(EUNOS)));
+    }
+
+    @Test
+    void getMinimaxPoint_triangle_equallyFarFromCorners() {
+        Location minimaxPoint = DistanceUtil.getMinimaxPoint(
+                List.of(WOODLANDS, TUAS_CRESCENT, MARINA_SOUTH_PIER, BISHAN));
+        double radius = DistanceUtil.getDistance(minimaxPoint, WOODLANDS);
+        assertEquals(radius, DistanceUtil.getDistance(minimaxPoint, TUAS_CRESCENT), 1e-9);
+        assertEquals(radius, DistanceUtil.getDistance(minimaxPoint, MARINA_SOUTH_PIER), 1e-9);
+        assertTrue(DistanceUtil.getDistance(minimaxPoint, BISHAN) < radius);
+    }
+
+    private static double getTotalDistance(Location point, List<Location> locations) {
+        return locations.stream().mapToDouble(location -> DistanceUtil.getDistance(point, location)).sum();
+    }
 }
@@ -0,0 +1,29 @@
+package seedu.address.model.location;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.location.util.Geohash;
+
+public class GeohashTest {
+
+    @Test
+    void toString_knownLocations_sameAsGeohash() {
+        assertEquals("w21z3e", Geohash.toString(Geohash.encode(1.29551, 103.77693)));
+        assertEquals("w21zdq", Geohash.toString(Geohash.encode(1.3521, 103.8198)));
+    }
+
+    @Test
+    void encode_neighbouringCells_differentHashes() {
+        int latitudeCell = Geohash.getLatitudeCell(Location.NUS.getLatitude());
+        int longitudeCell = Geohash.getLongitudeCell(Location.NUS.getLongitude());
+        long hash = Geohash.encode(latitudeCell, longitudeCell);
+        assertEquals(hash, Geohash.encode(Location.NUS.getLatitude(), Location.NUS.getLongitude()));
+        assertNotEquals(hash, Geohash.encode(latitudeCell + 1, longitudeCell));
+        assertNotEquals(hash, Geohash.encode(latitudeCell, longitudeCell + 1));
+        assertEquals(latitudeCell + 1, Geohash.getLatitudeCell(
+                Location.NUS.getLatitude() + Geohash.LATITUDE_CELL_DEGREES));
+    }
+}
@@ -0,0 +1,67 @@
+package seedu.address.model.location;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.location.util.LocationDataFile;
+import seedu.address.model.location.util.LocationDataUtil;
+
+public class LocationDataFileTest {
+
+    private static final Path RESOURCES_FOLDER = Paths.get("src", "main", "resources");
+
+    @TempDir
+    public Path tempDir;
+
+    @Test
+    void read_compiledFiles_sameAsTextFiles() throws IOException {
+        LocationDataFile.compile(RESOURCES_FOLDER, tempDir);
+
+        for (String dataSet : LocationDataFile.DATA_SETS) {
+            Path binaryFile = tempDir.resolve(String.format(LocationDataFile.RESOURCE_FORMAT, dataSet));
+            Path textFile = RESOURCES_FOLDER.resolve(String.format("data/%s.txt", dataSet));
+            try (InputStream binaryStream = Files.newInputStream(binaryFile);
+                    InputStream textStream = Files.newInputStream(textFile)) {
+                assertEquals(LocationDataFile.parseText(textStream, line -> { }), LocationDataFile.read(binaryStream));
+            }
+        }
+
+        try (InputStream inputStream = Files.newInputStream(
+                tempDir.resolve(String.format(LocationDataFile.RESOURCE_FORMAT, "stations")))) {
+            assertEquals(LocationDataUtil.getStations(), new HashSet<>(LocationDataFile.read(inputStream)));
+        }
+    }
+
+    @Test
+    void read_corruptedFile_throwsIoException() {
+        assertThrows(IOException.class, () -> LocationDataFile.read(new ByteArrayInputStream(new byte[] {1, 2, 3})));
+        assertThrows(IOException.class, () -> LocationDataFile.read(new ByteArrayInputStream(new byte[0])));
+    }
+
+    @Test
+    void parseText_invalidLines_skipped() throws IOException {
+        String text = "Valid|1.3|103.8\nNo longitude|1.3\nOutside|2.0|103.8\nNot a number|abc|103.8\n";
+        List<String> invalidLines = new ArrayList<>();
+        List<Location> locations = LocationDataFile.parseText(
+                new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)), invalidLines::add);
+        assertEquals(List.of(new Location("Valid", 1.3, 103.8)), locations);
+        assertEquals("Valid", locations.get(0).getName());
+        assertEquals(3, invalidLines.size());
+        assertTrue(invalidLines.contains("Outside|2.0|103.8"));
+    }
+}
@@ -0,0 +1,50 @@
+package seedu.address.model.location;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.location.util.LocationDataUtil;
+import seedu.address.model.location.util.TransitGraph;
+import seedu.address.model.location.util.VenueCatalogue;
+
+public class LocationDataUtilTest {
+
+    @TempDir
+    public Path tempDir;
+
+    @Test
+    void loadInBackground_allDataSets_sameAsLoadedOnDemand() throws Exception {
+        Path cacheFile = tempDir.resolve("transit");
+        LocationDataUtil.loadInBackground(cacheFile, tempDir.resolve("none"), tempDir.resolve("index"))
+                .get(1, TimeUnit.MINUTES);
+
+        assertSame(LocationDataUtil.getStations(), LocationDataUtil.getStations());
+        assertEquals(LocationDataUtil.getStations().size(), LocationDataUtil.getStationsHashMap().size());
+        assertTrue(LocationDataUtil.getMeetLocations().containsAll(LocationDataUtil.getEatLocations()));
+        assertTrue(LocationDataUtil.getMeetLocations().containsAll(LocationDataUtil.getStudyLocations()));
+        assertSame(LocationDataUtil.getIndex(LocationDataUtil.getMeetLocations()),
+                LocationDataUtil.getIndex(LocationDataUtil.getMeetLocations()));
+    }
+
+    @Test
+    void loadInBackground_alreadyLoadedOnDemand_keptAsLoaded() throws Exception {
+        TransitGraph transitGraph = LocationDataUtil.getTransitGraph();
+        VenueCatalogue venueCatalogue = LocationDataUtil.getVenueCatalogue();
+        Path cacheFile = tempDir.resolve("transit");
+        LocationDataUtil.loadInBackground(cacheFile, tempDir.resolve("none"), tempDir.resolve("index"))
+                .get(1, TimeUnit.MINUTES);
+
+        assertSame(transitGraph, LocationDataUtil.getTransitGraph());
+        assertSame(venueCatalogue, LocationDataUtil.getVenueCatalogue());
+        assertFalse(Files.exists(cacheFile));
+    }
+}
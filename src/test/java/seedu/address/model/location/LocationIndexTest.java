@@ -0,0 +1,69 @@
+package seedu.address.model.location;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.model.location.util.TypicalLocation.BEDOK;
+import static seedu.address.model.location.util.TypicalLocation.BOON_LAY;
+import static seedu.address.model.location.util.TypicalLocation.DHOBY_GHAUT;
+import static seedu.address.model.location.util.TypicalLocation.KRANJI;
+import static seedu.address.model.location.util.TypicalLocation.PASIR_RIS;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.location.util.DistanceUtil;
+import seedu.address.model.location.util.LocationDataUtil;
+import seedu.address.model.location.util.LocationIndex;
+
+public class LocationIndexTest {
+
+    private static final List<Location> SOURCES = List.of(BEDOK, BOON_LAY, DHOBY_GHAUT, KRANJI, PASIR_RIS,
+            Location.NUS);
+
+    @Test
+    void getClosestPoints_stations_sameAsSortingByDistance() {
+        List<Location> stations = new ArrayList<>(LocationDataUtil.getStations());
+        LocationIndex index = new LocationIndex(stations);
+        for (Location source : SOURCES) {
+            for (int limit : new int[] {1, 5, 10, stations.size() + 1}) {
+                List<Location> expected = stations.stream()
+                        .sorted(Comparator.comparingDouble(station -> DistanceUtil.getDistance(station, source)))
+                        .limit(limit)
+                        .collect(Collectors.toList());
+                assertEquals(expected, index.getClosestPoints(source, limit));
+            }
+        }
+    }
+
+    @Test
+    void getClosestPoints_equallyFarDestinations_keepsGivenOrder() {
+        Location first = new Location("first", 1.30, 103.80);
+        Location second = new Location("second", 1.30, 103.80);
+        Location third = new Location("third", 1.30, 103.80);
+        LocationIndex index = new LocationIndex(List.of(second, third, first));
+        List<Location> closestPoints = index.getClosestPoints(BEDOK, 3);
+        assertSame(second, closestPoints.get(0));
+        assertSame(third, closestPoints.get(1));
+        assertSame(first, closestPoints.get(2));
+    }
+
+    @Test
+    void getClosestPoints_noDestinations_empty() {
+        LocationIndex index = new LocationIndex(List.of());
+        assertTrue(index.getClosestPoints(BEDOK, 3).isEmpty());
+        assertTrue(index.getClosestPoint(BEDOK).isEmpty());
+    }
+
+    @Test
+    void getIndex_bundledDestinations_shared() {
+        assertSame(LocationDataUtil.getIndex(LocationDataUtil.getEatLocations()),
+                LocationDataUtil.getIndex(LocationDataUtil.getEatLocations()));
+        assertEquals(LocationDataUtil.getMeetLocations().size(),
+                LocationDataUtil.getIndex(LocationDataUtil.getMeetLocations()).size());
+    }
+}
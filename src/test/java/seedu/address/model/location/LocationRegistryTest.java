@@ -0,0 +1,63 @@
+package seedu.address.model.location;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.model.location.util.TypicalLocation.BEDOK;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.location.util.LocationDataUtil;
+
+public class LocationRegistryTest {
+
+    @Test
+    void intern_namedLocation_singleInstanceWithId() {
+        Location bedok = LocationRegistry.intern(BEDOK.getName(), BEDOK.getLatitude(), BEDOK.getLongitude());
+        assertTrue(bedok.isInterned());
+        assertSame(bedok, LocationRegistry.intern(BEDOK));
+        assertSame(bedok, LocationRegistry.get(bedok.getId()));
+        assertTrue(bedok.getId() < LocationRegistry.size());
+        assertFalse(BEDOK.isInterned());
+        assertEquals(BEDOK, bedok);
+
+        Location renamed = LocationRegistry.intern("Bedok Interchange", BEDOK.getLatitude(), BEDOK.getLongitude());
+        assertNotEquals(bedok.getId(), renamed.getId());
+        assertEquals(bedok, renamed);
+        assertEquals(bedok.hashCode(), renamed.hashCode());
+    }
+
+    @Test
+    void intern_unnamedLocation_unchanged() {
+        Location unnamed = new Location(BEDOK.getLatitude(), BEDOK.getLongitude());
+        assertSame(unnamed, LocationRegistry.intern(unnamed));
+        assertEquals(Location.UNREGISTERED_ID, unnamed.getId());
+    }
+
+    @Test
+    void intern_bundledLocations_alreadyInterned() {
+        Location station = LocationDataUtil.getStations().iterator().next();
+        assertTrue(station.isInterned());
+        assertSame(station, LocationRegistry.intern(station.getName(), station.getLatitude(), station.getLongitude()));
+        assertTrue(Location.NUS.isInterned());
+    }
+
+    @Test
+    void hashCode_closeLocations_consistentWithEquals() {
+        Set<Location> locations = new HashSet<>(List.of(
+                new Location(1.30001, 103.80001), new Location("Same cell", 1.30002, 103.80002),
+                new Location(1.31, 103.81)));
+        assertEquals(2, locations.size());
+        for (Location first : locations) {
+            for (Location second : List.of(new Location(1.30003, 103.80004), new Location(1.31, 103.81))) {
+                assertEquals(first.equals(second), first.hashCode() == second.hashCode());
+            }
+        }
+    }
+}
@@ -223,12 +223,12 @@ public class LocationTest {
         assertEquals(new Location(VALID_LAT_3, VALID_LON_3).hashCode(),
                 new Location("", VALID_LAT_3, VALID_LON_3).hashCode());
 
-        // different name
-        assertNotEquals(VALID_LOCATION_1.hashCode(),
+        // different name, which is still equal
+        assertEquals(VALID_LOCATION_1.hashCode(),
                 new Location(VALID_NAME_2, VALID_LAT_1, VALID_LON_1).hashCode());
-        assertNotEquals(VALID_LOCATION_2.hashCode(),
+        assertEquals(VALID_LOCATION_2.hashCode(),
                 new Location(VALID_NAME_3, VALID_LAT_2, VALID_LON_2).hashCode());
-        assertNotEquals(VALID_LOCATION_3.hashCode(),
+        assertEquals(VALID_LOCATION_3.hashCode(),
                 new Location(VALID_NAME_1, VALID_LAT_3, VALID_LON_3).hashCode());
 
         // different lat
@@ -0,0 +1,110 @@
+package seedu.address.model.location;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.model.location.util.TypicalLocation.BEDOK;
+import static seedu.address.model.location.util.TypicalLocation.PASIR_RIS;
+import static seedu.address.model.location.util.TypicalLocation.SIMEI;
+import static seedu.address.model.location.util.TypicalLocation.TAMPINES;
+import static seedu.address.model.location.util.TypicalLocation.TANAH_MERAH;
+import static seedu.address.model.location.util.TypicalLocation.TEN_MILE_JUNCTION;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.location.util.DistanceUtil;
+import seedu.address.model.location.util.LocationDataUtil;
+import seedu.address.model.location.util.TransitGraph;
+
+public class TransitGraphTest {
+
+    private static final List<Location> STATIONS = List.of(PASIR_RIS, TAMPINES, SIMEI, TANAH_MERAH, BEDOK);
+    private static final List<List<Location>> ONE_LINE = List.of(STATIONS);
+    private static final List<List<Location>> TWO_LINES = List.of(
+            List.of(PASIR_RIS, TAMPINES, SIMEI), List.of(SIMEI, TANAH_MERAH, BEDOK));
+
+    @TempDir
+    public Path tempDir;
+
+    @Test
+    void getTravelTime_sameLine_fasterThanWalking() {
+        TransitGraph graph = new TransitGraph(STATIONS, ONE_LINE, List.of());
+        double travelTime = graph.getTravelTime(PASIR_RIS, BEDOK);
+        assertTrue(travelTime < TransitGraph.getWalkingTime(PASIR_RIS, BEDOK));
+        assertEquals(travelTime, graph.getTravelTime(BEDOK, PASIR_RIS));
+        assertEquals(0, graph.getTravelTime(BEDOK, BEDOK));
+    }
+
+    @Test
+    void getTravelTime_changingLines_slowerThanSameLine() {
+        TransitGraph oneLine = new TransitGraph(STATIONS, ONE_LINE, List.of());
+        TransitGraph twoLines = new TransitGraph(STATIONS, TWO_LINES, List.of());
+        assertTrue(twoLines.getTravelTime(PASIR_RIS, BEDOK) > oneLine.getTravelTime(PASIR_RIS, BEDOK));
+        assertEquals(oneLine.getTravelTime(PASIR_RIS, SIMEI), twoLines.getTravelTime(PASIR_RIS, SIMEI));
+    }
+
+    @Test
+    void getTravelTime_stationOnNoLine_linkedToClosestStations() {
+        TransitGraph graph = new TransitGraph(List.of(PASIR_RIS, TAMPINES, TEN_MILE_JUNCTION),
+                List.of(List.of(PASIR_RIS, TAMPINES)), List.of());
+        assertTrue(graph.isStation(TEN_MILE_JUNCTION));
+        double travelTime = graph.getTravelTime(TEN_MILE_JUNCTION, PASIR_RIS);
+        assertTrue(travelTime < TransitGraph.getWalkingTime(TEN_MILE_JUNCTION, PASIR_RIS));
+    }
+
+    @Test
+    void getTravelTimes_interpolatedSource_sameAsGetTravelTime() {
+        TransitGraph graph = new TransitGraph(STATIONS, ONE_LINE, List.of(TAMPINES));
+        Location source = DistanceUtil.getMidpoint(PASIR_RIS, TAMPINES);
+        List<Location> destinations = List.of(TAMPINES, BEDOK, source);
+        double[] travelTimes = graph.getTravelTimes(source, destinations);
+        assertEquals(graph.getTravelTime(source, TAMPINES), travelTimes[0]);
+        assertEquals(graph.getTravelTime(source, BEDOK), travelTimes[1]);
+        assertEquals(0, travelTimes[2]);
+        assertTrue(graph.getTravelTime(source, TAMPINES) <= TransitGraph.getWalkingTime(source, TAMPINES));
+    }
+
+    @Test
+    void load_cacheFile_reusedUntilNetworkChanges() throws Exception {
+        Path cacheFile = tempDir.resolve("data").resolve("transit");
+        double expected = new TransitGraph(STATIONS, ONE_LINE, List.of()).getTravelTime(PASIR_RIS, BEDOK);
+
+        assertEquals(expected, TransitGraph.load(STATIONS, ONE_LINE, List.of(), cacheFile)
+                .getTravelTime(PASIR_RIS, BEDOK));
+        assertTrue(Files.exists(cacheFile));
+        assertEquals(expected, TransitGraph.load(STATIONS, ONE_LINE, List.of(), cacheFile)
+                .getTravelTime(PASIR_RIS, BEDOK));
+
+        double changed = TransitGraph.load(STATIONS, TWO_LINES, List.of(), cacheFile)
+                .getTravelTime(PASIR_RIS, BEDOK);
+        assertNotEquals(expected, changed);
+        assertEquals(changed, new TransitGraph(STATIONS, TWO_LINES, List.of()).getTravelTime(PASIR_RIS, BEDOK));
+    }
+
+    @Test
+    void load_corruptedCacheFile_searchedAgain() throws Exception {
+        Path cacheFile = tempDir.resolve("transit");
+        Files.write(cacheFile, new byte[] {1, 2, 3});
+        double expected = new TransitGraph(STATIONS, ONE_LINE, List.of()).getTravelTime(PASIR_RIS, BEDOK);
+        assertEquals(expected, TransitGraph.load(STATIONS, ONE_LINE, List.of(), cacheFile)
+                .getTravelTime(PASIR_RIS, BEDOK));
+    }
+
+    @Test
+    void getTransitGraph_bundledNetwork_allStationsReachable() {
+        TransitGraph graph = LocationDataUtil.getTransitGraph();
+        assertEquals(LocationDataUtil.getStations().size(), graph.size());
+        Location harbourFront = LocationDataUtil.getStationsHashMap().get("harbourfront");
+        for (Location station : LocationDataUtil.getStations()) {
+            assertTrue(Double.isFinite(graph.getTravelTime(harbourFront, station)));
+        }
+        Location changiAirport = LocationDataUtil.getStationsHashMap().get("changi airport");
+        assertTrue(graph.getTravelTime(harbourFront, changiAirport)
+                < TransitGraph.getWalkingTime(harbourFront, changiAirport));
+    }
+}
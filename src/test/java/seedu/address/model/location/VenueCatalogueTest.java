@@ -0,0 +1,139 @@
+package seedu.address.model.location;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.recommender.location.LocationObjective;
+import seedu.address.logic.recommender.location.LocationRecommender;
+import seedu.address.model.location.util.DistanceUtil;
+import seedu.address.model.location.util.VenueCatalogue;
+
+public class VenueCatalogueTest {
+
+    private static final List<String> CATEGORIES = List.of("cafe", "library", "park");
+    private static final int NUMBER_OF_VENUES = 2000;
+
+    @TempDir
+    public Path tempDir;
+
+    private Path venueFile;
+    private final List<Location> venues = new ArrayList<>();
+    private final List<String> venueCategories = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Random random = new Random(2103);
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < NUMBER_OF_VENUES; i++) {
+            double latitude = 1.25 + random.nextDouble() * 0.2;
+            double longitude = 103.62 + random.nextDouble() * 0.4;
+            String category = CATEGORIES.get(random.nextInt(CATEGORIES.size()));
+            venues.add(new Location("Venue " + i, latitude, longitude));
+            venueCategories.add(category);
+            lines.add(String.format("Venue %d|%s|%s|%s", i, latitude, longitude, category.toUpperCase()));
+        }
+        lines.add("No category|1.3|103.8");
+        lines.add("Outside Singapore|10|103.8|cafe");
+        venueFile = tempDir.resolve("destinations.txt");
+        Files.write(venueFile, lines);
+    }
+
+    @Test
+    void getClosestPoints_randomVenues_sameAsSortingAll() throws IOException {
+        VenueCatalogue catalogue = VenueCatalogue.read(venueFile);
+        assertEquals(NUMBER_OF_VENUES, catalogue.size());
+        assertEquals(CATEGORIES, catalogue.getCategories());
+
+        for (Location location : List.of(Location.NUS, venues.get(0), new Location(1.4, 104.0))) {
+            assertEquals(getClosest(location, null, 10), catalogue.getClosestPoints(location, 10, List.of()));
+            assertEquals(getClosest(location, "park", 25),
+                    catalogue.getClosestPoints(location, 25, List.of(" Park ")));
+        }
+        assertEquals(List.of(), catalogue.getClosestPoints(Location.NUS, 10, List.of("gym")));
+    }
+
+    @Test
+    void getWithinRadius_randomVenues_sameAsCheckingAll() throws IOException {
+        VenueCatalogue catalogue = VenueCatalogue.read(venueFile);
+        List<Location> expected = getClosest(Location.NUS, "cafe", NUMBER_OF_VENUES).stream()
+                .filter(venue -> DistanceUtil.computeDistance(Location.NUS, venue) <= 3)
+                .collect(Collectors.toList());
+        assertTrue(expected.size() > 5);
+        assertEquals(expected, catalogue.getWithinRadius(Location.NUS, 3, List.of("cafe")));
+    }
+
+    @Test
+    void select_categories_usableAsDestinations() throws IOException {
+        VenueCatalogue catalogue = VenueCatalogue.read(venueFile);
+        VenueCatalogue.Selection libraries = catalogue.select(List.of("LIBRARY"));
+        assertEquals(venueCategories.stream().filter("library"::equals).count(), libraries.size());
+        assertEquals(libraries, catalogue.select(List.of("library")));
+        assertNotEquals(libraries, catalogue.select(List.of("library", "cafe")));
+        assertEquals(NUMBER_OF_VENUES, catalogue.select(List.of()).size());
+
+        LocationRecommender recommender = new LocationRecommender();
+        recommender.initialise(libraries, LocationObjective.MIDPOINT);
+        assertEquals(getClosest(Location.NUS, "library", 10), recommender.recommend(List.of(Location.NUS)));
+    }
+
+    @Test
+    void load_indexFile_reusedUntilVenuesChange() throws IOException {
+        Path indexFile = tempDir.resolve("data").resolve("index");
+        VenueCatalogue read = VenueCatalogue.load(venueFile, indexFile);
+        assertTrue(Files.exists(indexFile));
+        VenueCatalogue reused = VenueCatalogue.load(venueFile, indexFile);
+        assertEquals(read.size(), reused.size());
+        assertEquals(read.getCategories(), reused.getCategories());
+        assertEquals(read.getClosestPoints(Location.NUS, 20, List.of()),
+                reused.getClosestPoints(Location.NUS, 20, List.of()));
+
+        Files.write(venueFile, List.of("Only venue|1.3|103.8|gym"));
+        Files.setLastModifiedTime(venueFile, FileTime.fromMillis(0));
+        VenueCatalogue changed = VenueCatalogue.load(venueFile, indexFile);
+        assertEquals(1, changed.size());
+        assertEquals(List.of("gym"), changed.getCategories());
+
+        Files.write(indexFile, new byte[] {1, 2, 3});
+        assertEquals(1, VenueCatalogue.load(venueFile, indexFile).size());
+    }
+
+    @Test
+    void load_noVenueFile_empty() {
+        assertSame(VenueCatalogue.EMPTY, VenueCatalogue.load(tempDir.resolve("none"), tempDir.resolve("index")));
+        assertEquals(List.of(), VenueCatalogue.EMPTY.getClosestPoints(Location.NUS, 10, List.of()));
+        assertEquals(List.of(), VenueCatalogue.EMPTY.getWithinRadius(Location.NUS, 10, List.of()));
+    }
+
+    private List<Location> getClosest(Location location, String category, int limit) {
+        List<Integer> order = new ArrayList<>();
+        for (int i = 0; i < venues.size(); i++) {
+            if (category == null || category.equals(venueCategories.get(i))) {
+                order.add(i);
+            }
+        }
+        order.sort(Comparator.comparingDouble(i -> getDistanceSquared(location, venues.get(i))));
+        return order.stream().limit(limit).map(venues::get).collect(Collectors.toList());
+    }
+
+    private static double getDistanceSquared(Location first, Location second) {
+        double latitudeDifference = first.getLatitude() - second.getLatitude();
+        double longitudeDifference = first.getLongitude() - second.getLongitude();
+        return latitudeDifference * latitudeDifference + longitudeDifference * longitudeDifference;
+    }
+}
@@ -2,6 +2,8 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.EMAIL_BEN;
 import static seedu.address.logic.commands.CommandTestUtil.NAME_BEN;
@@ -17,14 +19,23 @@ import static seedu.address.model.timetable.util.TypicalLesson.CS2040S_FRI_10AM_
 import static seedu.address.model.timetable.util.TypicalLesson.CS2040S_MON_4PM_2HR;
 import static seedu.address.model.timetable.util.TypicalLesson.CS2040S_TUE_9AM_2HR;
 import static seedu.address.model.timetable.util.TypicalLesson.CS2040S_WED_2PM_1HR;
+import static seedu.address.model.timetable.util.TypicalLesson.MONDAY_8AM_2HR_LESSON;
+import static seedu.address.model.timetable.util.TypicalLesson.TUESDAY_8AM_2HR_LESSON;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALBERT;
 import static seedu.address.testutil.TypicalPersons.BEN;
 
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.time.Day;
+import seedu.address.model.timetable.AvailabilityMask;
+import seedu.address.model.timetable.ReadOnlyIntervalSchedule;
+import seedu.address.model.timetable.Timetable;
 import seedu.address.testutil.PersonBuilder;
 
 public class PersonTest {
@@ -126,4 +137,49 @@ public class PersonTest {
         assertTrue(person.getCommitments().contains(CS2040S_WED_2PM_1HR));
         assertTrue(person.getCommitments().contains(CS2040S_FRI_10AM_1HR));
     }
+
+    @Test
+    public void getClashingCommitmentsAsStr_onlySecondClashes_reportsSecond() {
+        Person person = new PersonBuilder()
+                .withModuleTags(CS2030S_HA, CS2040S_HA)
+                .build();
+
+        assertEquals(String.format("%s clashes with %s", TUESDAY_8AM_2HR_LESSON, CS2040S_TUE_9AM_2HR),
+                person.getClashingCommitmentsAsStr(List.of(MONDAY_8AM_2HR_LESSON, TUESDAY_8AM_2HR_LESSON)));
+    }
+
+    @Test
+    public void getAvailabilityMask_unchangedTimetable_reusesMask() {
+        Person person = new PersonBuilder().build();
+        AvailabilityMask mask = person.getAvailabilityMask();
+        assertSame(mask, person.getAvailabilityMask());
+        assertEquals(AvailabilityMask.of(person.getTimetable()), mask);
+    }
+
+    @Test
+    public void getAvailabilityMask_moduleTagsChanged_rebuildsMask() {
+        Person person = new PersonBuilder().build();
+        AvailabilityMask freeMask = person.getAvailabilityMask();
+
+        person.addModuleTags(CS2030S_HA);
+        AvailabilityMask busyMask = person.getAvailabilityMask();
+        assertNotEquals(freeMask, busyMask);
+        assertFalse(busyMask.isFree(Day.MONDAY, Timetable.getSlotIndex(12)));
+
+        person.removeModuleTags(Set.of(CS2030S_HA));
+        assertEquals(freeMask, person.getAvailabilityMask());
+    }
+
+    @Test
+    public void getIntervalSchedule_moduleTagsChanged_sameScheduleUpdated() {
+        Person person = new PersonBuilder().build();
+        ReadOnlyIntervalSchedule schedule = person.getIntervalSchedule();
+        assertSame(person.getTimetable().getIntervalSchedule(), schedule);
+
+        person.addModuleTags(CS2030S_HA);
+        assertSame(schedule, person.getIntervalSchedule());
+        assertEquals(person.getTimetable().getCommitments(Day.MONDAY),
+                new LinkedHashSet<>(schedule.getCommitments(Day.MONDAY)));
+        assertFalse(schedule.getCommitments(Day.MONDAY).isEmpty());
+    }
 }
@@ -16,6 +16,9 @@ import static seedu.address.model.timetable.util.TypicalTime.THREE_PM;
 import static seedu.address.model.timetable.util.TypicalTime.TWELVE_PM;
 import static seedu.address.model.timetable.util.TypicalTime.TWO_PM;
 
+import java.util.List;
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.person.ContactIndex;
@@ -188,6 +191,16 @@ public class RecommendationTest {
         assertTrue(recommendation.isSameRecommendation(RECOMMENDATION));
     }
 
+    @Test
+    public void isSameRecommendation_differentGroup_false() {
+        Recommendation groupRecommendation = RECOMMENDATION.setGroup(List.of(new ContactIndex(2), new ContactIndex(0)));
+        assertEquals(Set.of(new ContactIndex(0), new ContactIndex(2)), groupRecommendation.getGroup());
+        assertFalse(groupRecommendation.isSameRecommendation(RECOMMENDATION));
+        assertNotEquals(RECOMMENDATION, groupRecommendation);
+        assertEquals(groupRecommendation.getGroup(), groupRecommendation.saveRecommendation().getGroup());
+        assertTrue(RECOMMENDATION.getGroup().isEmpty());
+    }
+
     @Test
     public void isSameRecommendation_differentContactIndex_true() {
         Recommendation recommendation =
@@ -202,6 +215,14 @@ public class RecommendationTest {
         assertTrue(recommendation.isSameRecommendation(RECOMMENDATION));
     }
 
+    @Test
+    public void getIdentity_sameRecommendation_sameIdentity() {
+        Recommendation recommendation = new Recommendation(STEVENS, TIME_PERIOD, new ContactIndex(4), true);
+        assertEquals(RECOMMENDATION.getIdentity(), recommendation.getIdentity());
+        assertNotEquals(RECOMMENDATION.getIdentity(),
+                RECOMMENDATION.setGroup(List.of(new ContactIndex(2))).getIdentity());
+    }
+
     @Test
     public void isSameRecommendation_differentLocation_false() {
         Recommendation recommendation =
@@ -47,6 +47,38 @@ public class UniqueRecommendationListTest {
         assertThrows(NullPointerException.class, () -> uniqueRecommendationList.add(null));
     }
 
+    @Test
+    public void addAll_someExistInList_onlyNewAdded() {
+        Recommendation otherRecommendation = new Recommendation(STADIUM, TIME_PERIOD, CONTACT_INDEX, false);
+        uniqueRecommendationList.add(RECOMMENDATION);
+        uniqueRecommendationList.addAll(List.of(RECOMMENDATION, otherRecommendation, otherRecommendation));
+
+        UniqueRecommendationList expectedUniqueRecommendationList = new UniqueRecommendationList();
+        expectedUniqueRecommendationList.add(RECOMMENDATION);
+        expectedUniqueRecommendationList.add(otherRecommendation);
+        assertEquals(expectedUniqueRecommendationList, uniqueRecommendationList);
+    }
+
+    @Test
+    public void getNewRecommendations_someExistInList_onlyNewReturned() {
+        Recommendation otherRecommendation = new Recommendation(STADIUM, TIME_PERIOD, CONTACT_INDEX, false);
+        uniqueRecommendationList.add(RECOMMENDATION);
+
+        assertEquals(List.of(otherRecommendation), uniqueRecommendationList.getNewRecommendations(
+                List.of(RECOMMENDATION, otherRecommendation, otherRecommendation)));
+        assertFalse(uniqueRecommendationList.contains(otherRecommendation));
+    }
+
+    @Test
+    public void setRecommendation_differentRecommendation_onlyEditedContained() {
+        Recommendation otherRecommendation = new Recommendation(STADIUM, TIME_PERIOD, CONTACT_INDEX, false);
+        uniqueRecommendationList.add(RECOMMENDATION);
+        uniqueRecommendationList.setRecommendation(RECOMMENDATION, otherRecommendation);
+
+        assertFalse(uniqueRecommendationList.contains(RECOMMENDATION));
+        assertTrue(uniqueRecommendationList.contains(otherRecommendation));
+    }
+
     @Test
     public void add_existsInList_doesNothing() {
         UniqueRecommendationList recommendations = new UniqueRecommendationList();
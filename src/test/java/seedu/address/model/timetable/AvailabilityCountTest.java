@@ -0,0 +1,93 @@
+package seedu.address.model.timetable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.model.timetable.util.TypicalTime.EIGHT_AM;
+import static seedu.address.model.timetable.util.TypicalTime.ELEVEN_PM;
+import static seedu.address.model.timetable.util.TypicalTime.NINE_AM;
+import static seedu.address.model.timetable.util.TypicalTime.TEN_AM;
+import static seedu.address.model.timetable.util.TypicalTime.TWELVE_PM;
+import static seedu.address.model.timetable.util.TypicalTimetable.TIMETABLE_A;
+import static seedu.address.model.timetable.util.TypicalTimetable.TIMETABLE_B;
+
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.time.Day;
+import seedu.address.model.time.TimeBlock;
+import seedu.address.model.time.TimePeriod;
+
+public class AvailabilityCountTest {
+
+    private static final List<AvailabilityMask> MASKS =
+            List.of(AvailabilityMask.of(TIMETABLE_A), AvailabilityMask.of(TIMETABLE_B));
+
+    @Test
+    public void getCount_twoTimetables_countsFreeParticipants() {
+        AvailabilityCount count = new AvailabilityCount(MASKS);
+        assertEquals(2, count.getNumberOfParticipants());
+        assertEquals(1, count.getCount(Day.MONDAY, Timetable.getSlotIndex(8)));
+        assertEquals(0, count.getCount(Day.MONDAY, Timetable.getSlotIndex(10)));
+        assertEquals(2, count.getCount(Day.MONDAY, Timetable.getSlotIndex(12)));
+    }
+
+    @Test
+    public void getQuorumPeriods_everyone_sameAsCommonAvailability() {
+        AvailabilityCount count = new AvailabilityCount(MASKS);
+        List<TimePeriod> periods = count.getQuorumPeriods(2);
+
+        assertEquals(new HashSet<>(AvailabilityMask.intersect(MASKS).toTimePeriods()), new HashSet<>(periods));
+        assertEquals(AvailabilityMask.intersect(MASKS), count.getQuorumMask(2));
+        assertTrue(periods.stream().allMatch(period -> count.getAttendance(period) == 2));
+    }
+
+    @Test
+    public void getQuorumPeriods_partialAttendance_rankedByAttendanceThenLength() {
+        AvailabilityCount count = new AvailabilityCount(MASKS);
+        List<TimePeriod> periods = count.getQuorumPeriods(1);
+
+        TimePeriod partialPeriod = new TimeBlock(EIGHT_AM, TEN_AM, Day.MONDAY);
+        assertEquals(new TimeBlock(TWELVE_PM, ELEVEN_PM, Day.MONDAY), periods.get(0));
+        assertTrue(periods.contains(partialPeriod));
+        assertEquals(1, count.getAttendance(partialPeriod));
+
+        for (int i = 1; i < periods.size(); i++) {
+            assertTrue(count.getAttendance(periods.get(i - 1)) >= count.getAttendance(periods.get(i)));
+        }
+    }
+
+    @Test
+    public void getQuorumPeriods_differentParticipantsInAdjacentSlots_notMerged() {
+        int[] mondayEightAm = new int[Day.values().length];
+        int[] mondayNineAm = new int[Day.values().length];
+        mondayEightAm[Day.MONDAY.ordinal()] = 1 << Timetable.getSlotIndex(8);
+        mondayNineAm[Day.MONDAY.ordinal()] = 1 << Timetable.getSlotIndex(9);
+        AvailabilityCount count = new AvailabilityCount(List.of(
+                AvailabilityMask.fromDayMasks(mondayEightAm), AvailabilityMask.fromDayMasks(mondayNineAm)));
+
+        TimePeriod eightToNine = new TimeBlock(EIGHT_AM, NINE_AM, Day.MONDAY);
+        TimePeriod nineToTen = new TimeBlock(NINE_AM, TEN_AM, Day.MONDAY);
+        assertEquals(new HashSet<>(List.of(eightToNine, nineToTen)), new HashSet<>(count.getQuorumPeriods(1)));
+        assertEquals(1, count.getAttendance(eightToNine));
+        assertEquals(0, count.getAttendance(new TimeBlock(EIGHT_AM, TEN_AM, Day.MONDAY)));
+    }
+
+    @Test
+    public void getQuorumPeriods_groupFreeForLonger_wholeGroupPeriodOffered() {
+        int[] eightToTen = new int[Day.values().length];
+        int[] nineToTen = new int[Day.values().length];
+        eightToTen[Day.MONDAY.ordinal()] = 1 << Timetable.getSlotIndex(8) | 1 << Timetable.getSlotIndex(9);
+        nineToTen[Day.MONDAY.ordinal()] = 1 << Timetable.getSlotIndex(9);
+        AvailabilityMask groupMask = AvailabilityMask.fromDayMasks(eightToTen);
+        AvailabilityCount count = new AvailabilityCount(List.of(groupMask, groupMask, groupMask, groupMask,
+                AvailabilityMask.fromDayMasks(nineToTen)));
+
+        TimePeriod groupPeriod = new TimeBlock(EIGHT_AM, TEN_AM, Day.MONDAY);
+        TimePeriod everyonePeriod = new TimeBlock(NINE_AM, TEN_AM, Day.MONDAY);
+        assertEquals(List.of(everyonePeriod, groupPeriod), count.getQuorumPeriods(4));
+        assertEquals(List.of(everyonePeriod), count.getQuorumPeriods(5));
+        assertEquals(4, count.getAttendance(groupPeriod));
+    }
+}
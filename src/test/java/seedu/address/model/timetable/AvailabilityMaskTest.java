@@ -0,0 +1,86 @@
+package seedu.address.model.timetable;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.model.timetable.util.TypicalTime.EIGHT_AM;
+import static seedu.address.model.timetable.util.TypicalTime.ELEVEN_PM;
+import static seedu.address.model.timetable.util.TypicalTime.FIVE_PM;
+import static seedu.address.model.timetable.util.TypicalTime.FOUR_PM;
+import static seedu.address.model.timetable.util.TypicalTime.TEN_AM;
+import static seedu.address.model.timetable.util.TypicalTime.TWELVE_PM;
+import static seedu.address.model.timetable.util.TypicalTimetable.FULL_CONFLICT_TIMETABLE_A;
+import static seedu.address.model.timetable.util.TypicalTimetable.FULL_CONFLICT_TIMETABLE_B;
+import static seedu.address.model.timetable.util.TypicalTimetable.TIMETABLE_A;
+import static seedu.address.model.timetable.util.TypicalTimetable.TIMETABLE_B;
+import static seedu.address.model.timetable.util.TypicalTimetable.TIMETABLE_C;
+import static seedu.address.model.timetable.util.TypicalTimetable.TIMETABLE_D;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.time.Day;
+import seedu.address.model.time.HourBlock;
+import seedu.address.model.time.TimeBlock;
+import seedu.address.model.time.util.TimeUtil;
+
+public class AvailabilityMaskTest {
+
+    @Test
+    public void of_emptyTimetable_fullAvailability() {
+        AvailabilityMask mask = AvailabilityMask.of(new Timetable());
+        assertEquals(AvailabilityMask.full(), mask);
+        assertEquals(Day.values().length * Timetable.NUMBER_OF_SLOTS, mask.getNumberOfFreeSlots());
+        for (Day day : Day.values()) {
+            assertEquals(List.of(new TimeBlock(EIGHT_AM, ELEVEN_PM, day)), mask.toTimePeriods(day));
+        }
+    }
+
+    @Test
+    public void intersect_noMasks_empty() {
+        assertTrue(AvailabilityMask.intersect(List.of()).isEmpty());
+        assertTrue(AvailabilityMask.empty().toTimePeriods().isEmpty());
+    }
+
+    @Test
+    public void intersect_twoTimetables_sameAsMergedIntervals() {
+        List<Timetable> timetables = List.of(TIMETABLE_A, TIMETABLE_B);
+        AvailabilityMask mask = AvailabilityMask.intersect(List.of(
+                AvailabilityMask.of(TIMETABLE_A), AvailabilityMask.of(TIMETABLE_B)));
+
+        for (Day day : Day.values()) {
+            List<HourBlock> intervals = TimeUtil.getFreeCommonIntervals(day, timetables);
+            assertEquals(TimeUtil.mergeTimeSlots(intervals), mask.toTimePeriods(day));
+        }
+
+        assertEquals(List.of(new TimeBlock(TWELVE_PM, ELEVEN_PM, Day.MONDAY)), mask.toTimePeriods(Day.MONDAY));
+        assertArrayEquals(new TimeBlock[] {
+            new TimeBlock(EIGHT_AM, TEN_AM, Day.TUESDAY),
+            new TimeBlock(TWELVE_PM, FOUR_PM, Day.TUESDAY),
+            new TimeBlock(FIVE_PM, ELEVEN_PM, Day.TUESDAY)},
+                mask.toTimePeriods(Day.TUESDAY).toArray());
+    }
+
+    @Test
+    public void and_manyTimetables_matchesTimetableAvailability() {
+        AvailabilityMask mask = AvailabilityMask.of(TIMETABLE_C).and(AvailabilityMask.of(TIMETABLE_D));
+        for (Day day : Day.values()) {
+            assertEquals(TIMETABLE_C.getAvailability(day) & TIMETABLE_D.getAvailability(day), mask.getDayMask(day));
+        }
+    }
+
+    @Test
+    public void intersect_fullConflict_noCommonSlots() {
+        AvailabilityMask mask = AvailabilityMask.of(FULL_CONFLICT_TIMETABLE_A)
+                .and(AvailabilityMask.of(FULL_CONFLICT_TIMETABLE_B));
+        for (Day day : Day.values()) {
+            for (int slot = 0; slot < Timetable.NUMBER_OF_SLOTS; slot++) {
+                assertEquals(FULL_CONFLICT_TIMETABLE_A.isFree(day, slot) && FULL_CONFLICT_TIMETABLE_B.isFree(day, slot),
+                        mask.isFree(day, slot));
+            }
+        }
+        assertFalse(mask.toTimePeriods().stream().anyMatch(timePeriod -> timePeriod.getHoursBetween().getHours() < 1));
+    }
+}
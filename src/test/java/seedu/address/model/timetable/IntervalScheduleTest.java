@@ -0,0 +1,91 @@
+package seedu.address.model.timetable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.joda.time.LocalTime;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.recommender.timing.exceptions.CommitmentClashException;
+import seedu.address.model.commitment.Commitment;
+import seedu.address.model.location.Location;
+import seedu.address.model.time.Day;
+import seedu.address.model.time.TimeBlock;
+import seedu.address.model.time.TimePeriod;
+
+public class IntervalScheduleTest {
+
+    private static final Commitment MONDAY_0830_TO_1000 = createCommitment(8, 30, 10, 0, Day.MONDAY);
+    private static final Commitment MONDAY_1200_TO_1330 = createCommitment(12, 0, 13, 30, Day.MONDAY);
+    private static final Commitment MONDAY_1000_TO_1115 = createCommitment(10, 0, 11, 15, Day.MONDAY);
+
+    @Test
+    public void addCommitment_touchingCommitments_success() {
+        IntervalSchedule schedule = new IntervalSchedule(List.of(MONDAY_1200_TO_1330, MONDAY_0830_TO_1000));
+        schedule.addCommitment(MONDAY_1000_TO_1115);
+        assertEquals(List.of(MONDAY_0830_TO_1000, MONDAY_1000_TO_1115, MONDAY_1200_TO_1330),
+                schedule.getCommitments(Day.MONDAY));
+    }
+
+    @Test
+    public void addCommitment_overlappingCommitment_throwsCommitmentClashException() {
+        IntervalSchedule schedule = new IntervalSchedule(List.of(MONDAY_0830_TO_1000));
+        Commitment overlapping = createCommitment(9, 45, 10, 30, Day.MONDAY);
+        assertFalse(schedule.canFitCommitment(overlapping));
+        assertThrows(CommitmentClashException.class, () -> schedule.addCommitment(overlapping));
+        assertTrue(schedule.canFitCommitment(createCommitment(9, 45, 10, 30, Day.TUESDAY)));
+    }
+
+    @Test
+    public void getClashingCommitments_spanningPeriod_returnsOverlapsInOrder() {
+        IntervalSchedule schedule = new IntervalSchedule(
+                List.of(MONDAY_0830_TO_1000, MONDAY_1000_TO_1115, MONDAY_1200_TO_1330));
+        TimePeriod period = new TimeBlock(new LocalTime(9, 59), new LocalTime(12, 1), Day.MONDAY);
+        assertEquals(List.of(MONDAY_0830_TO_1000, MONDAY_1000_TO_1115, MONDAY_1200_TO_1330),
+                schedule.getClashingCommitments(period));
+        assertFalse(schedule.hasClash(new TimeBlock(new LocalTime(11, 15), new LocalTime(12, 0), Day.MONDAY)));
+    }
+
+    @Test
+    public void getCommitment_byMinute_success() {
+        IntervalSchedule schedule = new IntervalSchedule(List.of(MONDAY_0830_TO_1000, MONDAY_1200_TO_1330));
+        assertEquals(Optional.of(MONDAY_0830_TO_1000), schedule.getCommitment(Day.MONDAY, 8 * 60 + 30));
+        assertEquals(Optional.empty(), schedule.getCommitment(Day.MONDAY, 10 * 60));
+        assertEquals(Optional.of(MONDAY_0830_TO_1000), schedule.getCommitmentBefore(Day.MONDAY, 11 * 60));
+        assertEquals(Optional.of(MONDAY_1200_TO_1330), schedule.getCommitmentAfter(Day.MONDAY, 11 * 60));
+        assertEquals(Optional.empty(), schedule.getCommitmentAfter(Day.MONDAY, 12 * 60 + 1));
+    }
+
+    @Test
+    public void removeCommitment_existingCommitment_freesPeriod() {
+        IntervalSchedule schedule = new IntervalSchedule(List.of(MONDAY_0830_TO_1000, MONDAY_1200_TO_1330));
+        schedule.removeCommitment(MONDAY_0830_TO_1000);
+        assertEquals(List.of(MONDAY_1200_TO_1330), schedule.getCommitments(Day.MONDAY));
+        assertTrue(schedule.canFitCommitment(MONDAY_0830_TO_1000));
+    }
+
+    @Test
+    public void getCommonFreePeriods_twoSchedules_gapsDownToTheMinute() {
+        IntervalSchedule first = new IntervalSchedule(List.of(MONDAY_0830_TO_1000));
+        IntervalSchedule second = new IntervalSchedule(List.of(MONDAY_1000_TO_1115, MONDAY_1200_TO_1330));
+
+        List<TimePeriod> expected = List.of(
+                new TimeBlock(new LocalTime(8, 0), new LocalTime(8, 30), Day.MONDAY),
+                new TimeBlock(new LocalTime(11, 15), new LocalTime(12, 0), Day.MONDAY),
+                new TimeBlock(new LocalTime(13, 30), new LocalTime(23, 0), Day.MONDAY));
+        assertEquals(expected, IntervalSchedule.getCommonFreePeriods(Day.MONDAY, List.of(first, second)));
+        assertEquals(List.of(new TimeBlock(new LocalTime(8, 0), new LocalTime(23, 0), Day.TUESDAY)),
+                IntervalSchedule.getCommonFreePeriods(Day.TUESDAY, List.of(first, second)));
+    }
+
+    private static Commitment createCommitment(int startHour, int startMinute, int endHour, int endMinute,
+            Day day) {
+        return new Commitment(Location.NUS,
+                new TimeBlock(new LocalTime(startHour, startMinute), new LocalTime(endHour, endMinute), day));
+    }
+}
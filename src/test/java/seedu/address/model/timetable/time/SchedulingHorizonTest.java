@@ -0,0 +1,42 @@
+package seedu.address.model.timetable.time;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.joda.time.LocalTime;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.time.Day;
+import seedu.address.model.time.SchedulingHorizon;
+import seedu.address.model.time.TimeBlock;
+import seedu.address.model.time.TimePeriod;
+
+class SchedulingHorizonTest {
+
+    private static final TimePeriod SATURDAY_10AM_TO_12PM =
+            new TimeBlock(new LocalTime(10, 0), new LocalTime(12, 0), Day.SATURDAY);
+
+    @Test
+    public void constructor_noDays_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new SchedulingHorizon(List.of()));
+    }
+
+    @Test
+    public void contains_schoolWeek_onlyWeekdays() {
+        assertTrue(SchedulingHorizon.SCHOOL_WEEK.contains(Day.FRIDAY));
+        assertFalse(SchedulingHorizon.SCHOOL_WEEK.contains(Day.SATURDAY));
+        assertFalse(SchedulingHorizon.SCHOOL_WEEK.contains(SATURDAY_10AM_TO_12PM));
+        assertTrue(new SchedulingHorizon(List.of(Day.SATURDAY, Day.SUNDAY)).contains(SATURDAY_10AM_TO_12PM));
+    }
+
+    @Test
+    public void equals_sameDaysInAnyOrder_true() {
+        assertEquals(new SchedulingHorizon(List.of(Day.SUNDAY, Day.SATURDAY)),
+                new SchedulingHorizon(List.of(Day.SATURDAY, Day.SUNDAY)));
+        assertEquals(SchedulingHorizon.SCHOOL_WEEK, new SchedulingHorizon(Day.weekdays()));
+    }
+}
@@ -0,0 +1,42 @@
+package seedu.address.model.timetable.time;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.model.timetable.util.TypicalLesson.MONDAY_8AM_2HR_LESSON;
+
+import org.joda.time.IllegalFieldValueException;
+import org.joda.time.LocalTime;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.time.Day;
+import seedu.address.model.time.HourBlock;
+import seedu.address.model.time.TimeSlots;
+import seedu.address.model.timetable.Timetable;
+
+class TimeSlotsTest {
+
+    @Test
+    public void getHour_validHour_sameInstance() {
+        assertSame(TimeSlots.getHour(8), TimeSlots.getHour(8));
+        assertEquals(new LocalTime(8, 0), TimeSlots.getHour(8));
+        assertThrows(IllegalFieldValueException.class, () -> TimeSlots.getHour(TimeSlots.HOURS_PER_DAY));
+    }
+
+    @Test
+    public void getFreeHourBlock_sharedBlock_cannotHoldCommitment() {
+        HourBlock hourBlock = TimeSlots.getFreeHourBlock(Day.MONDAY, 8);
+        assertSame(hourBlock, TimeSlots.getFreeHourBlock(Day.MONDAY, 8));
+        assertEquals(new HourBlock(new LocalTime(8, 0), Day.MONDAY), hourBlock);
+        assertTrue(hourBlock.isFree());
+        assertThrows(UnsupportedOperationException.class, () -> hourBlock.setCommitment(MONDAY_8AM_2HR_LESSON));
+    }
+
+    @Test
+    public void getDaySchedule_freeSlots_sharedAcrossTimetables() {
+        HourBlock first = new Timetable().getDaySchedule(Day.TUESDAY).get(0);
+        HourBlock second = new Timetable().getDaySchedule(Day.TUESDAY).get(0);
+        assertSame(first, second);
+    }
+}
@@ -32,12 +32,19 @@ import static seedu.address.model.timetable.util.TypicalTimetable.TIMETABLE_D;
 import static seedu.address.model.timetable.util.TypicalTimetable.TIMETABLE_E;
 
 import java.util.ArrayList;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.IntStream;
 
+import org.joda.time.LocalTime;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.recommender.timing.exceptions.CommitmentClashException;
+import seedu.address.model.commitment.Commitment;
+import seedu.address.model.commitment.Lesson;
+import seedu.address.model.time.Day;
 import seedu.address.model.time.HourBlock;
+import seedu.address.model.time.TimeBlock;
 import seedu.address.model.timetable.Timetable;
 
 class TimetableTest {
@@ -266,4 +273,78 @@ class TimetableTest {
         assertThrows(AssertionError.class, () -> FULL_CONFLICT_TIMETABLE_A.mergeTimetable(FULL_CONFLICT_TIMETABLE_B));
     }
 
+    @Test
+    public void occupancy_twoLessons_correctBits() {
+        Timetable timetable = new Timetable();
+        timetable.addCommitment(MONDAY_8AM_2HR_LESSON);
+        timetable.addCommitment(MONDAY_10AM_2HR_LESSON);
+        assertEquals(0b1111, timetable.getOccupancy(Day.MONDAY));
+        assertEquals(0, timetable.getOccupancy(Day.TUESDAY));
+        assertEquals(Timetable.FULL_DAY_MASK & ~0b1111, timetable.getAvailability(Day.MONDAY));
+        assertEquals(Optional.of(MONDAY_8AM_2HR_LESSON), timetable.getCommitment(Day.MONDAY, 1));
+        assertEquals(Optional.of(MONDAY_10AM_2HR_LESSON), timetable.getCommitment(Day.MONDAY, 2));
+        assertEquals(Optional.empty(), timetable.getCommitment(Day.MONDAY, 4));
+    }
+
+    @Test
+    public void removeCommitment_middleLesson_otherLessonsKept() {
+        Timetable timetable = new Timetable();
+        timetable.addCommitment(WEDNESDAY_10AM_3HR_LESSON);
+        timetable.addCommitment(WEDNESDAY_2PM_2HR_LESSON);
+        timetable.addCommitment(WEDNESDAY_6PM_1HR_LESSON);
+        timetable.removeCommitment(WEDNESDAY_2PM_2HR_LESSON);
+        assertTrue(timetable.isFree(Day.WEDNESDAY, 6));
+        assertTrue(timetable.canFitCommitment(WEDNESDAY_2PM_2HR_LESSON));
+        assertEquals(Optional.of(WEDNESDAY_10AM_3HR_LESSON), timetable.getCommitment(Day.WEDNESDAY, 4));
+        assertEquals(Optional.of(WEDNESDAY_6PM_1HR_LESSON), timetable.getCommitment(Day.WEDNESDAY, 10));
+    }
+
+    @Test
+    public void getClashingCommitments_overlappingLesson_returnsClashes() {
+        Timetable timetable = new Timetable();
+        timetable.addCommitment(THURSDAY_4PM_2HR_LESSON);
+        Set<Commitment> clashes = timetable.getClashingCommitments(THURSDAY_5PM_4HR_LESSON);
+        assertEquals(Set.of(THURSDAY_4PM_2HR_LESSON), clashes);
+        assertTrue(timetable.getClashingCommitments(THURSDAY_11AM_2HR_LESSON).isEmpty());
+    }
+
+    @Test
+    public void addCommitment_lessonsSharingHour_bothKept() {
+        Lesson first = new Lesson(new TimeBlock(new LocalTime(8, 0), new LocalTime(9, 30), Day.MONDAY));
+        Lesson second = new Lesson(new TimeBlock(new LocalTime(9, 30), new LocalTime(11, 0), Day.MONDAY));
+        Timetable timetable = new Timetable();
+        timetable.addCommitment(first);
+        assertTrue(timetable.canFitCommitment(second));
+        timetable.addCommitment(second);
+
+        assertEquals(0b111, timetable.getOccupancy(Day.MONDAY));
+        assertEquals(Optional.of(first), timetable.getCommitment(Day.MONDAY, 1));
+        assertEquals(Optional.of(second), timetable.getCommitment(Day.MONDAY, 2));
+        assertEquals(Set.of(first, second), timetable.getCommitments());
+        assertThrows(CommitmentClashException.class, () -> timetable.addCommitment(
+                new Lesson(new TimeBlock(new LocalTime(9, 0), new LocalTime(10, 0), Day.MONDAY))));
+
+        timetable.removeCommitment(first);
+        assertEquals(0b110, timetable.getOccupancy(Day.MONDAY));
+        assertEquals(Optional.of(second), timetable.getCommitment(Day.MONDAY, 1));
+    }
+
+    @Test
+    public void getDaySchedule_lessonsStartingAndEndingAtHalfPast_partlyCoveredHoursOccupied() {
+        Lesson morning = new Lesson(new TimeBlock(new LocalTime(8, 30), new LocalTime(10, 0), Day.MONDAY));
+        Lesson noon = new Lesson(new TimeBlock(new LocalTime(11, 0), new LocalTime(12, 30), Day.MONDAY));
+        Timetable timetable = new Timetable();
+        timetable.addCommitment(morning);
+        timetable.addCommitment(noon);
+
+        ArrayList<HourBlock> monday = assertDoesNotThrow(() -> timetable.getDaySchedule(Day.MONDAY));
+        testSlotsFalse(0, 2, monday);
+        testSlotsTrue(2, 1, monday);
+        testSlotsFalse(3, 2, monday);
+        testSlotsTrue(5, monday.size() - 5, monday);
+        assertEquals(Optional.of(morning), monday.get(0).getCommitment());
+        assertEquals(Optional.of(noon), monday.get(4).getCommitment());
+        assertDoesNotThrow(timetable::toString);
+        assertDoesNotThrow(timetable::getSchedule);
+    }
 }
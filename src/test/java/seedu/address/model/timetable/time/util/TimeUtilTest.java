@@ -34,6 +34,7 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.util.Pair;
 import seedu.address.model.time.Day;
 import seedu.address.model.time.HourBlock;
 import seedu.address.model.time.TimeBlock;
@@ -411,6 +412,26 @@ class TimeUtilTest {
         assertFalse(TimeUtil.hasAnyClash(timePeriods));
     }
 
+    @Test
+    public void getClashingPairs_fiveTimePeriods_allClashingPairsFound() {
+        TimePeriod longMonday = new TimeBlock(ELEVEN_AM, THREE_PM, Day.MONDAY);
+        TimePeriod middayMonday = new TimeBlock(TWELVE_PM, ONE_PM, Day.MONDAY);
+        TimePeriod afternoonMonday = new TimeBlock(TWO_PM, FIVE_PM, Day.MONDAY);
+        TimePeriod touchingMonday = new TimeBlock(FIVE_PM, SIX_PM, Day.MONDAY);
+        TimePeriod tuesday = new TimeBlock(ELEVEN_AM, THREE_PM, Day.TUESDAY);
+        List<TimePeriod> timePeriods = List.of(afternoonMonday, tuesday, touchingMonday, middayMonday, longMonday);
+
+        assertEquals(List.of(new Pair<>(longMonday, middayMonday), new Pair<>(longMonday, afternoonMonday)),
+                TimeUtil.getClashingPairs(timePeriods, timePeriod -> timePeriod));
+    }
+
+    @Test
+    public void getClashingPairs_noClash_empty() {
+        List<TimePeriod> timePeriods = List.of(new TimeBlock(ONE_PM, TWO_PM, Day.MONDAY),
+            new HourBlock(TWO_PM, Day.MONDAY), new TimeBlock(ONE_PM, TWO_PM, Day.TUESDAY));
+        assertTrue(TimeUtil.getClashingPairs(timePeriods, timePeriod -> timePeriod).isEmpty());
+    }
+
     @Test
     public void testFormatting_success() {
         assertEquals("8 AM", TimeUtil.formatLocalTime(EIGHT_AM));
@@ -16,21 +16,26 @@ import static seedu.address.model.timetable.util.TypicalTimetable.TIMETABLE_E;
 import static seedu.address.testutil.TypicalPersons.getTypicalEduMate;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import org.joda.time.Hours;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.recommender.timing.TimingRecommender;
+import seedu.address.logic.recommender.timing.TimingScore;
 import seedu.address.model.EduMateHistory;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.ContactIndex;
 import seedu.address.model.time.Day;
+import seedu.address.model.time.SchedulingHorizon;
 import seedu.address.model.time.TimePeriod;
+import seedu.address.model.timetable.TimeModel;
 
 class TimingRecommenderTest {
 
@@ -179,4 +184,46 @@ class TimingRecommenderTest {
         assertEquals(timingRecommender.getModel(), model);
     }
 
+
+    @Test
+    public void getAllTimings_exactTimeModelWithHourlyLessons_sameAsHourly() {
+        List<ContactIndex> indices = List.of(new ContactIndex(2), new ContactIndex(5), new ContactIndex(13));
+        TimingRecommender hourlyRecommender = new TimingRecommender(model).initialise(indices);
+        TimingRecommender exactRecommender = new TimingRecommender(model, TimeModel.EXACT).initialise(indices);
+
+        assertEquals(3, exactRecommender.getIntervalSchedules().size());
+        assertEquals(hourlyRecommender.getAllTimings(), exactRecommender.getAllTimings());
+    }
+
+    @Test
+    public void getAllTimings_weekendHorizon_onlyWeekendTimings() {
+        List<ContactIndex> indices = List.of(new ContactIndex(2), new ContactIndex(5));
+        SchedulingHorizon weekend = new SchedulingHorizon(List.of(Day.SATURDAY, Day.SUNDAY));
+        TimingRecommender timingRecommender = new TimingRecommender(model, TimeModel.HOURLY, weekend)
+                .initialise(indices);
+
+        List<TimePeriod> timings = timingRecommender.getAllTimings();
+        assertEquals(2, timings.size());
+        assertTrue(timings.stream().allMatch(timePeriod -> timePeriod.getSchoolDay().isWeekend()));
+        assertTrue(new TimingRecommender(model).initialise(indices).getAllTimings().stream()
+                .noneMatch(timePeriod -> timePeriod.getSchoolDay().isWeekend()));
+    }
+
+    @Test
+    public void giveTopTimingRecommendations_longestThenEarliest_tiesBrokenByStart() {
+        List<ContactIndex> indices = List.of(new ContactIndex(2), new ContactIndex(5));
+        TimingRecommender timingRecommender = new TimingRecommender(model).initialise(indices);
+        List<TimePeriod> timings = timingRecommender.getAllTimings();
+
+        List<TimePeriod> expected = timings.stream()
+                .sorted(Comparator.comparing(TimePeriod::getMinutesBetween).reversed()
+                        .thenComparing(TimePeriod::getSchoolDay)
+                        .thenComparing(TimePeriod::getStartTime))
+                .limit(5)
+                .collect(Collectors.toList());
+        assertEquals(expected,
+                timingRecommender.giveTopTimingRecommendations(5, TimingScore.LONGEST_THEN_EARLIEST));
+        assertEquals(timingRecommender.giveLongestTimingRecommendations(1).get(0),
+                timingRecommender.giveLongestTimingRecommendation().get());
+    }
 }
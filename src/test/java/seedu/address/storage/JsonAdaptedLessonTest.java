@@ -10,6 +10,7 @@ import static seedu.address.model.timetable.util.TypicalTime.TEN_AM;
 import static seedu.address.model.timetable.util.TypicalTime.TEN_PM;
 import static seedu.address.model.timetable.util.TypicalTime.TWELVE_PM;
 
+import org.joda.time.LocalTime;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -130,4 +131,17 @@ public class JsonAdaptedLessonTest {
                 new JsonAdaptedLesson(10, 12, "FriDAY");
         assertEquals(jsonAdaptedLesson.toModelType(), expected);
     }
+
+    @Test
+    public void toModelType_minutesPastHour_returnsLesson() throws Exception {
+        Lesson expected = new Lesson(new TimeBlock(new LocalTime(8, 30), new LocalTime(10, 0), Day.FRIDAY));
+        assertEquals(expected, new JsonAdaptedLesson(expected).toModelType());
+        assertEquals(expected, new JsonAdaptedLesson(8, 30, 10, 0, "FRIDAY").toModelType());
+    }
+
+    @Test
+    public void toModelType_invalidMinutes_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, new JsonAdaptedLesson(8, 60, 10, 0, "FRIDAY")::toModelType);
+        assertThrows(IllegalValueException.class, new JsonAdaptedLesson(8, 0, 23, 30, "FRIDAY")::toModelType);
+    }
 }
@@ -6,6 +6,9 @@ import static seedu.address.model.location.util.TypicalLocation.GREAT_WORLD;
 import static seedu.address.model.timetable.util.TypicalTime.ELEVEN_AM;
 import static seedu.address.model.timetable.util.TypicalTime.ONE_PM;
 
+import java.util.Arrays;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -101,4 +104,19 @@ public class JsonAdaptedRecommendationTest {
 
         assertThrows(IllegalValueException.class, jsonAdaptedRecommendation::toModelType);
     }
+
+    @Test
+    public void toModelType_withGroup_returnsRecommendation() throws Exception {
+        Recommendation expected = new Recommendation(GREAT_WORLD, TIME_PERIOD, CONTACT_INDEX, IS_SAVED,
+                List.of(new ContactIndex(0), new ContactIndex(3)));
+        assertEquals(expected, new JsonAdaptedRecommendation(expected).toModelType());
+    }
+
+    @Test
+    public void toModelType_invalidGroup_throwsIllegalValueException() {
+        JsonAdaptedRecommendation jsonAdaptedRecommendation = new JsonAdaptedRecommendation(
+                new JsonAdaptedLocation(GREAT_WORLD), new JsonAdaptedTimePeriod(TIME_PERIOD), IS_SAVED,
+                CONTACT_INDEX.getContactIndex(), Arrays.asList(1, null));
+        assertThrows(IllegalValueException.class, jsonAdaptedRecommendation::toModelType);
+    }
 }